@@ -1,9 +1,5 @@
 package me.kvdpxne.boujee;
 
-import java.util.Locale;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicInteger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
@@ -26,7 +22,7 @@ import org.jetbrains.annotations.Unmodifiable;
  * <ul>
  *   <li>Trimmed of leading and trailing whitespace</li>
  *   <li>Converted to uppercase using {@code Locale.ENGLISH}</li>
- *   <li>Stored in a global registry for reuse</li>
+ *   <li>Stored in the {@linkplain KeyRegistry#global() global registry} for reuse</li>
  * </ul>
  *
  * <p><strong>Usage Example:</strong>
@@ -51,14 +47,19 @@ import org.jetbrains.annotations.Unmodifiable;
  * <p><strong>Implementation Notes:</strong>
  * <ul>
  *   <li>Instances are immutable and thread-safe</li>
- *   <li>Equality is based on ordinal number, not string content</li>
+ *   <li>Equality is based on ordinal number and registry, not string content</li>
  *   <li>The global key registry uses weak references to prevent memory leaks</li>
+ *   <li>Keys of a {@link KeyRegistry} created by the application have ordinals of their own,
+ *   independent of the global registry</li>
  *   <li>Ordinal numbers are assigned sequentially but have no semantic meaning</li>
+ *   <li>Keys of a generated {@link TranslationKeySchema} are registered first and keep the
+ *   ordinal numbers of their schema</li>
  * </ul>
  *
  * <p><strong>Performance Considerations:</strong>
  * <ul>
- *   <li>Key lookup is O(1) due to concurrent hash map implementation</li>
+ *   <li>Key lookup is O(1) due to the open-addressing table of the registry, and does not
+ *   allocate for ASCII names, whose case is folded in place</li>
  *   <li>Using ordinal numbers for comparison is significantly faster than string comparison</li>
  *   <li>The flyweight pattern reduces memory usage when many identical keys are needed</li>
  * </ul>
@@ -71,33 +72,6 @@ import org.jetbrains.annotations.Unmodifiable;
 public class DefaultTranslationKey
   implements TranslationKey {
 
-  /**
-   * Global registry of translation keys, mapping normalized key strings to their instances.
-   *
-   * <p>This concurrent map ensures thread-safe access to the key registry with efficient lookups.
-   * The initial capacity of 64 is chosen to balance memory usage with expected key counts in
-   * typical applications.
-   *
-   * <p><strong>Implementation Note:</strong> This map does not use weak references intentionally,
-   * as translation keys are expected to be long-lived and frequently accessed. The memory impact
-   * is minimal due to the flyweight pattern.
-   *
-   * @since 0.1.0
-   */
-  private static final ConcurrentMap<String, TranslationKey> KEYS =
-    new ConcurrentHashMap<>(64);
-
-  /**
-   * Counter for generating unique ordinal numbers for translation keys.
-   *
-   * <p>This atomic integer ensures thread-safe generation of unique ordinals across multiple
-   * threads. The counter starts at 0 and increments with each new key creation.
-   *
-   * @since 0.1.0
-   */
-  private static final AtomicInteger COUNTER =
-    new AtomicInteger(0);
-
   /**
    * Serialization version identifier for compatibility across framework versions.
    *
@@ -116,6 +90,17 @@ public class DefaultTranslationKey
    */
   private final int ordinal;
 
+  /**
+   * The registry this key was created through, or null for the global registry when the key
+   * was constructed directly.
+   *
+   * <p>Registries are not serialized, so a deserialized key always belongs to the global
+   * registry.
+   *
+   * @since 0.3.0
+   */
+  private final transient KeyRegistry registry;
+
   /**
    * Constructs a new {@code DefaultTranslationKey} with the specified ordinal number.
    *
@@ -126,6 +111,19 @@ public class DefaultTranslationKey
    * @since 0.1.0
    */
   public DefaultTranslationKey(final int ordinal) {
+    this(null, ordinal);
+  }
+
+  /**
+   * Constructs a new key of the given registry with the given ordinal number.
+   *
+   * @since 0.3.0
+   */
+  DefaultTranslationKey(
+    final KeyRegistry registry,
+    final int ordinal
+  ) {
+    this.registry = registry;
     this.ordinal = ordinal;
   }
 
@@ -138,7 +136,7 @@ public class DefaultTranslationKey
    * @since 0.1.0
    */
   public DefaultTranslationKey() {
-    this(COUNTER.getAndIncrement());
+    this(KeyRegistry.global().allocate());
   }
 
   /**
@@ -181,28 +179,7 @@ public class DefaultTranslationKey
     final @NotNull String content,
     final boolean denyCreations
   ) {
-    // noinspection ConstantValue
-    if (null == content) {
-      throw new NullPointerException("The passed content must not be null.");
-    }
-
-    if (content.isEmpty()) {
-      throw new IllegalArgumentException("The passed content must not be empty.");
-    }
-
-    final String normalizedKey = content.trim().toUpperCase(Locale.ENGLISH);
-    if (denyCreations) {
-      final TranslationKey key = KEYS.get(normalizedKey);
-      if (null == key) {
-        throw new IllegalStateException("The \"" + normalizedKey + "\" translation key does not exist.");
-      }
-      return key;
-    }
-
-    return KEYS.computeIfAbsent(
-      normalizedKey,
-      (String key) -> new DefaultTranslationKey()
-    );
+    return KeyRegistry.global().of(content, denyCreations);
   }
 
   /**
@@ -229,6 +206,65 @@ public class DefaultTranslationKey
     return of(content, false);
   }
 
+  /**
+   * Retrieves or creates a {@code TranslationKey} named by a range of characters.
+   *
+   * <p>The range is normalized like the content passed to {@link #of(String, boolean)}, but an
+   * existing key with an ASCII name is found without allocating, neither a string for the range
+   * nor a trimmed or upper-cased copy of it. This suits names read from configuration on a hot
+   * path, or sliced out of a larger buffer.
+   *
+   * <p><strong>Example:</strong>
+   * <pre>{@code
+   * CharSequence line = "menu.title=Main menu";
+   * TranslationKey key = DefaultTranslationKey.of(line, 0, line.toString().indexOf('='), true);
+   * }</pre>
+   *
+   * @param content       the characters holding the key name (must not be null)
+   * @param start         the index of the first character of the name
+   * @param end           the index after the last character of the name
+   * @param denyCreations if {@code true}, prevents creation of new keys if they don't exist
+   * @return the existing or newly created {@code TranslationKey} instance
+   * @throws NullPointerException      if {@code content} is {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code content}
+   * @throws IllegalArgumentException  if the range is empty
+   * @throws IllegalStateException     if key doesn't exist and {@code denyCreations} is {@code true}
+   * @see KeyRegistry#of(CharSequence, int, int, boolean)
+   * @since 0.3.0
+   */
+  public static TranslationKey of(
+    final @NotNull CharSequence content,
+    final int start,
+    final int end,
+    final boolean denyCreations
+  ) {
+    return KeyRegistry.global().of(content, start, end, denyCreations);
+  }
+
+  /**
+   * Retrieves or creates a {@code TranslationKey} named by a range of characters.
+   *
+   * <p>This convenience method is equivalent to calling
+   * {@link #of(CharSequence, int, int, boolean)} with {@code denyCreations} set to
+   * {@code false}.
+   *
+   * @param content the characters holding the key name (must not be null)
+   * @param start   the index of the first character of the name
+   * @param end     the index after the last character of the name
+   * @return the existing or newly created {@code TranslationKey} instance
+   * @throws NullPointerException      if {@code content} is {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code content}
+   * @throws IllegalArgumentException  if the range is empty
+   * @since 0.3.0
+   */
+  public static TranslationKey of(
+    final @NotNull CharSequence content,
+    final int start,
+    final int end
+  ) {
+    return of(content, start, end, false);
+  }
+
   /**
    * Checks if the specified translation key exists in the global registry.
    *
@@ -255,7 +291,7 @@ public class DefaultTranslationKey
   public static boolean exists(
     final @NotNull TranslationKey key
   ) {
-    return KEYS.containsValue(key);
+    return KeyRegistry.global().contains(key);
   }
 
   /**
@@ -275,6 +311,17 @@ public class DefaultTranslationKey
     return this.ordinal;
   }
 
+  /**
+   * Returns the registry this translation key was created through.
+   *
+   * @return the registry of the key (never null)
+   * @since 0.3.0
+   */
+  @NotNull
+  public KeyRegistry getKeyRegistry() {
+    return null == this.registry ? KeyRegistry.global() : this.registry;
+  }
+
   /**
    * Returns this translation key as a {@link TranslationKey} instance.
    *
@@ -309,7 +356,7 @@ public class DefaultTranslationKey
     }
 
     final DefaultTranslationKey that = (DefaultTranslationKey) o;
-    return this.ordinal == that.ordinal;
+    return this.ordinal == that.ordinal && this.getKeyRegistry() == that.getKeyRegistry();
   }
 
   @Override
@@ -0,0 +1,593 @@
+package me.kvdpxne.boujee;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A namespace of translation keys that owns its own dense space of ordinal numbers.
+ *
+ * <p>Every registry hands out ordinals from 0 upwards to the keys created through it, so arrays
+ * indexed by the ordinals of its keys never grow beyond {@link #size()}, whatever keys other
+ * registries in the same JVM hold. This matters on servers running several plugins, each with
+ * its own translations: with a registry per plugin, the ordinal space of a plugin is not
+ * spread over the keys of all the others.
+ *
+ * <p>The {@link #global() global} registry is the one behind {@link DefaultTranslationKey#of(String)}
+ * and the default of every service, storage and loader, so code that never creates a registry
+ * behaves as it always did.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * KeyRegistry registry = new KeyRegistry();
+ * DefaultTranslationService service = new DefaultTranslationService(CacheSizeMode.DEFAULT);
+ * service.setKeyRegistry(registry);
+ * GsonTranslationFiller.INSTANCE.fill("assets/languages", service);
+ *
+ * TranslationKey key = registry.of("WELCOME_MESSAGE");
+ * }</pre>
+ *
+ * <p><strong>Implementation Notes:</strong>
+ * <ul>
+ *   <li>Names are normalized as by {@link DefaultTranslationKey#of(String)}</li>
+ *   <li>Keys of different registries are never equal, even with the same name or ordinal</li>
+ *   <li>Keys of a {@link TranslationKeySchema} passed to the constructor are registered first
+ *   and keep the ordinal numbers of their schema</li>
+ *   <li>Lookups of existing keys do not lock; creations are serialized per registry</li>
+ *   <li>Lookups of existing keys with ASCII names do not allocate: names are trimmed, hashed
+ *   and compared case-insensitively in place, so {@link #of(CharSequence, int, int)} resolves a
+ *   key straight from a buffer</li>
+ * </ul>
+ *
+ * @see DefaultTranslationKey
+ * @since 0.3.0
+ */
+public final class KeyRegistry {
+
+  /**
+   * The registry of every key created through the static methods of
+   * {@link DefaultTranslationKey}, holding the schemas found by its class loader.
+   *
+   * @since 0.3.0
+   */
+  private static final KeyRegistry GLOBAL = new KeyRegistry(
+    ServiceLoader.load(TranslationKeySchema.class, KeyRegistry.class.getClassLoader())
+  );
+
+  /**
+   * The offset basis of the FNV-1a hash of key names.
+   *
+   * @since 0.3.0
+   */
+  private static final int HASH_BASIS = 0x811C9DC5;
+
+  /**
+   * The keys of this registry in an open-addressing table with linear probing, placed by the
+   * case-folded hash of their names and at most half full.
+   *
+   * <p>Slots are only ever filled, under the lock of this registry, and a full table is
+   * replaced by a larger one, so lookups read it without locking. A lookup that misses a key
+   * being created by another thread retries under the lock.
+   *
+   * @since 0.3.0
+   */
+  private volatile Entry[] table = new Entry[128];
+
+  /**
+   * The number of keys in the table. Guarded by this registry.
+   *
+   * @since 0.3.0
+   */
+  private int numberOfEntries;
+
+  /**
+   * The normalized name of every key, indexed by its ordinal number, null for an ordinal
+   * allocated without a name. Replaced, never resized in place, when it runs out of room.
+   * Names are set after the array is published, so its elements are read and written with
+   * volatile semantics for lookups outside of the lock to see them.
+   *
+   * @since 0.3.0
+   */
+  private volatile AtomicReferenceArray<String> names = new AtomicReferenceArray<>(64);
+
+  /**
+   * The number of ordinals handed out. Guarded by this registry.
+   *
+   * @since 0.3.0
+   */
+  private int size;
+
+  /**
+   * Creates a registry holding the keys of the given schemas, each schema after the ones
+   * before it.
+   *
+   * @param schemas the schemas whose keys to register first
+   * @throws NullPointerException if schemas or any schema is null
+   * @since 0.3.0
+   */
+  public KeyRegistry(final @NotNull TranslationKeySchema... schemas) {
+    // noinspection ConstantValue
+    if (null == schemas) {
+      throw new NullPointerException("The passed schemas must not be null.");
+    }
+    this.register(Arrays.asList(schemas));
+  }
+
+  private KeyRegistry(final Iterable<TranslationKeySchema> schemas) {
+    this.register(schemas);
+  }
+
+  /**
+   * Registers the keys of the given schemas before any other key is created, so their ordinals
+   * do not depend on lookup or load order.
+   *
+   * @since 0.3.0
+   */
+  private void register(final Iterable<TranslationKeySchema> schemas) {
+    for (final TranslationKeySchema schema : schemas) {
+      if (null == schema) {
+        throw new NullPointerException("The passed schemas must not contain null.");
+      }
+      for (final String name : schema.getKeyNames()) {
+        this.of(name);
+      }
+    }
+  }
+
+  /**
+   * Returns the registry behind the static methods of {@link DefaultTranslationKey}, shared by
+   * every class of its class loader.
+   *
+   * @return the global registry
+   * @since 0.3.0
+   */
+  @NotNull
+  public static KeyRegistry global() {
+    return GLOBAL;
+  }
+
+  /**
+   * Retrieves or creates the key of this registry with the given name.
+   *
+   * @param content       the name of the key (must not be null or empty)
+   * @param denyCreations if {@code true}, prevents creation of the key if it does not exist
+   * @return the existing or newly created key
+   * @throws NullPointerException     if {@code content} is {@code null}
+   * @throws IllegalArgumentException if {@code content} is empty
+   * @throws IllegalStateException    if the key does not exist and {@code denyCreations} is
+   *                                  {@code true}
+   * @see DefaultTranslationKey#of(String, boolean)
+   * @since 0.3.0
+   */
+  @NotNull
+  public TranslationKey of(
+    final @NotNull String content,
+    final boolean denyCreations
+  ) {
+    // noinspection ConstantValue
+    if (null == content) {
+      throw new NullPointerException("The passed content must not be null.");
+    }
+    if (content.isEmpty()) {
+      throw new IllegalArgumentException("The passed content must not be empty.");
+    }
+
+    // The lookup of of(CharSequence, int, int, boolean), repeated over a
+    // String, so its charAt calls stay monomorphic and inlined whatever
+    // other types of content are looked up
+    int from = 0;
+    int to = content.length();
+    while (from < to && ' ' >= content.charAt(from)) {
+      ++from;
+    }
+    while (from < to && ' ' >= content.charAt(to - 1)) {
+      --to;
+    }
+
+    int hash = HASH_BASIS;
+    for (int i = from; i < to; ++i) {
+      final char c = content.charAt(i);
+      if (0x80 <= c) {
+        return this.resolve(content.substring(from, to), denyCreations);
+      }
+      hash = hash(hash, fold(c));
+    }
+    hash = finish(hash);
+
+    final TranslationKey key = find(this.table, content, from, to, hash);
+    return null == key
+      ? this.resolve(content.substring(from, to), denyCreations)
+      : key;
+  }
+
+  /**
+   * Retrieves or creates the key of this registry with the given name.
+   *
+   * @param content the name of the key (must not be null or empty)
+   * @return the existing or newly created key
+   * @throws NullPointerException     if {@code content} is {@code null}
+   * @throws IllegalArgumentException if {@code content} is empty
+   * @since 0.3.0
+   */
+  @NotNull
+  public TranslationKey of(final @NotNull String content) {
+    return this.of(content, false);
+  }
+
+  /**
+   * Retrieves or creates the key of this registry named by the given range of characters.
+   *
+   * <p>The range is normalized like a whole name, but an existing key with an ASCII name is
+   * found without materializing the range as a string, so a key can be resolved from a
+   * reused buffer or a slice of a larger text.
+   *
+   * @param content       the characters holding the name of the key
+   * @param start         the index of the first character of the name
+   * @param end           the index after the last character of the name
+   * @param denyCreations if {@code true}, prevents creation of the key if it does not exist
+   * @return the existing or newly created key
+   * @throws NullPointerException      if {@code content} is {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code content}
+   * @throws IllegalArgumentException  if the range is empty
+   * @throws IllegalStateException     if the key does not exist and {@code denyCreations} is
+   *                                   {@code true}
+   * @since 0.3.0
+   */
+  @NotNull
+  public TranslationKey of(
+    final @NotNull CharSequence content,
+    final int start,
+    final int end,
+    final boolean denyCreations
+  ) {
+    // noinspection ConstantValue
+    if (null == content) {
+      throw new NullPointerException("The passed content must not be null.");
+    }
+    if (0 > start || start > end || end > content.length()) {
+      throw new IndexOutOfBoundsException(
+        "The passed range [" + start + ", " + end + ") is out of bounds of " + content.length() + "."
+      );
+    }
+    if (start == end) {
+      throw new IllegalArgumentException("The passed content must not be empty.");
+    }
+
+    // Trims the same characters as String#trim
+    int from = start;
+    int to = end;
+    while (from < to && ' ' >= content.charAt(from)) {
+      ++from;
+    }
+    while (from < to && ' ' >= content.charAt(to - 1)) {
+      --to;
+    }
+
+    int hash = HASH_BASIS;
+    for (int i = from; i < to; ++i) {
+      final char c = content.charAt(i);
+      if (0x80 <= c) {
+        // Beyond ASCII, upper-casing is not character by character, as with
+        // the German sharp s, so the name is normalized as a string
+        return this.resolve(content.subSequence(from, to).toString(), denyCreations);
+      }
+      hash = hash(hash, fold(c));
+    }
+    hash = finish(hash);
+
+    final TranslationKey key = find(this.table, content, from, to, hash);
+    return null == key
+      ? this.resolve(content.subSequence(from, to).toString(), denyCreations)
+      : key;
+  }
+
+  /**
+   * Retrieves or creates the key of this registry named by the given range of characters.
+   *
+   * @param content the characters holding the name of the key
+   * @param start   the index of the first character of the name
+   * @param end     the index after the last character of the name
+   * @return the existing or newly created key
+   * @throws NullPointerException      if {@code content} is {@code null}
+   * @throws IndexOutOfBoundsException if the range is out of the bounds of {@code content}
+   * @throws IllegalArgumentException  if the range is empty
+   * @see #of(CharSequence, int, int, boolean)
+   * @since 0.3.0
+   */
+  @NotNull
+  public TranslationKey of(
+    final @NotNull CharSequence content,
+    final int start,
+    final int end
+  ) {
+    return this.of(content, start, end, false);
+  }
+
+  /**
+   * Looks the given trimmed name up by its normalized form, and creates its key unless
+   * creations are denied.
+   *
+   * @since 0.3.0
+   */
+  private TranslationKey resolve(
+    final String trimmedKey,
+    final boolean denyCreations
+  ) {
+    final String normalizedKey = trimmedKey.toUpperCase(Locale.ENGLISH);
+    final int hash = hash(normalizedKey);
+    final TranslationKey key = find(this.table, normalizedKey, 0, normalizedKey.length(), hash);
+    if (null != key) {
+      return key;
+    }
+    return this.create(normalizedKey, hash, denyCreations);
+  }
+
+  /**
+   * Creates the key with the given normalized name unless another thread just did.
+   *
+   * @since 0.3.0
+   */
+  private synchronized TranslationKey create(
+    final String normalizedKey,
+    final int hash,
+    final boolean denyCreations
+  ) {
+    Entry[] table = this.table;
+    final TranslationKey existing = find(table, normalizedKey, 0, normalizedKey.length(), hash);
+    if (null != existing) {
+      return existing;
+    }
+    if (denyCreations) {
+      throw new IllegalStateException("The \"" + normalizedKey + "\" translation key does not exist.");
+    }
+
+    final int ordinal = this.allocate();
+    this.names.set(ordinal, normalizedKey);
+    final Entry entry = new Entry(normalizedKey, hash, new DefaultTranslationKey(this, ordinal));
+    if (2 * (this.numberOfEntries + 1) > table.length) {
+      final Entry[] grown = new Entry[2 * table.length];
+      for (final Entry old : table) {
+        if (null != old) {
+          insert(grown, old);
+        }
+      }
+      insert(grown, entry);
+      this.table = grown;
+    } else {
+      insert(table, entry);
+    }
+    ++this.numberOfEntries;
+    return entry.key;
+  }
+
+  /**
+   * Finds the key named by the given range in the given table.
+   *
+   * @param hash the case-folded hash of the range
+   * @return the key, or null if the table lacks it
+   * @since 0.3.0
+   */
+  private static TranslationKey find(
+    final Entry[] table,
+    final CharSequence content,
+    final int from,
+    final int to,
+    final int hash
+  ) {
+    final int mask = table.length - 1;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      final Entry entry = table[i];
+      if (null == entry) {
+        return null;
+      }
+      if (hash == entry.hash && entry.matches(content, from, to)) {
+        return entry.key;
+      }
+    }
+  }
+
+  /**
+   * Finds the key named by the given range in the given table.
+   *
+   * @see #find(Entry[], CharSequence, int, int, int)
+   * @since 0.3.0
+   */
+  private static TranslationKey find(
+    final Entry[] table,
+    final String content,
+    final int from,
+    final int to,
+    final int hash
+  ) {
+    final int mask = table.length - 1;
+    for (int i = hash & mask; ; i = (i + 1) & mask) {
+      final Entry entry = table[i];
+      if (null == entry) {
+        return null;
+      }
+      if (hash == entry.hash && entry.matches(content, from, to)) {
+        return entry.key;
+      }
+    }
+  }
+
+  private static void insert(
+    final Entry[] table,
+    final Entry entry
+  ) {
+    final int mask = table.length - 1;
+    int i = entry.hash & mask;
+    while (null != table[i]) {
+      i = (i + 1) & mask;
+    }
+    table[i] = entry;
+  }
+
+  /**
+   * Upper-cases an ASCII letter, leaving every other character as it is.
+   *
+   * @since 0.3.0
+   */
+  private static char fold(final char c) {
+    return 'a' <= c && 'z' >= c ? (char) (c - ('a' - 'A')) : c;
+  }
+
+  private static int hash(
+    final int hash,
+    final char c
+  ) {
+    return (hash ^ c) * 0x01000193;
+  }
+
+  private static int finish(int hash) {
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    return hash ^ (hash >>> 13);
+  }
+
+  /**
+   * Hashes the given normalized name as {@link #of(CharSequence, int, int, boolean)} hashes
+   * the names it looks up.
+   *
+   * @since 0.3.0
+   */
+  private static int hash(final String normalizedKey) {
+    int hash = HASH_BASIS;
+    for (int i = 0; i < normalizedKey.length(); ++i) {
+      hash = hash(hash, fold(normalizedKey.charAt(i)));
+    }
+    return finish(hash);
+  }
+
+  /**
+   * Hands out the next ordinal number of this registry, without a name.
+   *
+   * @return the ordinal number
+   * @since 0.3.0
+   */
+  synchronized int allocate() {
+    final int ordinal = this.size++;
+    final AtomicReferenceArray<String> names = this.names;
+    if (ordinal == names.length()) {
+      final AtomicReferenceArray<String> grown = new AtomicReferenceArray<>(2 * ordinal);
+      for (int i = 0; i < ordinal; ++i) {
+        grown.set(i, names.get(i));
+      }
+      this.names = grown;
+    }
+    return ordinal;
+  }
+
+  /**
+   * Checks whether the given key was created through this registry.
+   *
+   * <p>This is a constant-time check of the registry and ordinal of the key. Keys created with
+   * the constructors of {@link DefaultTranslationKey}, rather than looked up by name, are not
+   * contained in any registry.
+   *
+   * @param key the key to check
+   * @return {@code true} if the key belongs to this registry; {@code false} otherwise
+   * @throws NullPointerException if {@code key} is {@code null}
+   * @since 0.3.0
+   */
+  public boolean contains(final @NotNull TranslationKey key) {
+    // noinspection ConstantValue
+    if (null == key) {
+      throw new NullPointerException("The passed key must not be null.");
+    }
+    if (!(key instanceof DefaultTranslationKey)
+      || this != ((DefaultTranslationKey) key).getKeyRegistry()) {
+      return false;
+    }
+    final int ordinal = key.getOrdinalNumber();
+    final AtomicReferenceArray<String> names = this.names;
+    return 0 <= ordinal && ordinal < names.length() && null != names.get(ordinal);
+  }
+
+  /**
+   * Returns the normalized name of the key of this registry with the given ordinal number.
+   *
+   * @param ordinal the ordinal number
+   * @return the name, or null if no key of this registry has the ordinal
+   * @since 0.3.0
+   */
+  @Nullable
+  public String getName(final int ordinal) {
+    final AtomicReferenceArray<String> names = this.names;
+    return 0 <= ordinal && ordinal < names.length() ? names.get(ordinal) : null;
+  }
+
+  /**
+   * Returns the number of ordinal numbers handed out by this registry, so every key of the
+   * registry has an ordinal below it. This is the length of an array indexed by ordinal.
+   *
+   * @return the number of ordinal numbers
+   * @since 0.3.0
+   */
+  public synchronized int size() {
+    return this.size;
+  }
+
+  /**
+   * A key of the table, with its normalized name and the hash of that name.
+   *
+   * @since 0.3.0
+   */
+  private static final class Entry {
+
+    private final String name;
+    private final int hash;
+    private final TranslationKey key;
+
+    Entry(
+      final String name,
+      final int hash,
+      final TranslationKey key
+    ) {
+      this.name = name;
+      this.hash = hash;
+      this.key = key;
+    }
+
+    /**
+     * Checks whether the given range, with its ASCII letters upper-cased, is the name of this
+     * key.
+     */
+    boolean matches(
+      final CharSequence content,
+      final int from,
+      final int to
+    ) {
+      final String name = this.name;
+      if (to - from != name.length()) {
+        return false;
+      }
+      for (int i = from; i < to; ++i) {
+        if (fold(content.charAt(i)) != name.charAt(i - from)) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean matches(
+      final String content,
+      final int from,
+      final int to
+    ) {
+      final String name = this.name;
+      if (to - from != name.length()) {
+        return false;
+      }
+      for (int i = from; i < to; ++i) {
+        if (fold(content.charAt(i)) != name.charAt(i - from)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
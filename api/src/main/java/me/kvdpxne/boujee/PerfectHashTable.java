@@ -0,0 +1,331 @@
+package me.kvdpxne.boujee;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A minimal perfect hash table from a fixed set of key names to their indexes.
+ *
+ * <p>The table is built once, usually at build time by a key generator, with the
+ * hash-and-displace scheme: every name falls into a bucket by a first hash, and every bucket
+ * stores the seed of a second hash that sends each of its names to a distinct slot. A lookup
+ * hashes the name twice and compares it with the single candidate, so it never probes, never
+ * allocates and costs the same for every name.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * PerfectHashTable table = PerfectHashTable.build(new String[]{"EXAMPLE_TEXT", "HELLO_WORLD"});
+ * int index = table.indexOf("HELLO_WORLD"); // 1
+ * int missing = table.indexOf("NOPE");      // -1
+ * }</pre>
+ *
+ * <p>Generated code restores a table with {@link #PerfectHashTable(String[], int[], int[])}
+ * from the arrays of {@link #getSeeds()} and {@link #getSlots()}, packed into string constants
+ * with {@link #pack(int[])} and read back with {@link #unpack(String...)}.
+ *
+ * @since 0.3.0
+ */
+public final class PerfectHashTable {
+
+  /**
+   * The number of characters of every string constant written by {@link #pack(int[])}, kept
+   * well below the limit of a class file constant.
+   *
+   * @since 0.3.0
+   */
+  private static final int CHUNK_LENGTH = 8192;
+
+  /**
+   * The most seeds tried for a single bucket before giving up.
+   *
+   * @since 0.3.0
+   */
+  private static final int MAX_SEED = 1 << 24;
+
+  /**
+   * The key names, indexed by the index returned for them.
+   *
+   * @since 0.3.0
+   */
+  private final String[] names;
+
+  /**
+   * The seed of every bucket, or {@code -slot - 1} for a bucket of a single name placed straight
+   * into its slot.
+   *
+   * @since 0.3.0
+   */
+  private final int[] seeds;
+
+  /**
+   * The index of the name in every slot.
+   *
+   * @since 0.3.0
+   */
+  private final int[] slots;
+
+  /**
+   * Restores a table built by {@link #build(String[])}.
+   *
+   * @param names the key names, indexed by the index returned for them
+   * @param seeds the seeds returned by {@link #getSeeds()}
+   * @param slots the slots returned by {@link #getSlots()}
+   * @throws NullPointerException     if any argument is null
+   * @throws IllegalArgumentException if the arrays do not have the same length
+   * @since 0.3.0
+   */
+  public PerfectHashTable(
+    final @NotNull String[] names,
+    final @NotNull int[] seeds,
+    final @NotNull int[] slots
+  ) {
+    // noinspection ConstantValue
+    if (null == names || null == seeds || null == slots) {
+      throw new NullPointerException("The passed names, seeds and slots must not be null.");
+    }
+    if (names.length != seeds.length || names.length != slots.length) {
+      throw new IllegalArgumentException("The passed names, seeds and slots must have the same length.");
+    }
+    this.names = names;
+    this.seeds = seeds;
+    this.slots = slots;
+  }
+
+  /**
+   * Builds the table of the given names.
+   *
+   * @param names the distinct key names, indexed by the index to return for them
+   * @return the table of the names
+   * @throws NullPointerException     if names or any name is null
+   * @throws IllegalArgumentException if a name occurs more than once
+   * @throws IllegalStateException    if no seed separates the names of a bucket
+   * @since 0.3.0
+   */
+  public static PerfectHashTable build(final @NotNull String[] names) {
+    // noinspection ConstantValue
+    if (null == names) {
+      throw new NullPointerException("The passed names must not be null.");
+    }
+    final int size = names.length;
+    final Set<String> distinct = new HashSet<>(size * 2);
+    for (final String name : names) {
+      if (null == name) {
+        throw new NullPointerException("The passed names must not contain null.");
+      }
+      if (!distinct.add(name)) {
+        throw new IllegalArgumentException("The \"" + name + "\" name occurs more than once.");
+      }
+    }
+
+    final List<List<Integer>> buckets = new ArrayList<>(size);
+    for (int i = 0; i < size; ++i) {
+      buckets.add(new ArrayList<>(2));
+    }
+    for (int i = 0; i < size; ++i) {
+      buckets.get(hash(0, names[i]) % size).add(i);
+    }
+    // The largest buckets are the hardest to place, so they go first
+    final Integer[] order = new Integer[size];
+    for (int i = 0; i < size; ++i) {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+    final int[] seeds = new int[size];
+    final int[] slots = new int[size];
+    Arrays.fill(slots, -1);
+    final int[] candidates = new int[size];
+    int free = 0;
+    for (final int bucket : order) {
+      final List<Integer> members = buckets.get(bucket);
+      if (members.isEmpty()) {
+        break;
+      }
+      if (1 == members.size()) {
+        // A single name needs no seed, it takes the next free slot
+        while (-1 != slots[free]) {
+          ++free;
+        }
+        slots[free] = members.get(0);
+        seeds[bucket] = -free - 1;
+        continue;
+      }
+
+      int seed = 1;
+      while (!place(names, members, seed, slots, candidates)) {
+        if (MAX_SEED == ++seed) {
+          throw new IllegalStateException("No seed separates the names of a bucket.");
+        }
+      }
+      seeds[bucket] = seed;
+    }
+    return new PerfectHashTable(names, seeds, slots);
+  }
+
+  /**
+   * Tries to place every member of a bucket with the given seed, and takes their slots if they
+   * are distinct and free.
+   *
+   * @since 0.3.0
+   */
+  private static boolean place(
+    final String[] names,
+    final List<Integer> members,
+    final int seed,
+    final int[] slots,
+    final int[] candidates
+  ) {
+    final int count = members.size();
+    for (int i = 0; i < count; ++i) {
+      final int slot = hash(seed, names[members.get(i)]) % slots.length;
+      if (-1 != slots[slot]) {
+        return false;
+      }
+      for (int j = 0; j < i; ++j) {
+        if (candidates[j] == slot) {
+          return false;
+        }
+      }
+      candidates[i] = slot;
+    }
+    for (int i = 0; i < count; ++i) {
+      slots[candidates[i]] = members.get(i);
+    }
+    return true;
+  }
+
+  /**
+   * Hashes the given name with the given seed into a non-negative integer.
+   *
+   * @since 0.3.0
+   */
+  private static int hash(
+    final int seed,
+    final CharSequence name
+  ) {
+    int hash = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+    for (int i = 0, length = name.length(); i < length; ++i) {
+      hash = (hash ^ name.charAt(i)) * 0x01000193;
+    }
+    hash ^= hash >>> 16;
+    hash *= 0x85EBCA6B;
+    hash ^= hash >>> 13;
+    return hash & Integer.MAX_VALUE;
+  }
+
+  /**
+   * Finds the index of the given name.
+   *
+   * @param name the exact key name
+   * @return the index of the name, or -1 if the table does not contain it
+   * @throws NullPointerException if name is null
+   * @since 0.3.0
+   */
+  public int indexOf(final @NotNull CharSequence name) {
+    // noinspection ConstantValue
+    if (null == name) {
+      throw new NullPointerException("The passed name must not be null.");
+    }
+    final int size = this.slots.length;
+    if (0 == size) {
+      return -1;
+    }
+    final int seed = this.seeds[hash(0, name) % size];
+    final int slot = 0 > seed ? -seed - 1 : hash(seed, name) % size;
+    final int index = this.slots[slot];
+    return this.names[index].contentEquals(name) ? index : -1;
+  }
+
+  /**
+   * Returns the number of names in this table.
+   *
+   * @return the number of names
+   * @since 0.3.0
+   */
+  public int size() {
+    return this.names.length;
+  }
+
+  /**
+   * Returns the seed of every bucket, to be passed back to
+   * {@link #PerfectHashTable(String[], int[], int[])}.
+   *
+   * @return a copy of the seeds
+   * @since 0.3.0
+   */
+  public int[] getSeeds() {
+    return this.seeds.clone();
+  }
+
+  /**
+   * Returns the index of the name in every slot, to be passed back to
+   * {@link #PerfectHashTable(String[], int[], int[])}.
+   *
+   * @return a copy of the slots
+   * @since 0.3.0
+   */
+  public int[] getSlots() {
+    return this.slots.clone();
+  }
+
+  /**
+   * Packs the given integers into strings of at most a few thousand characters, two characters
+   * per integer, so generated code can hold large tables as string constants instead of array
+   * initializers, which quickly exceed the size limit of a method.
+   *
+   * @param values the integers to pack
+   * @return the packed chunks, to be passed to {@link #unpack(String...)}
+   * @throws NullPointerException if values is null
+   * @since 0.3.0
+   */
+  public static String[] pack(final @NotNull int[] values) {
+    // noinspection ConstantValue
+    if (null == values) {
+      throw new NullPointerException("The passed values must not be null.");
+    }
+    final int perChunk = CHUNK_LENGTH / 2;
+    final String[] chunks = new String[(values.length + perChunk - 1) / perChunk];
+    for (int chunk = 0; chunk < chunks.length; ++chunk) {
+      final int from = chunk * perChunk;
+      final int to = Math.min(values.length, from + perChunk);
+      final char[] chars = new char[2 * (to - from)];
+      for (int i = from; i < to; ++i) {
+        chars[2 * (i - from)] = (char) (values[i] >>> 16);
+        chars[2 * (i - from) + 1] = (char) values[i];
+      }
+      chunks[chunk] = new String(chars);
+    }
+    return chunks;
+  }
+
+  /**
+   * Unpacks the integers packed by {@link #pack(int[])}.
+   *
+   * @param chunks the packed chunks
+   * @return the integers
+   * @throws NullPointerException if chunks is null
+   * @since 0.3.0
+   */
+  public static int[] unpack(final @NotNull String... chunks) {
+    // noinspection ConstantValue
+    if (null == chunks) {
+      throw new NullPointerException("The passed chunks must not be null.");
+    }
+    int length = 0;
+    for (final String chunk : chunks) {
+      length += chunk.length() / 2;
+    }
+    final int[] values = new int[length];
+    int index = 0;
+    for (final String chunk : chunks) {
+      for (int i = 0; i < chunk.length(); i += 2) {
+        values[index++] = (chunk.charAt(i) << 16) | chunk.charAt(i + 1);
+      }
+    }
+    return values;
+  }
+}
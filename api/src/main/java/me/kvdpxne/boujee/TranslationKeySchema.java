@@ -0,0 +1,37 @@
+package me.kvdpxne.boujee;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A fixed set of translation keys whose ordinal numbers are known at build time.
+ *
+ * <p>Schemas are generated from the translation files of the default locale, together with a
+ * typed key enum, and are registered through {@link java.util.ServiceLoader} under
+ * {@code META-INF/services/me.kvdpxne.boujee.TranslationKeySchema}. Every schema found by the
+ * class loader of {@link KeyRegistry} is registered in the {@linkplain KeyRegistry#global() global
+ * registry} before any other key is created, so the key named at index {@code i} always has the
+ * ordinal number {@code i}, whatever order keys are later looked up or loaded in. A schema can
+ * also be passed to {@link KeyRegistry#KeyRegistry(TranslationKeySchema...)} to number the keys
+ * of a registry of its own the same way.
+ *
+ * <p><strong>Stability:</strong> ordinals are stable between runs for as long as the same schemas
+ * are on the class path. A single schema starts at ordinal 0; the keys of every further schema
+ * follow those of the schemas registered before it, and a name already registered keeps its
+ * first ordinal.
+ *
+ * @see DefaultTranslationKey
+ * @see KeyRegistry
+ * @see PerfectHashTable
+ * @since 0.3.0
+ */
+public interface TranslationKeySchema {
+
+  /**
+   * Returns the normalized name of every key, indexed by its ordinal number.
+   *
+   * @return the key names in ordinal order (never null)
+   * @since 0.3.0
+   */
+  @NotNull
+  String[] getKeyNames();
+}
@@ -1,6 +1,9 @@
 package me.kvdpxne.boujee;
 
 import java.util.Collection;
+import java.util.Map;
+import me.kvdpxne.boujee.content.Replaceable;
+import me.kvdpxne.boujee.content.Replacements;
 import me.kvdpxne.boujee.content.message.TranslationMessage;
 import me.kvdpxne.boujee.content.text.TranslationText;
 import me.kvdpxne.boujee.exceptions.MissingTranslationKeyException;
@@ -459,6 +462,73 @@ public interface TranslationService {
   @Range(from = 0, to = Integer.MAX_VALUE)
   int getNumberOfTexts();
 
+  /**
+   * Replaces the placeholders of the given translation with the given values.
+   * <p>Implementations may return a previously rendered instance when the same
+   * translation is rendered again with the same values, so callers rendering
+   * the same content repeatedly should go through the service rather than
+   * calling {@link Replaceable#replace(Map)} directly. The default
+   * implementation does no caching.
+   * <p><strong>Example:</strong>
+   * <pre>{@code
+   * ReplaceableTranslationText text = translationService.replace(
+   *   welcome,
+   *   Collections.singletonMap("{player}".toCharArray(), name)
+   * );
+   * }</pre>
+   *
+   * @param replaceable The translation whose placeholders are replaced
+   * @param values      The placeholder fields mapped to their values
+   * @param <T>         The type of the rendered translation
+   * @return The rendered translation
+   * @since 0.3.0
+   */
+  @NotNull
+  default <T extends Replaceable<T>> T replace(
+    final @NotNull Replaceable<T> replaceable,
+    final @NotNull Map<char[], char[]> values
+  ) {
+    return replaceable.replace(values);
+  }
+
+  /**
+   * Replaces the placeholders of the given translation with the entries of
+   * the given view.
+   * <p>This method behaves like {@link #replace(Replaceable, Map)}, but reads
+   * the values through an indexed {@link Replacements} view, so they do not
+   * have to be copied into a map first. Typed placeholders, such as
+   * {@code {amount,number}}, are formatted for the locale of the given
+   * provider. The default implementation does no caching.
+   * <p><strong>Example:</strong>
+   * <pre>{@code
+   * ReplaceableTranslationText text = translationService.replace(
+   *   balance,
+   *   new Replacer().with("amount", 1234.5).getView(),
+   *   receiver
+   * );
+   * }</pre>
+   *
+   * @param replaceable          The translation whose placeholders are replaced
+   * @param replacements         The placeholder replacements to apply
+   * @param localeSourceProvider The provider of the locale typed values are
+   *                             formatted for, or null for locale-neutral
+   *                             formatting
+   * @param <T>                  The type of the rendered translation
+   * @return The rendered translation
+   * @since 0.3.0
+   */
+  @NotNull
+  default <T extends Replaceable<T>> T replace(
+    final @NotNull Replaceable<T> replaceable,
+    final @NotNull Replacements replacements,
+    final @Nullable LocaleSourceProvider localeSourceProvider
+  ) {
+    return replaceable.replace(
+      replacements,
+      null == localeSourceProvider ? null : localeSourceProvider.getLocaleSource()
+    );
+  }
+
   /**
    * Clears all translation data from the service, including all locales and
    * their content.
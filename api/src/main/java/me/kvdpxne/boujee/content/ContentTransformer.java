@@ -0,0 +1,86 @@
+package me.kvdpxne.boujee.content;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Rewrites the content of translations once, when they are loaded, and the values of placeholders when they are
+ * rendered.
+ *
+ * <p>A transformer moves work that would otherwise be repeated on every send, such as translating the colour codes
+ * of a chat platform, to load time. The content of every translation passes through {@link #transform(char[])}
+ * before its templates are compiled, so rendering only copies the already transformed content. Placeholder values
+ * are supplied at render time and pass through {@link #transformValue(char[])} instead, which lets a transformer
+ * treat content written by translators differently from values that may come from users.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * service.setContentTransformer(content -> {
+ *   char[] transformed = content;
+ *   for (int i = 0; i < content.length; i++) {
+ *     if ('\t' == content[i]) {
+ *       if (transformed == content) {
+ *         transformed = content.clone();
+ *       }
+ *       transformed[i] = ' ';
+ *     }
+ *   }
+ *   return transformed;
+ * });
+ * }</pre>
+ *
+ * <p><strong>Implementation Notes:</strong>
+ * <ul>
+ *   <li>The given arrays must not be modified. A transformer returns them as they are when nothing changes, and a
+ *   new array otherwise.</li>
+ *   <li>Both methods may be called from several threads at once.</li>
+ * </ul>
+ *
+ * @since 0.3.0
+ */
+@FunctionalInterface
+public interface ContentTransformer {
+
+  /**
+   * Transforms the content of a single text or message line, once, when it is loaded.
+   *
+   * @param content The content as it was loaded
+   * @return The transformed content, or the given array if nothing changed
+   * @since 0.3.0
+   */
+  char @NotNull [] transform(char @NotNull [] content);
+
+  /**
+   * Transforms the value of a placeholder, every time it is rendered.
+   *
+   * <p>The default implementation returns the value as it is.
+   *
+   * @param value The value of the placeholder
+   * @return The transformed value, or the given array if nothing changed
+   * @since 0.3.0
+   */
+  default char @NotNull [] transformValue(final char @NotNull [] value) {
+    return value;
+  }
+
+  /**
+   * Returns a view of the given replacements whose values pass through {@link #transformValue(char[])}, each at
+   * most once, when it is first read.
+   *
+   * <p>Typed values other than text keep their type. Every way of rendering placeholder values with this
+   * transformer goes through this view, so the values get the same treatment whichever way a translation is
+   * rendered.
+   *
+   * @param replacements The replacements to transform the values of
+   * @return The view of the transformed replacements
+   * @throws NullPointerException if replacements is null
+   * @since 0.3.0
+   */
+  @NotNull
+  default Replacements transformValues(final @NotNull Replacements replacements) {
+    // noinspection ConstantValue
+    if (null == replacements) {
+      throw new NullPointerException("The passed replacements must not be null.");
+    }
+    return new TransformedReplacements(replacements, this);
+  }
+}
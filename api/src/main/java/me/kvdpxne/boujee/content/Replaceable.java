@@ -1,6 +1,9 @@
 package me.kvdpxne.boujee.content;
 
+import java.nio.ByteBuffer;
+import java.util.HashMap;
 import java.util.Map;
+import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.content.message.ReplacableTranslationMessage;
 import me.kvdpxne.boujee.content.text.ReplaceableTranslationText;
 import org.jetbrains.annotations.NotNull;
@@ -121,4 +124,91 @@ public interface Replaceable<T extends Replaceable<T>> {
   T replace(
     @NotNull Map<char @NotNull [], char @NotNull []> values
   );
+
+  /**
+   * Replaces multiple placeholders in the content with the entries of the given view.
+   *
+   * <p>This method produces the same content as {@link #replace(Map)} with the same entries, but reads them
+   * through an indexed view instead of a map. Implementations backed by compiled templates can resolve each of
+   * their placeholders to an entry index directly, without copying or searching the entries.
+   *
+   * <p>The default implementation copies the entries into a map and delegates to {@link #replace(Map)}.
+   *
+   * <p><strong>Example:</strong>
+   * <pre>{@code
+   * Replacer replacer = new Replacer().with("username", "JohnDoe");
+   * ReplaceableTranslationText result = translation.replace(replacer.getView());
+   * }</pre>
+   *
+   * @param replacements The placeholder replacements to apply
+   * @return A new instance of type T with all specified replacements applied
+   * @throws NullPointerException if replacements is null
+   * @since 0.3.0
+   */
+  @NotNull
+  default T replace(
+    final @NotNull Replacements replacements
+  ) {
+    // noinspection ConstantValue
+    if (null == replacements) {
+      throw new NullPointerException("The passed replacements must not be null.");
+    }
+
+    final Map<char[], char[]> values = new HashMap<>(replacements.size() * 2);
+    for (int i = 0; i < replacements.size(); i++) {
+      values.put(replacements.placeholderAt(i), replacements.valueAt(i));
+    }
+    return this.replace(values);
+  }
+
+  /**
+   * Replaces multiple placeholders in the content with the entries of the given view, formatting typed values for
+   * the given locale.
+   *
+   * <p>Placeholders that request a format, such as {@code {amount,number}} or {@code {when,date,short}}, render
+   * their values with the number and date conventions of the locale. Untyped placeholders are replaced as by
+   * {@link #replace(Replacements)}.
+   *
+   * <p>The default implementation ignores the locale and delegates to {@link #replace(Replacements)}.
+   *
+   * @param replacements The placeholder replacements to apply
+   * @param localeSource The locale the content is rendered for, or null to use locale-neutral formatting
+   * @return A new instance of type T with all specified replacements applied
+   * @throws NullPointerException if replacements is null
+   * @since 0.3.0
+   */
+  @NotNull
+  default T replace(
+    final @NotNull Replacements replacements,
+    final LocaleSource localeSource
+  ) {
+    return this.replace(replacements);
+  }
+
+  /**
+   * Replaces multiple placeholders and writes the result as UTF-8 directly into the given buffer.
+   *
+   * <p>This method produces the same content as {@link #replace(Map)}, but instead of creating a new instance it
+   * encodes the result into {@code target}, starting at its current position. Implementations keep the literal
+   * parts of the content pre-encoded, so only the replacement values have to be encoded on each call. Multi-segment
+   * content is written with its segments separated by a single line feed ({@code '\n'}).
+   *
+   * <p><strong>Example:</strong>
+   * <pre>{@code
+   * ByteBuffer buffer = ByteBuffer.allocateDirect(1024);
+   * translation.replaceInto(replacer.getReplacements(), buffer);
+   * buffer.flip();
+   * channel.write(buffer);
+   * }</pre>
+   *
+   * @param values A map where each key is a placeholder sequence and the corresponding value is the replacement sequence
+   * @param target The buffer that receives the UTF-8 encoded result
+   * @throws NullPointerException            if values or target is null
+   * @throws java.nio.BufferOverflowException if the target buffer has not enough remaining space
+   * @since 0.3.0
+   */
+  void replaceInto(
+    @NotNull Map<char @NotNull [], char @NotNull []> values,
+    @NotNull ByteBuffer target
+  );
 }
@@ -0,0 +1,153 @@
+package me.kvdpxne.boujee.content;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Range;
+import org.jetbrains.annotations.Unmodifiable;
+
+/**
+ * An immutable, indexed view of placeholder replacements.
+ *
+ * <p>Each entry pairs a placeholder with its replacement value and is addressed by a stable index between
+ * {@code 0} and {@link #size()}. Placeholders are compared by content, and the hash of every placeholder is
+ * computed once when the entry is added, so looking an entry up does not have to hash or copy the placeholder again.
+ *
+ * <p>The hash of a placeholder is always {@link Arrays#hashCode(char[])} of its characters. This allows callers that
+ * already know the hash of the placeholders they search for, such as compiled templates, to resolve them to entry
+ * indexes once and then read the values by index.
+ *
+ * <p><strong>Zero-copy access:</strong> The arrays returned by {@link #placeholderAt(int)} and {@link #valueAt(int)}
+ * are shared with the view and must not be modified by the caller.
+ *
+ * <p><strong>Usage Example:</strong>
+ * <pre>{@code
+ * Replacements replacements = new Replacer()
+ *     .with("player", "Steve")
+ *     .getView();
+ *
+ * int index = replacements.indexOf("{player}".toCharArray());
+ * char[] value = replacements.valueAt(index);
+ * }</pre>
+ *
+ * @see Replacer
+ * @see Replaceable#replace(Replacements)
+ * @since 0.3.0
+ */
+@Unmodifiable
+public interface Replacements {
+
+  /**
+   * Returns the number of entries in this view.
+   *
+   * @return The number of entries
+   * @since 0.3.0
+   */
+  @Range(from = 0, to = Integer.MAX_VALUE)
+  int size();
+
+  /**
+   * Checks whether this view has no entries.
+   *
+   * @return {@code true} if there are no entries, {@code false} otherwise
+   * @since 0.3.0
+   */
+  default boolean isEmpty() {
+    return 0 == this.size();
+  }
+
+  /**
+   * Returns the placeholder of the entry at the given index.
+   *
+   * @param index The index of the entry
+   * @return The placeholder, shared with this view
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  char @NotNull [] placeholderAt(int index);
+
+  /**
+   * Returns the precomputed hash of the placeholder of the entry at the given index.
+   *
+   * @param index The index of the entry
+   * @return The hash of the placeholder, equal to {@link Arrays#hashCode(char[])} of its characters
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  int hashAt(int index);
+
+  /**
+   * Returns the replacement value of the entry at the given index.
+   *
+   * @param index The index of the entry
+   * @return The replacement value, shared with this view
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  char @NotNull [] valueAt(int index);
+
+  /**
+   * Returns the replacement value of the entry at the given index as it was supplied, before it is converted to
+   * characters.
+   *
+   * <p>This allows typed placeholders, such as {@code {amount,number}}, to format numbers and dates without going
+   * through {@link Object#toString()}. Values supplied as characters are returned as a {@code char[]}.
+   *
+   * <p>The default implementation returns {@link #valueAt(int)}.
+   *
+   * @param index The index of the entry
+   * @return The replacement value as supplied, never a lazy binding itself
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  @NotNull
+  default Object objectAt(final int index) {
+    return this.valueAt(index);
+  }
+
+  /**
+   * Checks whether the value of the entry at the given index was supplied as characters, so reading it neither
+   * converts nor computes anything.
+   *
+   * <p>Values that are typed or bound lazily are not plain. Caches keyed by the characters of the values use this
+   * to avoid confusing typed values that print the same, and to avoid computing lazy values that may never be
+   * rendered.
+   *
+   * <p>The default implementation checks whether {@link #objectAt(int)} is a {@code char[]}.
+   *
+   * @param index The index of the entry
+   * @return {@code true} if the value was supplied as characters, {@code false} otherwise
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  default boolean isPlainAt(final int index) {
+    return this.objectAt(index) instanceof char[];
+  }
+
+  /**
+   * Finds the index of the entry holding the given placeholder.
+   *
+   * @param placeholder The placeholder to search for
+   * @param hash        The hash of the placeholder, equal to {@link Arrays#hashCode(char[])} of its characters
+   * @return The index of the entry, or {@code -1} if there is none
+   * @throws NullPointerException if placeholder is null
+   * @since 0.3.0
+   */
+  int indexOf(
+    char @NotNull [] placeholder,
+    int hash
+  );
+
+  /**
+   * Finds the index of the entry holding the given placeholder.
+   *
+   * @param placeholder The placeholder to search for
+   * @return The index of the entry, or {@code -1} if there is none
+   * @throws NullPointerException if placeholder is null
+   * @since 0.3.0
+   */
+  default int indexOf(
+    final char @NotNull [] placeholder
+  ) {
+    return this.indexOf(placeholder, Arrays.hashCode(placeholder));
+  }
+}
@@ -1,9 +1,11 @@
 package me.kvdpxne.boujee.content;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * A utility class for managing placeholder replacements in text.
@@ -12,19 +14,32 @@ import java.util.concurrent.ConcurrentHashMap;
  * corresponding replacements, enabling dynamic substitution in strings without
  * creating intermediate String objects.
  * <p>
+ * Placeholders are compared by content, so adding a placeholder that is
+ * already present replaces its value. The hash of each placeholder is
+ * computed once when it is added.
+ * <p>
  * This implementation is optimized for high-concurrency environments typical
- * in multiplayer servers, with thread-safe operations and minimal garbage
- * collection pressure.
+ * in multiplayer servers. Entries are kept in an immutable snapshot that is
+ * replaced on every modification, so {@link #getView()} hands out the current
+ * snapshot without copying or locking.
+ * <p>
+ * Values other than characters are kept as they were supplied and converted
+ * only when a rendered template references them. Typed placeholders, such as
+ * {@code {amount,number}}, format such values without converting them to a
+ * string first. Values bound with {@link #withLazy(String, Supplier)} are
+ * computed at most once per view, and only when they are referenced.
  *
  * @since 0.1.0
  */
 public final class Replacer {
   /**
-   * The map holding the placeholders and their corresponding replacement values.
+   * The current snapshot of the placeholders and their corresponding
+   * replacement values.
    * <p>
-   * Using ConcurrentHashMap for thread safety in multiplayer environments.
+   * Modifications are synchronized on this instance and publish a new
+   * snapshot, reads never lock.
    */
-  private final Map<char[], char[]> replacements;
+  private volatile Snapshot snapshot;
 
   /**
    * Constructs a new {@code Replacer} instance with the specified initial size
@@ -33,22 +48,25 @@ public final class Replacer {
    * @param initialSize the initial capacity of the replacements map.
    * @throws IllegalArgumentException if initialSize is negative
    * @since 0.1.0
+   * @deprecated The replacements are kept in immutable snapshots sized exactly
+   * to their entries, so there is no capacity to set and the initial size is
+   * ignored. Use {@link #Replacer()} instead.
    */
+  @Deprecated
   public Replacer(final int initialSize) {
+    this();
     if (initialSize < 0) {
       throw new IllegalArgumentException("Initial size must not be negative");
     }
-    this.replacements = new ConcurrentHashMap<>(initialSize);
   }
 
   /**
-   * Constructs a new {@code Replacer} instance with a default initial size of
-   * 16 for the replacements map.
+   * Constructs a new, empty {@code Replacer} instance.
    *
    * @since 0.1.0
    */
   public Replacer() {
-    this(16);
+    this.snapshot = Snapshot.EMPTY;
   }
 
   /**
@@ -58,13 +76,16 @@ public final class Replacer {
    * @since 0.1.0
    */
   public Replacer copy() {
-    Replacer copy = new Replacer(this.replacements.size());
-    copy.replacements.putAll(this.replacements);
+    Replacer copy = new Replacer();
+    // Snapshots are immutable, so the copy can share the current one
+    copy.snapshot = this.snapshot;
     return copy;
   }
 
   /**
    * Adds a replacement mapping to the {@code Replacer}.
+   * <p>
+   * If the placeholder is already present, its value is replaced.
    *
    * @param placeholder the placeholder to be replaced, represented as a {@code char[]}
    * @param replacement the replacement value as a {@code char[]}
@@ -84,8 +105,7 @@ public final class Replacer {
       throw new NullPointerException("Replacement must not be null");
     }
 
-    this.replacements.put(placeholder.clone(), replacement.clone());
-    return this;
+    return this.put(placeholder.clone(), replacement.clone());
   }
 
   /**
@@ -101,6 +121,58 @@ public final class Replacer {
    * @since 0.1.0
    */
   public Replacer with(final String placeholder, final Object replacement) {
+    final char[] key = normalize(placeholder);
+    if (replacement == null) {
+      throw new NullPointerException("Replacement must not be null");
+    }
+
+    final Object value;
+    if (replacement instanceof char[]) {
+      value = ((char[]) replacement).clone();
+    } else if (replacement instanceof String) {
+      value = ((String) replacement).toCharArray();
+    } else {
+      // Converted, or formatted by a typed placeholder, only when rendered
+      value = replacement;
+    }
+    return this.put(key, value);
+  }
+
+  /**
+   * Adds a lazily computed replacement mapping to the {@code Replacer}.
+   * <p>
+   * Automatically ensures the placeholder is wrapped in braces if not already present.
+   * <p>
+   * The supplier is called only when a rendered template references the
+   * placeholder, and at most once per view returned by {@link #getView()}.
+   * Its result is treated like a value passed to {@link #with(String, Object)};
+   * a null result leaves the placeholder unchanged.
+   *
+   * @param placeholder the placeholder string to be replaced (with or without braces)
+   * @param supplier    the supplier of the replacement value
+   * @return the current {@code Replacer} instance for method chaining
+   * @throws NullPointerException if placeholder or supplier is null
+   * @throws IllegalArgumentException if placeholder is empty
+   * @since 0.3.0
+   */
+  public Replacer withLazy(final String placeholder, final Supplier<?> supplier) {
+    final char[] key = normalize(placeholder);
+    if (supplier == null) {
+      throw new NullPointerException("Supplier must not be null");
+    }
+    return this.put(key, new Lazy(supplier));
+  }
+
+  /**
+   * Validates the placeholder and wraps it in braces if not already present.
+   *
+   * @param placeholder the placeholder string
+   * @return the placeholder characters with braces
+   * @throws NullPointerException if placeholder is null
+   * @throws IllegalArgumentException if placeholder is empty
+   * @since 0.3.0
+   */
+  private static char[] normalize(final String placeholder) {
     if (placeholder == null) {
       throw new NullPointerException("Placeholder must not be null");
     }
@@ -109,19 +181,25 @@ public final class Replacer {
     }
 
     // Ensure placeholder has braces
-    String normalizedPlaceholder = placeholder;
     if (!placeholder.startsWith("{") || !placeholder.endsWith("}")) {
-      normalizedPlaceholder = "{" + placeholder + "}";
+      return ("{" + placeholder + "}").toCharArray();
     }
+    return placeholder.toCharArray();
+  }
 
-    char[] replacementChars;
-    if (replacement instanceof char[]) {
-      replacementChars = ((char[]) replacement).clone();
-    } else {
-      replacementChars = replacement.toString().toCharArray();
+  /**
+   * Publishes a snapshot with the given entry added or replaced.
+   *
+   * @param key   the placeholder, owned by this instance
+   * @param value the value, owned by this instance
+   * @return the current {@code Replacer} instance for method chaining
+   * @since 0.3.0
+   */
+  private Replacer put(final char[] key, final Object value) {
+    synchronized (this) {
+      this.snapshot = this.snapshot.with(key, Arrays.hashCode(key), value);
     }
-
-    return with(normalizedPlaceholder.toCharArray(), replacementChars);
+    return this;
   }
 
   /**
@@ -169,20 +247,41 @@ public final class Replacer {
   }
 
   /**
-   * Retrieves an unmodifiable view of all placeholder-replacement mappings.
+   * Retrieves an unmodifiable copy of all placeholder-replacement mappings.
+   * <p>
+   * Every call copies all placeholders and values. Code that only reads the
+   * replacements should use {@link #getView()} instead.
    *
    * @return an unmodifiable map of placeholder-replacement mappings
    * @since 0.1.0
    */
   public Map<char[], char[]> getReplacements() {
+    final Replacements view = this.getView();
     // Create a defensive copy with cloned arrays
-    Map<char[], char[]> safeMap = new HashMap<>(replacements.size());
-    for (Map.Entry<char[], char[]> entry : replacements.entrySet()) {
-      safeMap.put(entry.getKey().clone(), entry.getValue().clone());
+    Map<char[], char[]> safeMap = new HashMap<>(view.size() * 2);
+    for (int i = 0; i < view.size(); i++) {
+      safeMap.put(view.placeholderAt(i).clone(), view.valueAt(i).clone());
     }
     return Collections.unmodifiableMap(safeMap);
   }
 
+  /**
+   * Retrieves the current placeholder-replacement mappings as an immutable
+   * view without copying them.
+   * <p>
+   * The returned view is not affected by later modifications of this
+   * {@code Replacer}. If some values still have to be converted or computed,
+   * the view remembers their results, so each of them is converted or computed
+   * at most once per view.
+   *
+   * @return the current replacements
+   * @since 0.3.0
+   */
+  public Replacements getView() {
+    final Snapshot snapshot = this.snapshot;
+    return snapshot.deferred ? new DeferredView(snapshot) : snapshot;
+  }
+
   /**
    * Checks if this Replacer has any replacements defined.
    *
@@ -190,7 +289,7 @@ public final class Replacer {
    * @since 0.1.0
    */
   public boolean isEmpty() {
-    return replacements.isEmpty();
+    return this.snapshot.isEmpty();
   }
 
   /**
@@ -199,7 +298,9 @@ public final class Replacer {
    * @since 0.1.0
    */
   public void clear() {
-    replacements.clear();
+    synchronized (this) {
+      this.snapshot = Snapshot.EMPTY;
+    }
   }
 
   /**
@@ -214,26 +315,15 @@ public final class Replacer {
     if (this == o) return true;
     if (o == null || getClass() != o.getClass()) return false;
 
-    Replacer replacer = (Replacer) o;
-    // Need to compare contents, not references
-    if (replacements.size() != replacer.replacements.size()) {
+    final Snapshot snapshot = this.snapshot;
+    final Snapshot other = ((Replacer) o).snapshot;
+    if (snapshot.size() != other.size()) {
       return false;
     }
 
-    for (Map.Entry<char[], char[]> entry : replacements.entrySet()) {
-      char[] key = entry.getKey();
-      char[] value = entry.getValue();
-
-      boolean found = false;
-      for (Map.Entry<char[], char[]> otherEntry : replacer.replacements.entrySet()) {
-        if (java.util.Arrays.equals(key, otherEntry.getKey()) &&
-          java.util.Arrays.equals(value, otherEntry.getValue())) {
-          found = true;
-          break;
-        }
-      }
-
-      if (!found) {
+    for (int i = 0; i < snapshot.size(); i++) {
+      final int index = other.indexOf(snapshot.placeholders[i], snapshot.hashes[i]);
+      if (-1 == index || !valueEquals(snapshot.values[i], other.values[index])) {
         return false;
       }
     }
@@ -243,20 +333,51 @@ public final class Replacer {
 
   /**
    * Computes the hash code for this {@code Replacer}.
+   * <p>
+   * The hash code does not depend on the order in which the replacements
+   * were added.
    *
    * @return the hash code of the {@code Replacer}
    * @since 0.1.0
    */
   @Override
   public int hashCode() {
-    int result = 1;
-    for (Map.Entry<char[], char[]> entry : replacements.entrySet()) {
-      result = 31 * result + java.util.Arrays.hashCode(entry.getKey());
-      result = 31 * result + java.util.Arrays.hashCode(entry.getValue());
+    final Snapshot snapshot = this.snapshot;
+    int result = 0;
+    for (int i = 0; i < snapshot.size(); i++) {
+      final Object value = snapshot.values[i];
+      result += snapshot.hashes[i] ^ (value instanceof char[]
+        ? Arrays.hashCode((char[]) value)
+        : Objects.hashCode(value));
     }
     return result;
   }
 
+  /**
+   * Compares two values as they were supplied, without converting or
+   * computing them.
+   *
+   * @since 0.3.0
+   */
+  private static boolean valueEquals(final Object a, final Object b) {
+    if (a instanceof char[] && b instanceof char[]) {
+      return Arrays.equals((char[]) a, (char[]) b);
+    }
+    return Objects.equals(a, b);
+  }
+
+  /**
+   * Converts a supplied value to characters.
+   *
+   * @since 0.3.0
+   */
+  private static char[] toChars(final Object value) {
+    if (value instanceof char[]) {
+      return (char[]) value;
+    }
+    return String.valueOf(value).toCharArray();
+  }
+
   /**
    * Returns a string representation of this Replacer.
    *
@@ -266,7 +387,267 @@ public final class Replacer {
   @Override
   public String toString() {
     return "Replacer{" +
-      "replacements=" + replacements.size() + " entries" +
+      "replacements=" + this.snapshot.size() + " entries" +
       '}';
   }
-}
\ No newline at end of file
+
+  /**
+   * An immutable set of replacements with an open addressing index from the
+   * placeholder hash to the entry index.
+   *
+   * @since 0.3.0
+   */
+  private static final class Snapshot
+    implements Replacements {
+
+    /**
+     * The snapshot without any replacements.
+     */
+    private static final Snapshot EMPTY = new Snapshot(
+      new char[0][],
+      new int[0],
+      new Object[0],
+      new int[1]
+    );
+
+    private final char[][] placeholders;
+    private final int[] hashes;
+
+    /**
+     * The values as supplied: characters, other objects converted on use, or
+     * lazy bindings.
+     */
+    private final Object[] values;
+
+    /**
+     * Whether any value is not stored as characters yet, in which case reads
+     * go through a {@link DeferredView}.
+     */
+    private final boolean deferred;
+
+    /**
+     * Entry indexes plus one, placed by placeholder hash; zero marks a free
+     * slot. The length is a power of two at least twice the number of
+     * entries.
+     */
+    private final int[] table;
+
+    private Snapshot(
+      final char[][] placeholders,
+      final int[] hashes,
+      final Object[] values,
+      final int[] table
+    ) {
+      this.placeholders = placeholders;
+      this.hashes = hashes;
+      this.values = values;
+      this.table = table;
+
+      boolean deferred = false;
+      for (final Object value : values) {
+        deferred |= !(value instanceof char[]);
+      }
+      this.deferred = deferred;
+    }
+
+    /**
+     * Returns a snapshot with the given entry added, or with the value of an
+     * already present placeholder replaced.
+     */
+    private Snapshot with(
+      final char[] placeholder,
+      final int hash,
+      final Object value
+    ) {
+      final int index = this.indexOf(placeholder, hash);
+      if (-1 != index) {
+        final Object[] values = this.values.clone();
+        values[index] = value;
+        // The placeholders are unchanged, so the index can be shared
+        return new Snapshot(this.placeholders, this.hashes, values, this.table);
+      }
+
+      final int size = this.placeholders.length;
+      final char[][] placeholders = Arrays.copyOf(this.placeholders, size + 1);
+      final int[] hashes = Arrays.copyOf(this.hashes, size + 1);
+      final Object[] values = Arrays.copyOf(this.values, size + 1);
+      placeholders[size] = placeholder;
+      hashes[size] = hash;
+      values[size] = value;
+
+      final int[] table;
+      if (this.table.length >= 2 * (size + 1)) {
+        table = this.table.clone();
+        place(table, hash, size);
+      } else {
+        table = new int[Integer.highestOneBit(size + 1) << 2];
+        for (int i = 0; i <= size; i++) {
+          place(table, hashes[i], i);
+        }
+      }
+      return new Snapshot(placeholders, hashes, values, table);
+    }
+
+    private static void place(
+      final int[] table,
+      final int hash,
+      final int index
+    ) {
+      final int mask = table.length - 1;
+      int slot = spread(hash) & mask;
+      while (0 != table[slot]) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = index + 1;
+    }
+
+    private static int spread(final int hash) {
+      return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public int size() {
+      return this.placeholders.length;
+    }
+
+    @Override
+    public char[] placeholderAt(final int index) {
+      return this.placeholders[index];
+    }
+
+    @Override
+    public int hashAt(final int index) {
+      return this.hashes[index];
+    }
+
+    @Override
+    public char[] valueAt(final int index) {
+      // Only handed out as a view when every value is stored as characters
+      return (char[]) this.values[index];
+    }
+
+    @Override
+    public boolean isPlainAt(final int index) {
+      // A snapshot is only used as a view when every value is characters
+      return true;
+    }
+
+    @Override
+    public int indexOf(
+      final char[] placeholder,
+      final int hash
+    ) {
+      if (null == placeholder) {
+        throw new NullPointerException("The passed placeholder must not be null.");
+      }
+
+      final int mask = this.table.length - 1;
+      for (int slot = spread(hash) & mask; ; slot = (slot + 1) & mask) {
+        final int entry = this.table[slot];
+        if (0 == entry) {
+          return -1;
+        }
+        final int index = entry - 1;
+        if (hash == this.hashes[index]
+          && Arrays.equals(placeholder, this.placeholders[index])) {
+          return index;
+        }
+      }
+    }
+  }
+
+  /**
+   * A view over a snapshot with values that still have to be converted or
+   * computed, remembering their results for the lifetime of the view.
+   *
+   * @since 0.3.0
+   */
+  private static final class DeferredView
+    implements Replacements {
+
+    private final Snapshot snapshot;
+    private final Object[] objects;
+    private final char[][] chars;
+
+    private DeferredView(final Snapshot snapshot) {
+      this.snapshot = snapshot;
+      this.objects = new Object[snapshot.size()];
+      this.chars = new char[snapshot.size()][];
+    }
+
+    @Override
+    public int size() {
+      return this.snapshot.size();
+    }
+
+    @Override
+    public char[] placeholderAt(final int index) {
+      return this.snapshot.placeholderAt(index);
+    }
+
+    @Override
+    public int hashAt(final int index) {
+      return this.snapshot.hashAt(index);
+    }
+
+    @Override
+    public Object objectAt(final int index) {
+      final Object value = this.snapshot.values[index];
+      if (!(value instanceof Lazy)) {
+        return value;
+      }
+
+      synchronized (this) {
+        Object object = this.objects[index];
+        if (null == object) {
+          object = ((Lazy) value).supplier.get();
+          // A missing value leaves the placeholder unchanged
+          this.objects[index] = object = null == object ? new char[0] : object;
+        }
+        return object;
+      }
+    }
+
+    @Override
+    public boolean isPlainAt(final int index) {
+      return this.snapshot.values[index] instanceof char[];
+    }
+
+    @Override
+    public char[] valueAt(final int index) {
+      final Object value = this.snapshot.values[index];
+      if (value instanceof char[]) {
+        return (char[]) value;
+      }
+
+      synchronized (this) {
+        char[] chars = this.chars[index];
+        if (null == chars) {
+          this.chars[index] = chars = toChars(this.objectAt(index));
+        }
+        return chars;
+      }
+    }
+
+    @Override
+    public int indexOf(
+      final char[] placeholder,
+      final int hash
+    ) {
+      return this.snapshot.indexOf(placeholder, hash);
+    }
+  }
+
+  /**
+   * A value bound with {@link #withLazy(String, Supplier)}.
+   *
+   * @since 0.3.0
+   */
+  private static final class Lazy {
+    private final Supplier<?> supplier;
+
+    private Lazy(final Supplier<?> supplier) {
+      this.supplier = supplier;
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package me.kvdpxne.boujee.content;
+
+/**
+ * A view of replacements whose values pass through
+ * {@link ContentTransformer#transformValue(char[])}, each at most once.
+ *
+ * @see ContentTransformer#transformValues(Replacements)
+ * @since 0.3.0
+ */
+final class TransformedReplacements
+  implements Replacements {
+
+  private final Replacements replacements;
+  private final ContentTransformer transformer;
+
+  /**
+   * The transformed values, filled in on first access.
+   */
+  private final char[][] values;
+
+  TransformedReplacements(
+    final Replacements replacements,
+    final ContentTransformer transformer
+  ) {
+    this.replacements = replacements;
+    this.transformer = transformer;
+    this.values = new char[replacements.size()][];
+  }
+
+  @Override
+  public int size() {
+    return this.values.length;
+  }
+
+  @Override
+  public char[] placeholderAt(final int index) {
+    return this.replacements.placeholderAt(index);
+  }
+
+  @Override
+  public int hashAt(final int index) {
+    return this.replacements.hashAt(index);
+  }
+
+  @Override
+  public char[] valueAt(final int index) {
+    char[] value = this.values[index];
+    if (null == value) {
+      // A race only transforms the value twice
+      value = this.transformer.transformValue(this.replacements.valueAt(index));
+      this.values[index] = value;
+    }
+    return value;
+  }
+
+  @Override
+  public Object objectAt(final int index) {
+    final Object value = this.replacements.objectAt(index);
+    // Only text can carry content to transform, typed values keep their type
+    if (value instanceof char[] || value instanceof CharSequence) {
+      return this.valueAt(index);
+    }
+    return value;
+  }
+
+  @Override
+  public boolean isPlainAt(final int index) {
+    return this.replacements.isPlainAt(index);
+  }
+
+  @Override
+  public int indexOf(
+    final char[] placeholder,
+    final int hash
+  ) {
+    return this.replacements.indexOf(placeholder, hash);
+  }
+}
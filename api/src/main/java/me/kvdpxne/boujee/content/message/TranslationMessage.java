@@ -107,4 +107,19 @@ public interface TranslationMessage
   @NotNull
   @Unmodifiable
   String @NotNull [] getContentAsString();
+
+  /**
+   * Retrieves the message content encoded as UTF-8, one array per segment.
+   *
+   * <p>The encoding is computed lazily on first access and reused afterwards, so repeated sends of the same
+   * message over a byte-oriented channel (such as a socket) do not encode the content again.
+   *
+   * <p>This method returns an unmodifiable view of the encoded content as indicated by the
+   * {@code @UnmodifiableView} annotation. Consumers must treat the returned arrays as read-only.
+   *
+   * @return An unmodifiable view of the UTF-8 encoded message segments
+   * @since 0.3.0
+   */
+  @UnmodifiableView
+  byte @NotNull [] @NotNull [] getContentAsBytes();
 }
@@ -104,4 +104,19 @@ public interface TranslationText
   @NotNull
   @UnmodifiableView
   String getContentAsString();
+
+  /**
+   * Retrieves the text content encoded as UTF-8.
+   *
+   * <p>The encoding is computed lazily on first access and reused afterwards, so repeated sends of the same
+   * text over a byte-oriented channel (such as a socket) do not encode the content again.
+   *
+   * <p>This method returns an unmodifiable view of the encoded content as indicated by the
+   * {@code @UnmodifiableView} annotation. Consumers must treat the returned array as read-only.
+   *
+   * @return An unmodifiable view of the UTF-8 encoded text content
+   * @since 0.3.0
+   */
+  @UnmodifiableView
+  byte @NotNull [] getContentAsBytes();
 }
@@ -4,13 +4,57 @@ plugins {
 
 dependencies {
   jmh(libraries.jmh.core)
+  implementation(project(":api"))
   implementation(project(":core"))
+  implementation(project(":chains"))
+  implementation(project(":inputs-common"))
+  implementation(project(":inputs-json-gson"))
+  implementation(project(":inputs-json-kotlinx-serialization"))
+  implementation(libraries.gson)
+  implementation(libraries.kotlinx.coroutines.core)
+  implementation(libraries.kotlinx.serialization.json)
 
   // https://mvnrepository.com/artifact/org.apache.commons/commons-lang3
   implementation("org.apache.commons:commons-lang3:3.17.0")
 }
 
+val generatedLanguages = layout.buildDirectory.dir("generated/benchmark-languages")
+
+// Writes the translation files decoded by JsonDecodeBenchmark, the same for
+// every JSON decoder: a nested group of texts and a few messages per locale.
+val generateBenchmarkLanguages by tasks.registering {
+  outputs.dir(generatedLanguages)
+
+  doLast {
+    val directory = generatedLanguages.get().dir("benchmark/languages").asFile
+    directory.deleteRecursively()
+    directory.mkdirs()
+    for (locale in listOf("en_US", "pl_PL", "de_DE", "fr_FR", "es_ES", "it_IT", "pt_BR", "ru_RU")) {
+      val json = StringBuilder("{\"group\":{")
+      for (key in 0 until 4000) {
+        if (0 != key) {
+          json.append(',')
+        }
+        json.append("\"key").append(key).append("\":\"")
+          .append(locale).append(" translation of key ").append(key).append(" for {player}\"")
+      }
+      json.append("},\"messages\":{")
+      for (key in 0 until 100) {
+        if (0 != key) {
+          json.append(',')
+        }
+        json.append("\"key").append(key).append("\":[\"first line\",\"second line of ").append(locale).append("\"]")
+      }
+      directory.resolve("$locale.json").writeText(json.append("}}").toString())
+    }
+  }
+}
+
+sourceSets.named("jmh") {
+  resources.srcDir(generateBenchmarkLanguages)
+}
+
 jmh {
   jmhVersion.set("1.37")
   resultFormat.set("CSV")
-}
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package me.kvdpxne.boujee;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import me.kvdpxne.boujee.chains.BroadcastChoices;
+import me.kvdpxne.boujee.chains.BroadcastPlan;
+import me.kvdpxne.boujee.chains.ReceiversChains;
+import me.kvdpxne.boujee.chains.TranslationChains;
+import me.kvdpxne.boujee.content.Replacer;
+import me.kvdpxne.boujee.content.text.BasicReplaceableTranslationText;
+import me.kvdpxne.boujee.content.text.ReplaceableTranslationText;
+import me.kvdpxne.boujee.content.text.TranslationText;
+import me.kvdpxne.boujee.locale.BasicLocaleSource;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.locale.LocaleTranslations;
+import me.kvdpxne.boujee.receiver.Receiver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Broadcasts a text with a placeholder to receivers spread over ten locales,
+ * rendered once per receiver, once per locale by the chains, and once per
+ * locale by a plan prepared in advance.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+public class BroadcastBenchmark {
+
+  static final String[] LOCALES = {
+    "en_US", "pl_PL", "de_DE", "fr_FR", "es_ES",
+    "it_IT", "pt_BR", "ru_RU", "ja_JP", "ko_KR"
+  };
+
+  static final TranslationKeyProvider KEY = () -> DefaultTranslationKey.of("BROADCAST");
+
+  @Param({"1000", "10000"})
+  int numberOfReceivers;
+
+  DefaultTranslationService service;
+  List<Receiver> receivers;
+  TranslationChains chains;
+  BroadcastPlan plan;
+
+  @Setup
+  public void setup() {
+    final LocaleSource[] localeSources = new LocaleSource[LOCALES.length];
+    final List<LocaleTranslations> translations = new ArrayList<>(LOCALES.length);
+    for (int i = 0; i < LOCALES.length; ++i) {
+      localeSources[i] = new BasicLocaleSource(LOCALES[i]);
+      final BasicLocaleTranslations localeTranslations =
+        new BasicLocaleTranslations(localeSources[i]);
+      localeTranslations.putText(
+        KEY.getTranslationKey(),
+        new BasicReplaceableTranslationText(
+          (LOCALES[i] + ": {player} joined the game").toCharArray()
+        )
+      );
+      translations.add(localeTranslations);
+    }
+
+    this.service = new DefaultTranslationService(CacheSizeMode.DEFAULT);
+    this.service.updateTranslations(translations);
+
+    this.receivers = new ArrayList<>(this.numberOfReceivers);
+    for (int i = 0; i < this.numberOfReceivers; ++i) {
+      final LocaleSource localeSource = localeSources[i % localeSources.length];
+      this.receivers.add(() -> localeSource);
+    }
+    // Players of all locales are mixed, as they join
+    Collections.shuffle(this.receivers, new Random(42));
+    this.chains = ReceiversChains.receivers(this.receivers);
+    this.plan = this.chains.planText(KEY, this.service);
+  }
+
+  private static Replacer replacer() {
+    return new Replacer().with("player", "Notch");
+  }
+
+  @Benchmark
+  public void per_receiver(final Blackhole blackhole) {
+    final Replacer replacer = replacer();
+    for (final Receiver receiver : this.receivers) {
+      final TranslationText text = this.service.findTextOrDefault(receiver, KEY);
+      blackhole.consume(this.service.replace(
+        (ReplaceableTranslationText) text,
+        replacer.getView(),
+        receiver
+      ));
+    }
+  }
+
+  @Benchmark
+  public void grouped(final Blackhole blackhole) {
+    final BroadcastChoices choices = this.chains
+      .text(KEY, this.service)
+      .replace(BroadcastBenchmark::replacer);
+    choices.forEach((receiver, translation) -> blackhole.consume(translation));
+  }
+
+  @Benchmark
+  public void plan(final Blackhole blackhole) {
+    this.plan.forEach(replacer(), (receiver, translation) -> blackhole.consume(translation));
+  }
+}
@@ -0,0 +1,164 @@
+package me.kvdpxne.boujee;
+
+import com.google.gson.stream.JsonReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import me.kvdpxne.boujee.io.InsideDirectory;
+import me.kvdpxne.boujee.io.InsideFiles;
+import me.kvdpxne.boujee.io.StreamGson;
+import me.kvdpxne.boujee.locale.BasicLocaleSource;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures loading every locale of a plugin jar from cold, once per
+ * invocation, with the archive file system opened per file as before and
+ * with one shared directory index.
+ */
+@Warmup(iterations = 0)
+@Measurement(iterations = 20)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(3)
+public class ColdLoadBenchmark {
+
+  static final String DIRECTORY = "assets/languages";
+
+  @Param({"20"})
+  int locales;
+
+  @Param({"2000"})
+  int keys;
+
+  Path jar;
+  URLClassLoader classLoader;
+  List<String> names;
+
+  @Setup(Level.Trial)
+  public void createJar() throws IOException {
+    this.jar = Files.createTempFile("boujee-cold-load", ".jar");
+    this.names = new ArrayList<>(this.locales);
+    try (final ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(this.jar))) {
+      // Directory entries, as in a jar built by Gradle
+      out.putNextEntry(new ZipEntry("assets/"));
+      out.putNextEntry(new ZipEntry(DIRECTORY + "/"));
+      for (int locale = 0; locale < this.locales; locale++) {
+        final String name = "l" + locale + "_L" + locale;
+        this.names.add(name);
+        out.putNextEntry(new ZipEntry(DIRECTORY + "/" + name + ".json"));
+        writeLocale(out, name, this.keys);
+        out.closeEntry();
+      }
+    }
+    this.classLoader = new URLClassLoader(new URL[]{this.jar.toUri().toURL()}, null);
+  }
+
+  private static void writeLocale(
+    final OutputStream out,
+    final String name,
+    final int keys
+  ) throws IOException {
+    final StringBuilder builder = new StringBuilder(64 * keys).append("{\"group\":{");
+    for (int key = 0; key < keys; key++) {
+      if (0 != key) {
+        builder.append(',');
+      }
+      builder.append("\"key").append(key).append("\":\"")
+        .append(name).append(" translation of key ").append(key).append('"');
+    }
+    out.write(builder.append("}}").toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Every invocation starts with the archive closed.
+   */
+  @Setup(Level.Invocation)
+  public void closeArchive() {
+    InsideFiles.closeFileSystems();
+  }
+
+  @TearDown(Level.Trial)
+  public void deleteJar() throws IOException {
+    InsideFiles.closeFileSystems();
+    this.classLoader.close();
+    Files.deleteIfExists(this.jar);
+  }
+
+  /**
+   * Opens the archive and walks the directory for every locale, as
+   * {@code InsideGsonReader.read(path, name)} used to.
+   */
+  @Benchmark
+  public int reopen_archive_per_locale() throws Exception {
+    final URI uri = this.classLoader.getResource(DIRECTORY).toURI();
+    int size = 0;
+    for (final String name : this.names) {
+      try (final FileSystem fs = FileSystems.newFileSystem(uri, Collections.emptyMap());
+           final Stream<Path> stream = Files.walk(fs.getPath(DIRECTORY))) {
+        final Path path = stream
+          .filter(Files::isRegularFile)
+          .filter(file -> file.getFileName().toString().contains(name))
+          .collect(Collectors.toList())
+          .get(0);
+        try (final Reader reader = new InputStreamReader(Files.newInputStream(path), StandardCharsets.UTF_8)) {
+          size += decode(reader);
+        }
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Opens and indexes the archive once, and reads every locale into a
+   * reused buffer.
+   */
+  @Benchmark
+  public int shared_directory_index() throws Exception {
+    final InsideDirectory directory = InsideDirectory.open(this.classLoader, DIRECTORY);
+    int size = 0;
+    for (final String name : directory.getNames()) {
+      try (final Reader reader = directory.newReader(name)) {
+        size += decode(reader);
+      }
+    }
+    return size;
+  }
+
+  private static int decode(final Reader reader) throws IOException {
+    final BasicLocaleTranslations translations =
+      new BasicLocaleTranslations(new BasicLocaleSource("benchmark"));
+    StreamGson.read(new JsonReader(reader), translations);
+    return translations.getNumberOfTexts();
+  }
+}
@@ -0,0 +1,61 @@
+package me.kvdpxne.boujee;
+
+import java.util.concurrent.TimeUnit;
+import me.kvdpxne.boujee.io.GsonTranslationFiller;
+import me.kvdpxne.boujee.io.JsonTranslationFiller;
+import me.kvdpxne.boujee.io.TranslationFiller;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the Gson and kotlinx-serialization loaders on the same locale
+ * files, generated by the {@code generateBenchmarkLanguages} task, each
+ * decoding the files on the calling thread or in parallel.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+public class JsonDecodeBenchmark {
+
+  static final String DIRECTORY = "benchmark/languages";
+
+  @Param({"1", "4"})
+  int parallelism;
+
+  TranslationFiller gson;
+  TranslationFiller kotlinx;
+
+  @Setup
+  public void setup() {
+    this.gson = new GsonTranslationFiller(this.parallelism);
+    this.kotlinx = new JsonTranslationFiller(this.parallelism);
+  }
+
+  private static DefaultTranslationService fill(final TranslationFiller filler) {
+    final DefaultTranslationService service = new DefaultTranslationService(CacheSizeMode.DEFAULT);
+    filler.fill(DIRECTORY, service);
+    return service;
+  }
+
+  @Benchmark
+  public DefaultTranslationService gson() {
+    return fill(this.gson);
+  }
+
+  @Benchmark
+  public DefaultTranslationService kotlinx_serialization() {
+    return fill(this.kotlinx);
+  }
+}
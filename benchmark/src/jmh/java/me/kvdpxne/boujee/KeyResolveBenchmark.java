@@ -0,0 +1,92 @@
+package me.kvdpxne.boujee;
+
+import java.nio.CharBuffer;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Resolves existing keys by dynamic names, as read from a configuration,
+ * with the allocation-free lookup of {@link KeyRegistry} and with the
+ * normalize-then-map lookup it replaced. Run with {@code -prof gc} to see
+ * the allocation rate of each.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+public class KeyResolveBenchmark {
+
+  @Param({"100", "10000"})
+  int numberOfKeys;
+
+  KeyRegistry registry;
+  ConcurrentMap<String, TranslationKey> normalized;
+
+  /**
+   * The names as written in a configuration, in lower case and padded.
+   */
+  String[] names;
+
+  /**
+   * Every name on one line, as a reused read buffer would hold them.
+   */
+  CharBuffer buffer;
+  int[] bounds;
+
+  int next;
+
+  @Setup
+  public void setup() {
+    this.registry = new KeyRegistry();
+    this.normalized = new ConcurrentHashMap<>();
+    this.names = new String[this.numberOfKeys];
+    this.bounds = new int[this.numberOfKeys + 1];
+    final StringBuilder line = new StringBuilder();
+    for (int i = 0; i < this.numberOfKeys; ++i) {
+      final String name = " menu.section_" + (i % 17) + ".entry_" + i + " ";
+      final TranslationKey key = this.registry.of(name);
+      this.normalized.put(name.trim().toUpperCase(Locale.ENGLISH), key);
+      this.names[i] = name;
+      line.append(name);
+      this.bounds[i + 1] = line.length();
+    }
+    this.buffer = CharBuffer.wrap(line.toString().toCharArray());
+  }
+
+  private int next() {
+    final int index = this.next;
+    this.next = index + 1 == this.numberOfKeys ? 0 : index + 1;
+    return index;
+  }
+
+  @Benchmark
+  public TranslationKey normalize_then_map() {
+    return this.normalized.get(this.names[this.next()].trim().toUpperCase(Locale.ENGLISH));
+  }
+
+  @Benchmark
+  public TranslationKey registry_of_string() {
+    return this.registry.of(this.names[this.next()], true);
+  }
+
+  @Benchmark
+  public TranslationKey registry_of_buffer_slice() {
+    final int index = this.next();
+    return this.registry.of(this.buffer, this.bounds[index], this.bounds[index + 1], true);
+  }
+}
@@ -309,71 +309,71 @@ public class ReplaceBenchmark {
 
   @Benchmark
   public int indexOf_v1_short_text_without_placeholder() {
-    return Characters._indexOf(TEXT_CHARACTERS_1, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_1, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_longer_text_without_placeholder() {
-    return Characters._indexOf(TEXT_CHARACTERS_2, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_2, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_short_text_with_placeholder() {
-    return Characters._indexOf(TEXT_CHARACTERS_3, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_3, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_longer_text_with_placeholder() {
-    return Characters._indexOf(TEXT_CHARACTERS_4, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_4, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_short_text_with_placeholder_at_beginning() {
-    return Characters._indexOf(TEXT_CHARACTERS_5, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_5, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_longer_text_with_placeholder_at_beginning() {
-    return Characters._indexOf(TEXT_CHARACTERS_6, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_6, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_short_text_with_placeholder_at_ending() {
-    return Characters._indexOf(TEXT_CHARACTERS_7, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_7, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_longer_text_with_placeholder_at_ending() {
-    return Characters._indexOf(TEXT_CHARACTERS_8, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_8, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_short_text_with_placeholders() {
-    return Characters._indexOf(TEXT_CHARACTERS_9, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_9, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_longer_text_with_placeholders() {
-    return Characters._indexOf(TEXT_CHARACTERS_10, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_10, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_short_text_with_placeholders_at_beginning() {
-    return Characters._indexOf(TEXT_CHARACTERS_11, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_11, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_longer_text_with_placeholders_at_beginning() {
-    return Characters._indexOf(TEXT_CHARACTERS_12, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_12, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_short_text_with_placeholders_at_ending() {
-    return Characters._indexOf(TEXT_CHARACTERS_13, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_13, CACHED_PLACEHOLDER, 0);
   }
 
   @Benchmark
   public int indexOf_v1_longer_text_with_placeholders_at_ending() {
-    return Characters._indexOf(TEXT_CHARACTERS_14, CACHED_PLACEHOLDER, 0);
+    return Characters.indexOf(TEXT_CHARACTERS_14, CACHED_PLACEHOLDER, 0);
   }
 }
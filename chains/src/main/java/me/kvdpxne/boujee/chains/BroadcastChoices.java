@@ -0,0 +1,121 @@
+package me.kvdpxne.boujee.chains;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import me.kvdpxne.boujee.content.Translation;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.receiver.Receiver;
+
+/**
+ * Sends the translation of every locale to the receivers of that locale.
+ * <p>
+ * Each translation is resolved and rendered once for its locale, and the
+ * same instance is handed to every receiver that shares the locale.
+ *
+ * @since 0.3.0
+ */
+public class BroadcastChoices
+  implements SendChoices {
+
+  protected final List<Receiver> receivers;
+  protected final Map<LocaleSource, List<Receiver>> receiversByLocale;
+  protected final Map<LocaleSource, Translation<?>> translations;
+
+  /**
+   * @since 0.3.0
+   */
+  public BroadcastChoices(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, List<Receiver>> receiversByLocale,
+    final Map<LocaleSource, Translation<?>> translations
+  ) {
+    if (null == receivers) {
+      throw new NullPointerException(
+        "The passed collection of receivers must not be null."
+      );
+    }
+    if (null == receiversByLocale) {
+      throw new NullPointerException(
+        "The passed receivers by locale must not be null."
+      );
+    }
+    if (null == translations) {
+      throw new NullPointerException(
+        "The passed translations must not be null."
+      );
+    }
+    this.receivers = receivers;
+    this.receiversByLocale = receiversByLocale;
+    this.translations = translations;
+  }
+
+  /**
+   * Returns the receivers to send to.
+   *
+   * @since 0.3.0
+   */
+  public List<Receiver> getReceivers() {
+    return Collections.unmodifiableList(this.receivers);
+  }
+
+  /**
+   * Returns the receivers grouped by their locale sources.
+   *
+   * @since 0.3.0
+   */
+  public Map<LocaleSource, List<Receiver>> getReceiversByLocale() {
+    return Collections.unmodifiableMap(this.receiversByLocale);
+  }
+
+  /**
+   * Returns the rendered translation of every locale.
+   *
+   * @since 0.3.0
+   */
+  public Map<LocaleSource, Translation<?>> getTranslations() {
+    return Collections.unmodifiableMap(this.translations);
+  }
+
+  /**
+   * Returns the rendered translation of the given locale, shared by all of
+   * its receivers.
+   *
+   * @since 0.3.0
+   */
+  protected Translation<?> findTranslation(
+    final LocaleSource localeSource
+  ) {
+    final Translation<?> translation = this.translations.get(localeSource);
+    if (null == translation) {
+      throw new IllegalStateException(
+        "No translation was found for the \"" + localeSource.getLocalization()
+          + "\" locale source."
+      );
+    }
+    return translation;
+  }
+
+  /**
+   * Passes every receiver with the translation of its locale to the given
+   * action, looking up each translation once per locale.
+   *
+   * @since 0.3.0
+   */
+  public void forEach(
+    final BiConsumer<? super Receiver, ? super Translation<?>> action
+  ) {
+    if (null == action) {
+      throw new NullPointerException("The passed action must not be null.");
+    }
+    for (final Map.Entry<LocaleSource, List<Receiver>> entry :
+      this.receiversByLocale.entrySet()
+    ) {
+      final Translation<?> translation = this.findTranslation(entry.getKey());
+      for (final Receiver receiver : entry.getValue()) {
+        action.accept(receiver, translation);
+      }
+    }
+  }
+}
@@ -0,0 +1,186 @@
+package me.kvdpxne.boujee.chains;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import me.kvdpxne.boujee.TranslationService;
+import me.kvdpxne.boujee.content.Replaceable;
+import me.kvdpxne.boujee.content.Replacements;
+import me.kvdpxne.boujee.content.Replacer;
+import me.kvdpxne.boujee.content.Translation;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.receiver.Receiver;
+
+/**
+ * A broadcast of one translation to a fixed group of receivers, prepared
+ * once and sent any number of times.
+ * <p>
+ * The receivers are grouped by locale and the translation of every locale
+ * is resolved when the plan is created, so a send only renders each
+ * locale's translation with the replacer of that send. A plan is immutable
+ * and may be sent from several threads at once. It keeps the translations
+ * it resolved, so it has to be created again after the translations of the
+ * service are updated, or when its receivers change.
+ *
+ * @since 0.3.0
+ */
+public final class BroadcastPlan {
+
+  private final List<Receiver> receivers;
+  private final Map<LocaleSource, List<Receiver>> receiversByLocale;
+
+  /**
+   * The service the translations were resolved through, which renders every
+   * send. Never null.
+   */
+  private final TranslationService translationService;
+
+  /**
+   * The locale sources, groups of receivers and resolved translations, at
+   * the same index for the same locale.
+   */
+  private final LocaleSource[] localeSources;
+  private final List<?>[] groups;
+  private final Translation<?>[] templates;
+
+  /**
+   * The choices of a send without replacements, the same for every send.
+   */
+  private final BroadcastChoices unreplaced;
+
+  BroadcastPlan(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, List<Receiver>> receiversByLocale,
+    final Map<LocaleSource, Translation<?>> templates,
+    final TranslationService translationService
+  ) {
+    this.receivers = receivers;
+    this.receiversByLocale = receiversByLocale;
+    this.translationService = translationService;
+
+    final int numberOfLocales = receiversByLocale.size();
+    this.localeSources = new LocaleSource[numberOfLocales];
+    this.groups = new List<?>[numberOfLocales];
+    this.templates = new Translation<?>[numberOfLocales];
+    int index = 0;
+    for (final Map.Entry<LocaleSource, List<Receiver>> entry :
+      receiversByLocale.entrySet()
+    ) {
+      this.localeSources[index] = entry.getKey();
+      this.groups[index] = entry.getValue();
+      this.templates[index] = templates.get(entry.getKey());
+      ++index;
+    }
+
+    this.unreplaced = new BroadcastChoices(
+      receivers,
+      receiversByLocale,
+      Collections.unmodifiableMap(new LinkedHashMap<>(templates))
+    );
+  }
+
+  /**
+   * Returns the receivers of this plan.
+   *
+   * @since 0.3.0
+   */
+  public List<Receiver> getReceivers() {
+    return this.receivers;
+  }
+
+  /**
+   * Returns the number of distinct locales of the receivers, which is the
+   * number of translations rendered by every send.
+   *
+   * @since 0.3.0
+   */
+  public int getNumberOfLocales() {
+    return this.localeSources.length;
+  }
+
+  /**
+   * Renders the given translation for the locale at the given index.
+   */
+  private Translation<?> render(
+    final int index,
+    final Replacements replacements
+  ) {
+    final Translation<?> template = this.templates[index];
+    if (!(template instanceof Replaceable<?>)) {
+      return template;
+    }
+    final Replaceable<?> replaceable = (Replaceable<?>) template;
+    final LocaleSource localeSource = this.localeSources[index];
+    return (Translation<?>) this.translationService.replace(
+      replaceable,
+      replacements,
+      localeSource
+    );
+  }
+
+  /**
+   * Renders the translation of every locale once with the given replacer
+   * and returns the choices of sending them.
+   *
+   * @param replacer the replacements of this send
+   * @return the choices of sending the rendered translations
+   * @throws NullPointerException if replacer is null
+   * @since 0.3.0
+   */
+  public BroadcastChoices replace(final Replacer replacer) {
+    if (null == replacer) {
+      throw new NullPointerException("The passed replacer must not be null.");
+    }
+    final Replacements replacements = replacer.getView();
+    final Map<LocaleSource, Translation<?>> translations =
+      new LinkedHashMap<>(2 * this.localeSources.length);
+    for (int i = 0; i < this.localeSources.length; ++i) {
+      translations.put(this.localeSources[i], this.render(i, replacements));
+    }
+    return new BroadcastChoices(
+      this.receivers,
+      this.receiversByLocale,
+      translations
+    );
+  }
+
+  /**
+   * Returns the choices of sending the resolved translations as they are.
+   *
+   * @since 0.3.0
+   */
+  public BroadcastChoices skip() {
+    return this.unreplaced;
+  }
+
+  /**
+   * Renders the translation of every locale once with the given replacer
+   * and passes every receiver with the translation of its locale to the
+   * given action, without collecting the rendered translations.
+   *
+   * @param replacer the replacements of this send
+   * @param action   the action to pass every receiver to
+   * @throws NullPointerException if replacer or action is null
+   * @since 0.3.0
+   */
+  public void forEach(
+    final Replacer replacer,
+    final BiConsumer<? super Receiver, ? super Translation<?>> action
+  ) {
+    if (null == replacer) {
+      throw new NullPointerException("The passed replacer must not be null.");
+    }
+    if (null == action) {
+      throw new NullPointerException("The passed action must not be null.");
+    }
+    final Replacements replacements = replacer.getView();
+    for (int i = 0; i < this.localeSources.length; ++i) {
+      final Translation<?> translation = this.render(i, replacements);
+      for (final Object receiver : this.groups[i]) {
+        action.accept((Receiver) receiver, translation);
+      }
+    }
+  }
+}
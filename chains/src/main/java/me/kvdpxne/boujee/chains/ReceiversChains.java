@@ -1,5 +1,11 @@
 package me.kvdpxne.boujee.chains;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.receiver.Receiver;
 
 /**
@@ -58,8 +64,9 @@ public final class ReceiversChains {
     }
 
     final Receiver[] receiversArray = new Receiver[size];
+    size = 0;
     for (final Receiver receiver : receivers) {
-      receiversArray[--size] = receiver;
+      receiversArray[size++] = receiver;
     }
 
     return new TranslationChains(receiversArray);
@@ -117,4 +124,46 @@ public final class ReceiversChains {
 
     return new TranslationChains(new Receiver[]{receiver});
   }
+
+  /**
+   * Groups the given receivers by their {@link LocaleSource}, so everything
+   * rendered for a locale is rendered once and shared by all of its
+   * receivers.
+   * <p>
+   * Locales are kept in the order of their first receiver, and receivers in
+   * the order they were given.
+   *
+   * @param receivers an {@link Iterable} of {@link Receiver} objects.
+   * @return an unmodifiable map of every locale source to its receivers.
+   * @throws NullPointerException if the provided collection of receivers or
+   *                              any receiver is {@code null}.
+   * @since 0.3.0
+   */
+  public static Map<LocaleSource, List<Receiver>> groupByLocale(
+    final Iterable<? extends Receiver> receivers
+  ) {
+    if (null == receivers) {
+      throw new NullPointerException(
+        "The passed collection of receivers must not be null."
+      );
+    }
+
+    final Map<LocaleSource, List<Receiver>> groups = new LinkedHashMap<>();
+    for (final Receiver receiver : receivers) {
+      if (null == receiver) {
+        throw new NullPointerException(
+          "The passed collection of receivers must not contain null."
+        );
+      }
+      groups.computeIfAbsent(
+        receiver.getLocaleSource(),
+        (LocaleSource ignored) -> new ArrayList<>()
+      ).add(receiver);
+    }
+
+    for (final Map.Entry<LocaleSource, List<Receiver>> entry : groups.entrySet()) {
+      entry.setValue(Collections.unmodifiableList(entry.getValue()));
+    }
+    return Collections.unmodifiableMap(groups);
+  }
 }
@@ -1,11 +1,10 @@
 package me.kvdpxne.boujee.chains;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import me.kvdpxne.boujee.content.Translation;
 import me.kvdpxne.boujee.TranslationKeyProvider;
 import me.kvdpxne.boujee.TranslationService;
@@ -15,7 +14,14 @@ import me.kvdpxne.boujee.receiver.Receiver;
 public final class TranslationChains {
 
   private final List<Receiver> receivers;
-  private final Map<LocaleSource, Translation<?>> translations;
+
+  /**
+   * The receivers grouped by their locale sources, once for every
+   * translation sent through this chain.
+   *
+   * @since 0.3.0
+   */
+  private final Map<LocaleSource, List<Receiver>> receiversByLocale;
 
   TranslationChains(
     final Receiver[] receivers
@@ -26,44 +32,97 @@ public final class TranslationChains {
       );
     }
 
-    final Set<LocaleSource> locales = new HashSet<>();
-    for (final Receiver receiver : receivers) {
-      locales.add(receiver.getLocaleSource());
-    }
-
-    this.receivers = new ArrayList<>(receivers.length);
-    this.translations = new HashMap<>(locales.size());
+    this.receivers = Collections.unmodifiableList(
+      Arrays.asList(receivers.clone())
+    );
+    this.receiversByLocale = ReceiversChains.groupByLocale(this.receivers);
   }
 
   public TranslationReplacerChains message(
     final TranslationKeyProvider translationKeyProvider,
     final TranslationService translationService
   ) {
-    for (final Receiver receiver : this.receivers) {
-      this.translations.put(
-        receiver.getLocaleSource(),
+    final Map<LocaleSource, Translation<?>> translations =
+      new LinkedHashMap<>(this.receiversByLocale.size() * 2);
+    // Every receiver of a group shares its locale, so any of them finds the
+    // translation of the whole group
+    for (final Map.Entry<LocaleSource, List<Receiver>> entry :
+      this.receiversByLocale.entrySet()
+    ) {
+      translations.put(
+        entry.getKey(),
         translationService.findMessageOrDefault(
-          receiver,
+          entry.getValue().get(0),
           translationKeyProvider
         )
       );
     }
-    return new TranslationReplacerChains(this.receivers, this.translations);
+    return new TranslationReplacerChains(
+      this.receivers,
+      this.receiversByLocale,
+      translations,
+      translationService
+    );
   }
 
   public TranslationReplacerChains text(
     final TranslationKeyProvider translationKeyProvider,
     final TranslationService translationService
   ) {
-    for (final Receiver receiver : this.receivers) {
-      this.translations.put(
-        receiver.getLocaleSource(),
+    final Map<LocaleSource, Translation<?>> translations =
+      new LinkedHashMap<>(this.receiversByLocale.size() * 2);
+    for (final Map.Entry<LocaleSource, List<Receiver>> entry :
+      this.receiversByLocale.entrySet()
+    ) {
+      translations.put(
+        entry.getKey(),
         translationService.findTextOrDefault(
-          receiver,
+          entry.getValue().get(0),
           translationKeyProvider
         )
       );
     }
-    return new TranslationReplacerChains(this.receivers, this.translations);
+    return new TranslationReplacerChains(
+      this.receivers,
+      this.receiversByLocale,
+      translations,
+      translationService
+    );
+  }
+
+  /**
+   * Resolves the message of the given key for every locale of the
+   * receivers once, for a plan sent any number of times.
+   *
+   * @since 0.3.0
+   */
+  public BroadcastPlan planMessage(
+    final TranslationKeyProvider translationKeyProvider,
+    final TranslationService translationService
+  ) {
+    return new BroadcastPlan(
+      this.receivers,
+      this.receiversByLocale,
+      this.message(translationKeyProvider, translationService).translations,
+      translationService
+    );
+  }
+
+  /**
+   * Resolves the text of the given key for every locale of the receivers
+   * once, for a plan sent any number of times.
+   *
+   * @since 0.3.0
+   */
+  public BroadcastPlan planText(
+    final TranslationKeyProvider translationKeyProvider,
+    final TranslationService translationService
+  ) {
+    return new BroadcastPlan(
+      this.receivers,
+      this.receiversByLocale,
+      this.text(translationKeyProvider, translationService).translations,
+      translationService
+    );
   }
 }
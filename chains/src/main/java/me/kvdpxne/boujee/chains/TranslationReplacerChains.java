@@ -3,6 +3,9 @@ package me.kvdpxne.boujee.chains;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import me.kvdpxne.boujee.TranslationService;
+import me.kvdpxne.boujee.content.ContentTransformer;
+import me.kvdpxne.boujee.content.Replacements;
 import me.kvdpxne.boujee.content.Replacer;
 import me.kvdpxne.boujee.content.Translation;
 import me.kvdpxne.boujee.locale.LocaleSource;
@@ -12,17 +15,91 @@ import me.kvdpxne.boujee.content.Replaceable;
 public class TranslationReplacerChains {
 
   protected final List<Receiver> receivers;
+
+  /**
+   * The receivers grouped by their locale sources, in the order of the
+   * translations.
+   *
+   * @since 0.3.0
+   */
+  protected final Map<LocaleSource, List<Receiver>> receiversByLocale;
+
   protected final Map<LocaleSource, Translation<?>> translations;
 
+  /**
+   * The service used to render the translations, or null to render them
+   * directly.
+   *
+   * @since 0.3.0
+   */
+  protected final TranslationService translationService;
+
+  /**
+   * The transformer of the placeholder values rendered without a service, or
+   * null to render them as they are.
+   *
+   * @since 0.3.0
+   */
+  protected final ContentTransformer valueTransformer;
+
+  /**
+   * @since 0.3.0
+   */
   TranslationReplacerChains(
     final List<Receiver> receivers,
-    final Map<LocaleSource, Translation<?>> translations
+    final Map<LocaleSource, List<Receiver>> receiversByLocale,
+    final Map<LocaleSource, Translation<?>> translations,
+    final TranslationService translationService
+  ) {
+    this.receivers = receivers;
+    this.receiversByLocale = receiversByLocale;
+    this.translations = translations;
+    this.translationService = translationService;
+    this.valueTransformer = null;
+  }
+
+  /**
+   * Renders without a service, passing the placeholder values through the
+   * given transformer.
+   *
+   * @since 0.3.0
+   */
+  TranslationReplacerChains(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, Translation<?>> translations,
+    final ContentTransformer valueTransformer
   ) {
     this.receivers = receivers;
+    this.receiversByLocale = ReceiversChains.groupByLocale(receivers);
     this.translations = translations;
+    this.translationService = null;
+    this.valueTransformer = valueTransformer;
+  }
+
+  TranslationReplacerChains(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, Translation<?>> translations,
+    final TranslationService translationService
+  ) {
+    this(
+      receivers,
+      ReceiversChains.groupByLocale(receivers),
+      translations,
+      translationService
+    );
+  }
+
+  TranslationReplacerChains(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, Translation<?>> translations
+  ) {
+    this(receivers, translations, (TranslationService) null);
   }
 
   /**
+   * Renders the translation of every locale once with the same replacements,
+   * which every receiver of that locale then shares.
+   *
    * @since 0.1.0
    */
   protected void performReplace(
@@ -32,6 +109,9 @@ public class TranslationReplacerChains {
       throw new IllegalArgumentException("Supplier cannot be null");
     }
 
+    // The replacements do not depend on the locale, so they are built once,
+    // and only if there is anything to replace
+    Replacements replacements = null;
     for (final Map.Entry<LocaleSource, Translation<?>> entry :
       this.translations.entrySet()
     ) {
@@ -41,11 +121,20 @@ public class TranslationReplacerChains {
       }
 
       final Replaceable<?> replaceable = (Replaceable<?>) translation;
-      final Replacer replacer = replacerSupplier.get();
+      if (null == replacements) {
+        final Replacer replacer = replacerSupplier.get();
+        replacements = replacer.getView();
+        // The service applies its own value policy
+        if (null == this.translationService && null != this.valueTransformer) {
+          replacements = this.valueTransformer.transformValues(replacements);
+        }
+      }
 
-      this.translations.put(
-        entry.getKey(),
-        (Translation<?>) replaceable.replace(replacer.getReplacements())
+      // Going through the service lets it reuse already rendered content
+      entry.setValue(
+        (Translation<?>) (null == this.translationService
+          ? replaceable.replace(replacements, entry.getKey())
+          : this.translationService.replace(replaceable, replacements, entry.getKey()))
       );
     }
   }
@@ -56,13 +145,28 @@ public class TranslationReplacerChains {
   public <T extends SendChoices> T replace(
     final Supplier<Replacer> replacerSupplier
   ) {
-    throw new UnsupportedOperationException("");
+    this.performReplace(replacerSupplier);
+    // The caller names the choices it expects, which it has to match
+    @SuppressWarnings("unchecked")
+    final T choices = (T) new BroadcastChoices(
+      this.receivers,
+      this.receiversByLocale,
+      this.translations
+    );
+    return choices;
   }
 
   /**
    * @since 0.1.0
    */
   public <T extends SendChoices> T skip() {
-    throw new UnsupportedOperationException("");
+    // The caller names the choices it expects, which it has to match
+    @SuppressWarnings("unchecked")
+    final T choices = (T) new BroadcastChoices(
+      this.receivers,
+      this.receiversByLocale,
+      this.translations
+    );
+    return choices;
   }
 }
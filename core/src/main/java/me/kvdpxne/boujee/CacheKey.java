@@ -19,6 +19,10 @@ final class CacheKey {
     this.isMessage = isMessage;
   }
 
+  int getLocaleHash() {
+    return localeHash;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) return true;
@@ -1,17 +1,35 @@
 package me.kvdpxne.boujee;
 
 import java.util.Collection;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import me.kvdpxne.boujee.content.ContentInterner;
+import me.kvdpxne.boujee.content.ContentTransformer;
+import me.kvdpxne.boujee.content.Replaceable;
+import me.kvdpxne.boujee.content.Replacements;
 import me.kvdpxne.boujee.exceptions.InvalidCacheSizeException;
 import me.kvdpxne.boujee.exceptions.LocaleNotSupportedException;
 import me.kvdpxne.boujee.exceptions.TranslationKeyNotFoundException;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
 import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.locale.LocaleSourceProvider;
 import me.kvdpxne.boujee.locale.LocaleTranslations;
+import me.kvdpxne.boujee.content.Translation;
 import me.kvdpxne.boujee.content.message.TranslationMessage;
 import me.kvdpxne.boujee.content.text.TranslationText;
+import me.kvdpxne.boujee.replace.Templated;
 
 
 /**
@@ -20,11 +38,21 @@ import me.kvdpxne.boujee.content.text.TranslationText;
  * @since 0.2.1
  */
 public class DefaultTranslationService implements TranslationService {
-  private final ConcurrentMap<LocaleSource, LocaleTranslations> translations
+  private volatile ConcurrentMap<LocaleSource, LocaleTranslations> translations
     = new ConcurrentHashMap<>();
   private final TranslationCache translationCache;
   private volatile CacheSizeMode cacheSizeMode = CacheSizeMode.DEFAULT;
   private volatile int manualCacheSize = 1000;
+  private volatile RenderCache renderCache = null;
+  private volatile TemplateCompileMode templateCompileMode = TemplateCompileMode.EAGER;
+  private volatile boolean contentInterning = true;
+  private volatile ContentTransformer contentTransformer;
+  private volatile LoadMetrics loadMetrics = LoadMetrics.EMPTY;
+  private volatile KeyRegistry keyRegistry = KeyRegistry.global();
+  private volatile ConcurrentMap<LocaleSource, LazyLocale> lazyLocales
+    = new ConcurrentHashMap<>();
+  private volatile long idleUnloadTimeoutNanos = 0L;
+  private volatile long nextIdleSweepNanos = 0L;
 
   private volatile LocaleSource defaultLocaleSource = null;
   private volatile LocaleTranslations defaultLocaleTranslations = null;
@@ -191,7 +219,134 @@ public class DefaultTranslationService implements TranslationService {
    * @since 0.2.1
    */
   public String getCacheStatistics() {
-    return translationCache.getStatistics();
+    final RenderCache renderCache = this.renderCache;
+    if (null == renderCache) {
+      return translationCache.getStatistics();
+    }
+    return translationCache.getStatistics() + "; " + renderCache.getStatistics();
+  }
+
+  /**
+   * Enables caching of rendered translations, replacing the current render
+   * cache if one is already enabled.
+   * <p>
+   * Once enabled, {@link #replace(Replaceable, Map)} returns the previously
+   * rendered instance when the same translation is rendered again with the
+   * same placeholder values.
+   *
+   * @param maxSize the maximum number of rendered translations to keep,
+   *                rounded up to a multiple of a small bucket size
+   * @throws InvalidCacheSizeException if maxSize is <= 0
+   * @since 0.3.0
+   */
+  public void enableRenderCache(final int maxSize) {
+    this.renderCache = new RenderCache(maxSize);
+  }
+
+  /**
+   * Disables caching of rendered translations and releases the cached
+   * entries.
+   *
+   * @since 0.3.0
+   */
+  public void disableRenderCache() {
+    this.renderCache = null;
+  }
+
+  /**
+   * Gets the hit rate of the render cache since it was enabled, across
+   * reloads of the translations.
+   *
+   * @return the render cache hit rate as a percentage, or 0 if the render
+   * cache is disabled
+   * @since 0.3.0
+   */
+  public double getRenderCacheHitRate() {
+    final RenderCache renderCache = this.renderCache;
+    return null == renderCache ? 0.0 : renderCache.getHitRate();
+  }
+
+  @Override
+  public <T extends Replaceable<T>> T replace(
+    final Replaceable<T> replaceable,
+    final Map<char[], char[]> values
+  ) {
+    if (null == replaceable) {
+      throw new NullPointerException("The passed replaceable must not be null.");
+    }
+    if (null == values) {
+      throw new NullPointerException("The passed values must not be null.");
+    }
+    final Map<char[], char[]> transformedValues = this.transformValues(values);
+    final RenderCache renderCache = this.renderCache;
+    if (null == renderCache) {
+      return replaceable.replace(transformedValues);
+    }
+    return renderCache.replace(replaceable, transformedValues);
+  }
+
+  @Override
+  public <T extends Replaceable<T>> T replace(
+    final Replaceable<T> replaceable,
+    final Replacements replacements,
+    final LocaleSourceProvider localeSourceProvider
+  ) {
+    if (null == replaceable) {
+      throw new NullPointerException("The passed replaceable must not be null.");
+    }
+    if (null == replacements) {
+      throw new NullPointerException("The passed replacements must not be null.");
+    }
+    final LocaleSource localeSource = null == localeSourceProvider
+      ? null
+      : localeSourceProvider.getLocaleSource();
+    final ContentTransformer transformer = this.contentTransformer;
+    final Replacements transformedReplacements = null == transformer
+      ? replacements
+      : transformer.transformValues(replacements);
+    final RenderCache renderCache = this.renderCache;
+    if (null == renderCache) {
+      return replaceable.replace(transformedReplacements, localeSource);
+    }
+    return renderCache.replace(replaceable, transformedReplacements, localeSource);
+  }
+
+  /**
+   * Passes the given values through the content transformer, if there is
+   * one, copying the map only if a value changed.
+   *
+   * @since 0.3.0
+   */
+  private Map<char[], char[]> transformValues(
+    final Map<char[], char[]> values
+  ) {
+    final ContentTransformer transformer = this.contentTransformer;
+    if (null == transformer) {
+      return values;
+    }
+    Map<char[], char[]> transformed = null;
+    for (final Map.Entry<char[], char[]> entry : values.entrySet()) {
+      final char[] value = transformer.transformValue(entry.getValue());
+      if (value != entry.getValue()) {
+        if (null == transformed) {
+          transformed = new LinkedHashMap<>(values);
+        }
+        transformed.put(entry.getKey(), value);
+      }
+    }
+    return null == transformed ? values : transformed;
+  }
+
+  /**
+   * Clears the render cache if it is enabled.
+   *
+   * @since 0.3.0
+   */
+  private void clearRenderCache() {
+    final RenderCache renderCache = this.renderCache;
+    if (null != renderCache) {
+      renderCache.clear();
+    }
   }
 
   /**
@@ -215,31 +370,370 @@ public class DefaultTranslationService implements TranslationService {
   }
 
   /**
-   * Clears the translation cache when translations are updated.
+   * Gets when the templates of loaded translations are compiled.
+   *
+   * @return the template compile mode
+   * @since 0.3.0
+   */
+  public TemplateCompileMode getTemplateCompileMode() {
+    return this.templateCompileMode;
+  }
+
+  /**
+   * Sets when the templates of translations loaded from now on are compiled.
+   * <p>
+   * With {@link TemplateCompileMode#EAGER}, the default, every
+   * {@link Templated} translation is compiled by
+   * {@link #updateTranslations(Collection)}, in parallel across locales. With
+   * {@link TemplateCompileMode#LAZY}, templates are compiled on first render.
+   *
+   * @param templateCompileMode the template compile mode
+   * @throws NullPointerException if templateCompileMode is null
+   * @since 0.3.0
+   */
+  public void setTemplateCompileMode(
+    final TemplateCompileMode templateCompileMode
+  ) {
+    if (null == templateCompileMode) {
+      throw new NullPointerException("The passed template compile mode must not be null.");
+    }
+    this.templateCompileMode = templateCompileMode;
+  }
+
+  /**
+   * Checks whether identical content is deduplicated across locales when
+   * translations are loaded.
+   *
+   * @return true if content is interned during loading, false otherwise
+   * @since 0.3.0
+   */
+  public boolean isContentInterning() {
+    return this.contentInterning;
+  }
+
+  /**
+   * Sets whether identical content is deduplicated across locales when
+   * translations are loaded from now on.
+   * <p>
+   * When enabled, the default, every {@link BasicLocaleTranslations} passed to
+   * {@link #updateTranslations(Collection)} is passed through one
+   * {@link ContentInterner} shared by all locales of the load, and the saved
+   * memory is reported by {@link LoadMetrics#getBytesSaved()}.
+   *
+   * @param contentInterning whether to intern content during loading
+   * @since 0.3.0
+   */
+  public void setContentInterning(final boolean contentInterning) {
+    this.contentInterning = contentInterning;
+  }
+
+  /**
+   * Gets the transformer of the content of translations loaded into this
+   * service.
+   *
+   * @return the content transformer, or null if content is not transformed
+   * @since 0.3.0
+   */
+  public ContentTransformer getContentTransformer() {
+    return this.contentTransformer;
+  }
+
+  /**
+   * Sets the transformer of the content of translations loaded from now on,
+   * and of the placeholder values rendered from now on.
+   * <p>
+   * The content of every loaded {@link BasicLocaleTranslations} is
+   * transformed once, before it is interned, diffed and compiled. Other
+   * locale translations, such as those read from a bundle, cannot be
+   * transformed in place, so loading them is rejected while a transformer
+   * is set. Every value rendered by the {@code replace} methods of this
+   * service passes through {@link ContentTransformer#transformValue(char[])}.
+   * Translations already loaded are not transformed again, so this should be
+   * set before anything is loaded.
+   *
+   * @param contentTransformer the content transformer, or null to keep
+   *                           content as it is
+   * @since 0.3.0
+   */
+  public void setContentTransformer(
+    final ContentTransformer contentTransformer
+  ) {
+    this.contentTransformer = contentTransformer;
+  }
+
+  /**
+   * Gets the registry of the keys of the translations loaded into this
+   * service.
+   *
+   * @return the key registry
+   * @since 0.3.0
+   */
+  public KeyRegistry getKeyRegistry() {
+    return this.keyRegistry;
+  }
+
+  /**
+   * Sets the registry of the keys of the translations loaded from now on.
+   * <p>
+   * Fillers read translations into this registry, and a
+   * {@link BasicLocaleTranslations} of any other registry is rejected on
+   * load. The default is the {@link KeyRegistry#global() global registry}.
+   * A service with a registry of its own numbers its keys from 0, however
+   * many keys other services of the JVM hold, so arrays indexed by the
+   * ordinals of its keys stay compact. This should be set before anything
+   * is loaded, as the keys of loaded translations do not change.
+   *
+   * @param keyRegistry the key registry
+   * @throws NullPointerException if keyRegistry is null
+   * @since 0.3.0
+   */
+  public void setKeyRegistry(final KeyRegistry keyRegistry) {
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
+    this.keyRegistry = keyRegistry;
+  }
+
+  /**
+   * Checks that the given translations are keyed by the registry of this
+   * service, as keys of other registries would never be found.
+   *
+   * @throws IllegalArgumentException if the translations use another registry
+   * @since 0.3.0
+   */
+  private void checkKeyRegistry(
+    final LocaleTranslations translations
+  ) {
+    if (translations instanceof BasicLocaleTranslations
+      && this.keyRegistry != ((BasicLocaleTranslations) translations).getKeyRegistry()) {
+      throw new IllegalArgumentException(
+        "The translations of " + translations.getLocaleSource().getLocalization()
+          + " use another key registry than the service."
+      );
+    }
+  }
+
+  /**
+   * Checks that the content of the given translations can be transformed,
+   * as other translations would be served untransformed while rendered
+   * values are transformed.
+   *
+   * @throws IllegalArgumentException if a content transformer is given and
+   *                                  the translations are not basic ones
+   * @since 0.3.0
+   */
+  private static void checkContentTransformer(
+    final LocaleTranslations translations,
+    final ContentTransformer transformer
+  ) {
+    if (null != transformer
+      && !(translations instanceof BasicLocaleTranslations)) {
+      throw new IllegalArgumentException(
+        "The translations of " + translations.getLocaleSource().getLocalization()
+          + " cannot be transformed by the content transformer of the service."
+      );
+    }
+  }
+
+  /**
+   * Gets the metrics of the most recent successful translation load.
+   *
+   * @return the load metrics
+   * @since 0.3.0
+   */
+  public LoadMetrics getLoadMetrics() {
+    return this.loadMetrics;
+  }
+
+  /**
+   * Replaces the loaded translations, deduplicating their content and
+   * compiling their templates first unless disabled, and invalidates the
+   * cached entries of the replaced translations.
+   * <p>
+   * A {@link BasicLocaleTranslations} replacing a loaded one of the same
+   * locale keeps the loaded instances of every translation whose content
+   * did not change. When every locale is diffed this way, only the entries
+   * of the changed keys are invalidated. Otherwise both caches are cleared.
+   * <p>
+   * Updates of the loaded translations are serialized, so an update never
+   * diffs against or writes to translations another update is replacing.
    *
    * @since 0.2.1
    */
-  public void updateTranslations(
+  public synchronized void updateTranslations(
     final Collection<LocaleTranslations> translations
   ) {
     if (translations == null) {
       throw new NullPointerException("translations must not be null");
     }
 
-    this.translations.clear();
-    if (null == this.defaultLocaleSource) {
-      for (final LocaleTranslations localeTranslations : translations) {
-        if (localeTranslations == null) {
-          continue;
-        }
-        this.translations.put(
-          localeTranslations.getLocaleSource(),
-          localeTranslations
-        );
+    final long start = System.nanoTime();
+    final TemplateCompileMode compileMode = this.templateCompileMode;
+    final boolean compile = TemplateCompileMode.EAGER == compileMode;
+    final ContentInterner interner = this.contentInterning
+      ? new ContentInterner()
+      : null;
+    final Map<LocaleSource, Long> compileTimes = new LinkedHashMap<>();
+    final Map<LocaleSource, Set<TranslationKey>> changedKeys = new HashMap<>();
+    final List<Translation<?>> replaced = new ArrayList<>();
+    // Prepare before installing, so no render ever pays for compilation
+    final int numberOfTemplates = this.prepareTranslations(
+      translations,
+      interner,
+      compile,
+      compileTimes,
+      changedKeys,
+      replaced
+    );
+
+    this.installTranslations(translations, changedKeys, replaced);
+    this.loadMetrics = new LoadMetrics(
+      compileMode,
+      System.nanoTime() - start,
+      compileTimes,
+      numberOfTemplates,
+      null == interner ? 0L : interner.getBytesSaved(),
+      null == interner ? 0 : interner.getNumberOfDuplicates()
+    );
+  }
+
+  /**
+   * Interns the content, diffs against the loaded translations, and
+   * compiles the templates of every given locale in parallel, one fork-join
+   * task per locale.
+   *
+   * @param translations the translations to prepare
+   * @param interner     the interner shared by all locales, or null to keep
+   *                     the content as it is
+   * @param compile      whether to compile the templates
+   * @param compileTimes receives the compile time of every compiled locale
+   * @param changedKeys  receives the changed keys of every diffed locale
+   * @param replaced     receives the loaded translations that changed
+   * @return the number of compiled templates
+   * @since 0.3.0
+   */
+  private int prepareTranslations(
+    final Collection<LocaleTranslations> translations,
+    final ContentInterner interner,
+    final boolean compile,
+    final Map<LocaleSource, Long> compileTimes,
+    final Map<LocaleSource, Set<TranslationKey>> changedKeys,
+    final List<Translation<?>> replaced
+  ) {
+    final ContentTransformer transformer = this.contentTransformer;
+    final List<LoadTask> tasks = new ArrayList<>(translations.size());
+    for (final LocaleTranslations localeTranslations : translations) {
+      if (null != localeTranslations) {
+        this.checkKeyRegistry(localeTranslations);
+        checkContentTransformer(localeTranslations, transformer);
+        tasks.add(new LoadTask(
+          localeTranslations,
+          this.findLoadedTranslationsOrNull(localeTranslations.getLocaleSource()),
+          interner,
+          transformer,
+          compile
+        ));
+      }
+    }
+    // Runs one task on the calling thread and forks the rest into the common pool
+    ForkJoinTask.invokeAll(tasks);
+
+    int numberOfTemplates = 0;
+    for (final LoadTask task : tasks) {
+      numberOfTemplates += task.join();
+      final LocaleSource localeSource = task.translations.getLocaleSource();
+      if (compile) {
+        compileTimes.put(localeSource, task.compileTimeNanos);
+      }
+      if (null != task.changedKeys) {
+        changedKeys.put(localeSource, task.changedKeys);
+        replaced.addAll(task.replaced);
       }
+    }
+    return numberOfTemplates;
+  }
+
+  /**
+   * Finds the loaded translations of the given locale without decoding a
+   * lazy locale.
+   *
+   * @param localeSource the locale source
+   * @return the loaded translations, or null if none are loaded
+   * @since 0.3.0
+   */
+  private LocaleTranslations findLoadedTranslationsOrNull(
+    final LocaleSource localeSource
+  ) {
+    LocaleTranslations translations = this.translations.get(localeSource);
+    if (null == translations) {
+      final LazyLocale lazyLocale = this.lazyLocales.get(localeSource);
+      if (null != lazyLocale) {
+        translations = lazyLocale.getIfLoaded();
+      }
+    }
+    if (null == translations) {
+      final LocaleTranslations defaultLocaleTranslations = this.defaultLocaleTranslations;
+      if (null != defaultLocaleTranslations
+        && localeSource.equals(defaultLocaleTranslations.getLocaleSource())) {
+        translations = defaultLocaleTranslations;
+      }
+    }
+    return translations;
+  }
+
+  /**
+   * Invalidates the cached entries of the translations replaced by an
+   * update.
+   *
+   * @param previousLocales the locales loaded before the update
+   * @param nextLocales     the locales loaded by the update
+   * @param changedKeys     the changed keys of every diffed locale
+   * @param replaced        the loaded translations that changed
+   * @since 0.3.0
+   */
+  private void invalidateReplaced(
+    final Collection<LocaleSource> previousLocales,
+    final Collection<LocaleSource> nextLocales,
+    final Map<LocaleSource, Set<TranslationKey>> changedKeys,
+    final List<Translation<?>> replaced
+  ) {
+    if (!changedKeys.keySet().containsAll(nextLocales)) {
+      this.translationCache.clear();
+      this.clearRenderCache();
       return;
     }
+    for (final LocaleSource localeSource : previousLocales) {
+      if (!nextLocales.contains(localeSource)) {
+        this.translationCache.invalidate(localeSource);
+      }
+    }
+    for (final Map.Entry<LocaleSource, Set<TranslationKey>> entry : changedKeys.entrySet()) {
+      this.translationCache.invalidate(entry.getKey(), entry.getValue());
+    }
+    final RenderCache renderCache = this.renderCache;
+    if (null != renderCache) {
+      renderCache.invalidate(replaced);
+    }
+  }
 
+  /**
+   * Installs the given translations in place of the loaded ones.
+   * <p>
+   * The translations are collected into a new map that replaces the loaded
+   * one in a single write, so concurrent lookups see either all of the old
+   * locales or all of the new ones, and a failed update changes nothing.
+   *
+   * @since 0.3.0
+   */
+  private void installTranslations(
+    final Collection<LocaleTranslations> translations,
+    final Map<LocaleSource, Set<TranslationKey>> changedKeys,
+    final List<Translation<?>> replaced
+  ) {
+    final ConcurrentMap<LocaleSource, LocaleTranslations> next =
+      new ConcurrentHashMap<>(Math.max(16, 2 * translations.size()));
+    final LocaleSource defaultLocaleSource = this.defaultLocaleSource;
+    LocaleTranslations defaultLocaleTranslations = this.defaultLocaleTranslations;
     boolean defaultFound = false;
     for (final LocaleTranslations localeTranslations : translations) {
       if (localeTranslations == null) {
@@ -247,34 +741,297 @@ public class DefaultTranslationService implements TranslationService {
       }
 
       final LocaleSource source = localeTranslations.getLocaleSource();
-      if (source.equals(this.defaultLocaleSource)) {
-        this.translations.put(source, localeTranslations);
+      next.put(source, localeTranslations);
+      if (null != defaultLocaleSource && source.equals(defaultLocaleSource)) {
+        defaultLocaleTranslations = localeTranslations;
         defaultFound = true;
-        continue;
       }
-      this.defaultLocaleTranslations = localeTranslations;
-      this.defaultLocaleSource = source;
     }
 
-    if (!defaultFound && this.defaultLocaleSource != null) {
+    if (null != defaultLocaleSource && !defaultFound) {
+      throw new LocaleNotSupportedException(
+        "Default locale source not found in provided translations: " +
+          defaultLocaleSource.getLocalization()
+      );
+    }
+
+    final Set<LocaleSource> previousLocales = new HashSet<>(this.translations.keySet());
+    previousLocales.addAll(this.lazyLocales.keySet());
+    final LocaleTranslations previousDefault = this.defaultLocaleTranslations;
+    if (null != previousDefault) {
+      previousLocales.add(previousDefault.getLocaleSource());
+    }
+    final Set<LocaleSource> nextLocales = new HashSet<>();
+    for (final LocaleTranslations localeTranslations : translations) {
+      if (null != localeTranslations) {
+        nextLocales.add(localeTranslations.getLocaleSource());
+      }
+    }
+
+    this.translations = next;
+    this.lazyLocales = new ConcurrentHashMap<>();
+    this.defaultLocaleTranslations = defaultLocaleTranslations;
+
+    // Cached and rendered instances of the replaced translations must not be served
+    this.invalidateReplaced(previousLocales, nextLocales, changedKeys, replaced);
+  }
+
+  /**
+   * Replaces the translations of a single locale, or adds the locale if it
+   * is not loaded yet, leaving every other locale untouched.
+   * <p>
+   * The translations are compiled according to the
+   * {@link #getTemplateCompileMode() template compile mode} before they are
+   * installed.
+   * <p>
+   * A {@link BasicLocaleTranslations} replacing a loaded one keeps the loaded
+   * instances of every translation whose content did not change, and only
+   * the cached and rendered entries of the changed keys are invalidated, so
+   * a typo fix leaves the cache hit rate intact. Otherwise all translation
+   * cache entries of the locale are invalidated, and rendered instances of
+   * the replaced translations, never served again, age out of the render
+   * cache. Like every update, it waits for the update in progress, such as
+   * a full reload, to complete first.
+   *
+   * @param translations the new translations of the locale
+   * @return the replaced translations, or null if the locale was not loaded
+   * @throws NullPointerException     if translations is null
+   * @throws IllegalArgumentException if a content transformer is set and
+   *                                  the translations are not basic ones
+   * @since 0.3.0
+   */
+  public synchronized LocaleTranslations updateLocaleTranslations(
+    final LocaleTranslations translations
+  ) {
+    if (null == translations) {
+      throw new NullPointerException("The passed translations must not be null.");
+    }
+    this.checkKeyRegistry(translations);
+    final ContentTransformer transformer = this.contentTransformer;
+    checkContentTransformer(translations, transformer);
+    final LocaleSource localeSource = translations.getLocaleSource();
+    final LocaleTranslations previous = this.findLoadedTranslationsOrNull(localeSource);
+    final LoadTask task = new LoadTask(
+      translations,
+      previous,
+      null,
+      transformer,
+      TemplateCompileMode.EAGER == this.templateCompileMode
+    );
+    task.invoke();
+
+    final LazyLocale lazyLocale = this.lazyLocales.remove(localeSource);
+    final LocaleTranslations defaultLocaleTranslations = this.defaultLocaleTranslations;
+    final boolean isDefault = null != defaultLocaleTranslations
+      && localeSource.equals(defaultLocaleTranslations.getLocaleSource());
+    // Once resolved, the default locale is held apart from the others
+    if (!isDefault || null != lazyLocale || this.translations.containsKey(localeSource)) {
+      this.translations.put(localeSource, translations);
+    }
+    if (isDefault) {
+      this.defaultLocaleTranslations = translations;
+    }
+
+    if (null == task.changedKeys) {
+      this.translationCache.invalidate(localeSource);
+    } else {
+      this.translationCache.invalidate(localeSource, task.changedKeys);
+      final RenderCache renderCache = this.renderCache;
+      if (null != renderCache) {
+        renderCache.invalidate(task.replaced);
+      }
+    }
+    return previous;
+  }
+
+  /**
+   * Replaces the loaded translations with locales that are only decoded on
+   * first access, and clears the translation cache.
+   * <p>
+   * Every loader is called at most once per load of its locale, by the first
+   * lookup of that locale. Concurrent first lookups wait for that single
+   * decode instead of decoding the locale again. Decoded translations are
+   * compiled according to the {@link #getTemplateCompileMode() template
+   * compile mode}, but their content is not interned, since locales are no
+   * longer decoded together.
+   * <p>
+   * Locales which are not looked up for longer than the
+   * {@link #setIdleUnloadTimeout(long, TimeUnit) idle unload timeout} are
+   * released and decoded again on their next lookup.
+   *
+   * @param loaders the loaders decoding the translations of every available
+   *                locale
+   * @throws NullPointerException        if loaders is null
+   * @throws LocaleNotSupportedException if the default locale source is set
+   *                                     but not among the loaders
+   * @since 0.3.0
+   */
+  public synchronized void updateLazyTranslations(
+    final Map<LocaleSource, ? extends Supplier<LocaleTranslations>> loaders
+  ) {
+    if (null == loaders) {
+      throw new NullPointerException("The passed loaders must not be null.");
+    }
+    final LocaleSource defaultLocaleSource = this.defaultLocaleSource;
+    if (null != defaultLocaleSource && !loaders.containsKey(defaultLocaleSource)) {
       throw new LocaleNotSupportedException(
         "Default locale source not found in provided translations: " +
-          this.defaultLocaleSource.getLocalization()
+          defaultLocaleSource.getLocalization()
       );
     }
 
-    // Clear cache when translations are updated
+    final ConcurrentMap<LocaleSource, LazyLocale> next =
+      new ConcurrentHashMap<>(Math.max(16, 2 * loaders.size()));
+    for (final Map.Entry<LocaleSource, ? extends Supplier<LocaleTranslations>> entry : loaders.entrySet()) {
+      if (null == entry.getKey() || null == entry.getValue()) {
+        continue;
+      }
+      next.put(entry.getKey(), new LazyLocale(entry.getValue(), this::prepareLazyTranslations));
+    }
+
+    this.translations = new ConcurrentHashMap<>();
+    this.lazyLocales = next;
+    // Resolved again, lazily, by the first lookup that falls back to it
+    this.defaultLocaleTranslations = null;
+    this.nextIdleSweepNanos = System.nanoTime() + this.idleUnloadTimeoutNanos;
+    this.loadMetrics = LoadMetrics.EMPTY;
+
     this.translationCache.clear();
+    this.clearRenderCache();
+  }
+
+  /**
+   * Transforms the content of freshly decoded lazy translations and
+   * compiles their templates, unless templates are compiled lazily.
+   *
+   * @since 0.3.0
+   */
+  private void prepareLazyTranslations(
+    final LocaleTranslations translations
+  ) {
+    this.checkKeyRegistry(translations);
+    final ContentTransformer transformer = this.contentTransformer;
+    checkContentTransformer(translations, transformer);
+    final boolean compile = TemplateCompileMode.EAGER == this.templateCompileMode;
+    if (compile || null != transformer) {
+      new LoadTask(translations, null, null, transformer, compile).invoke();
+    }
+  }
+
+  /**
+   * Sets how long a lazily loaded locale may stay unused before it is
+   * released.
+   * <p>
+   * Idle locales are released by {@link #unloadIdleLocales()}, which lookups
+   * also run by themselves at most once per timeout. Only locales loaded
+   * through {@link #updateLazyTranslations(Map)} are ever released.
+   *
+   * @param timeout the idle time after which a locale is released, or 0 to
+   *                never release locales
+   * @param unit    the unit of the timeout
+   * @throws NullPointerException     if unit is null
+   * @throws IllegalArgumentException if timeout is negative
+   * @since 0.3.0
+   */
+  public void setIdleUnloadTimeout(
+    final long timeout,
+    final TimeUnit unit
+  ) {
+    if (null == unit) {
+      throw new NullPointerException("The passed unit must not be null.");
+    }
+    if (0L > timeout) {
+      throw new IllegalArgumentException("The passed timeout must not be negative.");
+    }
+    final long timeoutNanos = unit.toNanos(timeout);
+    this.idleUnloadTimeoutNanos = timeoutNanos;
+    this.nextIdleSweepNanos = System.nanoTime() + timeoutNanos;
+  }
+
+  /**
+   * Releases every lazily loaded locale that was not looked up for longer
+   * than the idle unload timeout.
+   *
+   * @return the number of released locales
+   * @since 0.3.0
+   */
+  public int unloadIdleLocales() {
+    final long timeout = this.idleUnloadTimeoutNanos;
+    if (0L == timeout) {
+      return 0;
+    }
+    final long now = System.nanoTime();
+    this.nextIdleSweepNanos = now + timeout;
+
+    int unloaded = 0;
+    for (final Map.Entry<LocaleSource, LazyLocale> entry : this.lazyLocales.entrySet()) {
+      if (entry.getValue().unloadIfIdle(now, timeout)) {
+        this.translationCache.invalidate(entry.getKey());
+        ++unloaded;
+      }
+    }
+    if (0 != unloaded) {
+      // Rendered instances would otherwise keep the released translations alive
+      this.clearRenderCache();
+    }
+    return unloaded;
+  }
+
+  /**
+   * Finds the translations of the given locale, decoding them first if the
+   * locale is loaded lazily.
+   *
+   * @param localeSource the locale source to find the translations of
+   * @return the translations, or null if the locale is not available
+   * @since 0.3.0
+   */
+  private LocaleTranslations lookupTranslations(
+    final LocaleSource localeSource
+  ) {
+    final LocaleTranslations translations = this.translations.get(localeSource);
+    if (null != translations) {
+      return translations;
+    }
+    final LazyLocale lazyLocale = this.lazyLocales.get(localeSource);
+    if (null == lazyLocale) {
+      return null;
+    }
+    if (0L != this.idleUnloadTimeoutNanos
+      && System.nanoTime() - this.nextIdleSweepNanos >= 0L) {
+      this.unloadIdleLocales();
+    }
+    return lazyLocale.get();
   }
 
   @Override
   public Collection<LocaleSource> getLoadedLocaleSources() {
-    return Collections.unmodifiableCollection(this.translations.keySet());
+    final Map<LocaleSource, LazyLocale> lazyLocales = this.lazyLocales;
+    if (lazyLocales.isEmpty()) {
+      return Collections.unmodifiableCollection(this.translations.keySet());
+    }
+    final List<LocaleSource> sources = new ArrayList<>(this.translations.keySet());
+    for (final Map.Entry<LocaleSource, LazyLocale> entry : lazyLocales.entrySet()) {
+      if (null != entry.getValue().getIfLoaded()) {
+        sources.add(entry.getKey());
+      }
+    }
+    return Collections.unmodifiableCollection(sources);
   }
 
   @Override
   public Collection<LocaleTranslations> getLoadedLocaleTranslations() {
-    return Collections.unmodifiableCollection(this.translations.values());
+    final Map<LocaleSource, LazyLocale> lazyLocales = this.lazyLocales;
+    if (lazyLocales.isEmpty()) {
+      return Collections.unmodifiableCollection(this.translations.values());
+    }
+    final List<LocaleTranslations> loaded = new ArrayList<>(this.translations.values());
+    for (final LazyLocale lazyLocale : lazyLocales.values()) {
+      final LocaleTranslations translations = lazyLocale.getIfLoaded();
+      if (null != translations) {
+        loaded.add(translations);
+      }
+    }
+    return Collections.unmodifiableCollection(loaded);
   }
 
   @Override
@@ -356,14 +1113,14 @@ public class DefaultTranslationService implements TranslationService {
   }
 
   @Override
-  public void updateDefaultLocaleTranslations() {
+  public synchronized void updateDefaultLocaleTranslations() {
     if (null == this.defaultLocaleSource) {
       throw new LocaleNotSupportedException(
         "No default locale source configured. Call updateDefaultLocaleSource first."
       );
     }
     final LocaleTranslations translations =
-      this.translations.get(this.defaultLocaleSource);
+      this.lookupTranslations(this.defaultLocaleSource);
     if (null == translations) {
       throw new LocaleNotSupportedException(
         "No translations found for default locale: " + this.defaultLocaleSource.getLocalization()
@@ -377,7 +1134,7 @@ public class DefaultTranslationService implements TranslationService {
   public LocaleTranslations findLocaleTranslationsOrNull(
     final LocaleSourceProvider localeSourceProvider
   ) {
-    return this.translations.get(
+    return this.lookupTranslations(
       this.checkLocaleSource(localeSourceProvider)
     );
   }
@@ -395,7 +1152,7 @@ public class DefaultTranslationService implements TranslationService {
       return message;
     }
     // If not in cache, find it the regular way
-    final LocaleTranslations localeTranslations = this.translations.get(localeSource);
+    final LocaleTranslations localeTranslations = this.lookupTranslations(localeSource);
     if (localeTranslations == null) {
       return null;
     }
@@ -420,7 +1177,7 @@ public class DefaultTranslationService implements TranslationService {
       return text;
     }
     // If not in cache, find it the regular way
-    final LocaleTranslations localeTranslations = this.translations.get(localeSource);
+    final LocaleTranslations localeTranslations = this.lookupTranslations(localeSource);
     if (localeTranslations == null) {
       return null;
     }
@@ -484,8 +1241,13 @@ public class DefaultTranslationService implements TranslationService {
 
   @Override
   public int getNumberOfLocales() {
-    int count = this.translations.size();
-    if (null != this.defaultLocaleSource) {
+    final Map<LocaleSource, LazyLocale> lazyLocales = this.lazyLocales;
+    int count = this.translations.size() + lazyLocales.size();
+    final LocaleSource defaultLocaleSource = this.defaultLocaleSource;
+    // The default locale is counted once, wherever it is held
+    if (null != defaultLocaleSource
+      && !lazyLocales.containsKey(defaultLocaleSource)
+      && !this.translations.containsKey(defaultLocaleSource)) {
       ++count;
     }
     return count;
@@ -514,10 +1276,107 @@ public class DefaultTranslationService implements TranslationService {
   }
 
   @Override
-  public void clear() {
+  public synchronized void clear() {
     this.translations.clear();
+    this.lazyLocales = new ConcurrentHashMap<>();
     this.defaultLocaleTranslations = null;
     this.defaultLocaleSource = null;
     this.translationCache.clear();
+    this.clearRenderCache();
+    this.loadMetrics = LoadMetrics.EMPTY;
+  }
+
+  /**
+   * Transforms and interns the content, diffs against the loaded
+   * translations, and compiles the templates of a single locale, and
+   * measures how long compilation took.
+   *
+   * @since 0.3.0
+   */
+  private static final class LoadTask
+    extends RecursiveTask<Integer> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient LocaleTranslations translations;
+    private final transient LocaleTranslations previous;
+    private final transient ContentInterner interner;
+    private final transient ContentTransformer transformer;
+    private final boolean compile;
+
+    /**
+     * The keys changed since the previous translations, or null if the
+     * locale was not diffed. Written before the task completes.
+     */
+    private transient Set<TranslationKey> changedKeys;
+
+    /**
+     * The previous translations that changed or were removed.
+     */
+    private final transient List<Translation<?>> replaced = new ArrayList<>();
+
+    /**
+     * Written before the task completes, so it is visible after join.
+     */
+    private long compileTimeNanos;
+
+    private LoadTask(
+      final LocaleTranslations translations,
+      final LocaleTranslations previous,
+      final ContentInterner interner,
+      final ContentTransformer transformer,
+      final boolean compile
+    ) {
+      this.translations = translations;
+      this.previous = previous;
+      this.interner = interner;
+      this.transformer = transformer;
+      this.compile = compile;
+    }
+
+    @Override
+    protected Integer compute() {
+      // Transforming first lets interning, diffing and compiling see the
+      // content that will be rendered
+      if (null != this.transformer
+        && this.translations instanceof BasicLocaleTranslations) {
+        ((BasicLocaleTranslations) this.translations).transform(this.transformer);
+      }
+      // Interning first lets shared content be compiled only once
+      if (null != this.interner
+        && this.translations instanceof BasicLocaleTranslations) {
+        ((BasicLocaleTranslations) this.translations).intern(this.interner);
+      }
+      // Reused translations are already compiled and keep their rendered instances
+      if (this.translations instanceof BasicLocaleTranslations
+        && this.previous instanceof BasicLocaleTranslations
+        && this.translations != this.previous) {
+        this.changedKeys = ((BasicLocaleTranslations) this.translations).retainUnchanged(
+          (BasicLocaleTranslations) this.previous,
+          this.replaced
+        );
+      }
+      if (!this.compile) {
+        return 0;
+      }
+
+      final long start = System.nanoTime();
+      final int numberOfTemplates = compile(this.translations.getMessages())
+        + compile(this.translations.getTexts());
+      this.compileTimeNanos = System.nanoTime() - start;
+      return numberOfTemplates;
+    }
+
+    private static int compile(
+      final Collection<? extends Translation<?>> translations
+    ) {
+      int numberOfTemplates = 0;
+      for (final Translation<?> translation : translations) {
+        if (translation instanceof Templated) {
+          numberOfTemplates += ((Templated) translation).getTemplates().length;
+        }
+      }
+      return numberOfTemplates;
+    }
   }
 }
\ No newline at end of file
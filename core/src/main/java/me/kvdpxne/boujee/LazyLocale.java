@@ -0,0 +1,122 @@
+package me.kvdpxne.boujee;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import me.kvdpxne.boujee.locale.LocaleTranslations;
+
+/**
+ * A locale whose translations are known to exist but are only decoded on
+ * first access, and may be released again once they are no longer used.
+ * <p>
+ * Concurrent first accesses are single-flighted: one thread decodes the
+ * translations while the others wait for its result.
+ *
+ * @since 0.3.0
+ */
+final class LazyLocale {
+
+  /**
+   * How often the last access time is refreshed, which keeps frequent
+   * lookups from writing to shared memory on every call.
+   *
+   * @since 0.3.0
+   */
+  private static final long ACCESS_GRANULARITY_NANOS = 1_000_000_000L;
+
+  /**
+   * Decodes the translations of the locale.
+   *
+   * @since 0.3.0
+   */
+  private final Supplier<LocaleTranslations> loader;
+
+  /**
+   * Prepares freshly decoded translations before they are published.
+   *
+   * @since 0.3.0
+   */
+  private final Consumer<LocaleTranslations> preparer;
+
+  /**
+   * The decoded translations, or null if they are not loaded.
+   *
+   * @since 0.3.0
+   */
+  private volatile LocaleTranslations translations;
+
+  /**
+   * The {@link System#nanoTime()} of the latest access, at
+   * {@link #ACCESS_GRANULARITY_NANOS} precision.
+   *
+   * @since 0.3.0
+   */
+  private volatile long lastAccessNanos;
+
+  LazyLocale(
+    final Supplier<LocaleTranslations> loader,
+    final Consumer<LocaleTranslations> preparer
+  ) {
+    this.loader = loader;
+    this.preparer = preparer;
+  }
+
+  /**
+   * Returns the translations of the locale, decoding them on first access.
+   *
+   * @return the translations, or null if the loader provided none
+   * @since 0.3.0
+   */
+  LocaleTranslations get() {
+    LocaleTranslations translations = this.translations;
+    if (null == translations) {
+      synchronized (this) {
+        translations = this.translations;
+        if (null == translations) {
+          translations = this.loader.get();
+          if (null != translations) {
+            this.preparer.accept(translations);
+          }
+          this.lastAccessNanos = System.nanoTime();
+          this.translations = translations;
+          return translations;
+        }
+      }
+    }
+
+    final long now = System.nanoTime();
+    if (now - this.lastAccessNanos >= ACCESS_GRANULARITY_NANOS) {
+      this.lastAccessNanos = now;
+    }
+    return translations;
+  }
+
+  /**
+   * Returns the translations of the locale without decoding them.
+   *
+   * @return the translations, or null if they are not loaded
+   * @since 0.3.0
+   */
+  LocaleTranslations getIfLoaded() {
+    return this.translations;
+  }
+
+  /**
+   * Releases the translations if they were not accessed for at least the
+   * given time.
+   *
+   * @param now     the current {@link System#nanoTime()}
+   * @param timeout the idle time after which translations are released
+   * @return true if the translations were released, false otherwise
+   * @since 0.3.0
+   */
+  synchronized boolean unloadIfIdle(
+    final long now,
+    final long timeout
+  ) {
+    if (null == this.translations || now - this.lastAccessNanos < timeout) {
+      return false;
+    }
+    this.translations = null;
+    return true;
+  }
+}
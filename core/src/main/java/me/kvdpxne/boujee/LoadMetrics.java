@@ -0,0 +1,220 @@
+package me.kvdpxne.boujee;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import me.kvdpxne.boujee.locale.LocaleSource;
+
+/**
+ * An immutable report of the most recent translation load of a
+ * {@link DefaultTranslationService}.
+ * <p>
+ * Compile times are measured per locale, on the thread that compiled the
+ * templates of that locale. As locales are compiled in parallel, their sum
+ * is usually larger than the total load time.
+ *
+ * @since 0.3.0
+ */
+public final class LoadMetrics {
+
+  /**
+   * The metrics reported before any translations are loaded.
+   *
+   * @since 0.3.0
+   */
+  static final LoadMetrics EMPTY = new LoadMetrics(
+    TemplateCompileMode.LAZY,
+    0L,
+    Collections.emptyMap(),
+    0,
+    0L,
+    0
+  );
+
+  /**
+   * The compile mode the translations were loaded with.
+   *
+   * @since 0.3.0
+   */
+  private final TemplateCompileMode compileMode;
+
+  /**
+   * The wall-clock time of the whole load, in nanoseconds.
+   *
+   * @since 0.3.0
+   */
+  private final long loadTimeNanos;
+
+  /**
+   * The time spent compiling the templates of every locale, in nanoseconds.
+   *
+   * @since 0.3.0
+   */
+  private final Map<LocaleSource, Long> compileTimeNanos;
+
+  /**
+   * The number of templates compiled during the load.
+   *
+   * @since 0.3.0
+   */
+  private final int numberOfTemplates;
+
+  /**
+   * The estimated number of bytes saved by interning content.
+   *
+   * @since 0.3.0
+   */
+  private final long bytesSaved;
+
+  /**
+   * The number of duplicates replaced by interned content.
+   *
+   * @since 0.3.0
+   */
+  private final int numberOfDuplicates;
+
+  /**
+   * Constructs new load metrics.
+   *
+   * @param compileMode        the compile mode of the load
+   * @param loadTimeNanos      the wall-clock time of the load
+   * @param compileTimeNanos   the compile time of every locale
+   * @param numberOfTemplates  the number of compiled templates
+   * @param bytesSaved         the bytes saved by interning content
+   * @param numberOfDuplicates the number of interned duplicates
+   * @since 0.3.0
+   */
+  LoadMetrics(
+    final TemplateCompileMode compileMode,
+    final long loadTimeNanos,
+    final Map<LocaleSource, Long> compileTimeNanos,
+    final int numberOfTemplates,
+    final long bytesSaved,
+    final int numberOfDuplicates
+  ) {
+    this.compileMode = compileMode;
+    this.loadTimeNanos = loadTimeNanos;
+    this.compileTimeNanos = Collections.unmodifiableMap(
+      new LinkedHashMap<>(compileTimeNanos)
+    );
+    this.numberOfTemplates = numberOfTemplates;
+    this.bytesSaved = bytesSaved;
+    this.numberOfDuplicates = numberOfDuplicates;
+  }
+
+  /**
+   * Gets the compile mode the translations were loaded with.
+   *
+   * @return the compile mode
+   * @since 0.3.0
+   */
+  public TemplateCompileMode getCompileMode() {
+    return this.compileMode;
+  }
+
+  /**
+   * Gets the wall-clock time of the whole load, including compilation.
+   *
+   * @param unit the unit to return the time in
+   * @return the load time
+   * @throws NullPointerException if unit is null
+   * @since 0.3.0
+   */
+  public long getLoadTime(final TimeUnit unit) {
+    if (null == unit) {
+      throw new NullPointerException("The passed unit must not be null.");
+    }
+    return unit.convert(this.loadTimeNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Gets the time spent compiling the templates of the given locale.
+   *
+   * @param localeSource the locale source to get the compile time of
+   * @param unit         the unit to return the time in
+   * @return the compile time, or 0 if the locale was not compiled during the
+   * load
+   * @throws NullPointerException if unit is null
+   * @since 0.3.0
+   */
+  public long getCompileTime(
+    final LocaleSource localeSource,
+    final TimeUnit unit
+  ) {
+    if (null == unit) {
+      throw new NullPointerException("The passed unit must not be null.");
+    }
+    final Long nanos = this.compileTimeNanos.get(localeSource);
+    return null == nanos ? 0L : unit.convert(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Gets the time spent compiling the templates of every locale.
+   *
+   * @return an unmodifiable map of locale sources to compile times in
+   * nanoseconds, empty if templates are compiled lazily
+   * @since 0.3.0
+   */
+  public Map<LocaleSource, Long> getCompileTimesNanos() {
+    return this.compileTimeNanos;
+  }
+
+  /**
+   * Gets the number of templates compiled during the load.
+   *
+   * @return the number of compiled templates
+   * @since 0.3.0
+   */
+  public int getNumberOfTemplates() {
+    return this.numberOfTemplates;
+  }
+
+  /**
+   * Gets the estimated number of bytes no longer retained because identical
+   * content of different locales was deduplicated during the load.
+   *
+   * @return the estimated number of bytes saved, or 0 if content interning
+   * was disabled
+   * @see me.kvdpxne.boujee.content.ContentInterner#getBytesSaved()
+   * @since 0.3.0
+   */
+  public long getBytesSaved() {
+    return this.bytesSaved;
+  }
+
+  /**
+   * Gets the number of duplicate translations and payloads that were
+   * replaced by interned ones during the load.
+   *
+   * @return the number of duplicates
+   * @since 0.3.0
+   */
+  public int getNumberOfDuplicates() {
+    return this.numberOfDuplicates;
+  }
+
+  @Override
+  public String toString() {
+    final StringBuilder builder = new StringBuilder(64)
+      .append("Load: ")
+      .append(this.compileMode)
+      .append(", ")
+      .append(TimeUnit.NANOSECONDS.toMillis(this.loadTimeNanos))
+      .append(" ms, ")
+      .append(this.numberOfTemplates)
+      .append(" templates, ")
+      .append(this.numberOfDuplicates)
+      .append(" duplicates, ")
+      .append(this.bytesSaved)
+      .append(" bytes saved");
+    for (final Map.Entry<LocaleSource, Long> entry : this.compileTimeNanos.entrySet()) {
+      builder.append(", ")
+        .append(entry.getKey().getLocalization())
+        .append(": ")
+        .append(TimeUnit.NANOSECONDS.toMillis(entry.getValue()))
+        .append(" ms");
+    }
+    return builder.toString();
+  }
+}
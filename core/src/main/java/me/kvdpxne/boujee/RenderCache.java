@@ -0,0 +1,522 @@
+package me.kvdpxne.boujee;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import me.kvdpxne.boujee.content.Replaceable;
+import me.kvdpxne.boujee.content.Replacements;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.exceptions.InvalidCacheSizeException;
+import me.kvdpxne.boujee.replace.Template;
+import me.kvdpxne.boujee.replace.Templated;
+
+/**
+ * Cache for rendered translations keyed by the translation instance, the
+ * locale it is rendered for and the values of its placeholders, in the order
+ * the translation references them.
+ * <p>
+ * This implementation provides:
+ * - Set-associative storage with a lock per bucket instead of a global lock
+ * - Frequency-aware eviction and admission backed by a count-min sketch, so
+ *   one-off renders do not push out frequently repeated ones
+ * - Lookups that hash and compare the placeholder values in place, without
+ *   allocating a key object
+ *
+ * @since 0.3.0
+ */
+final class RenderCache {
+
+  /**
+   * The maximum number of entries in a single bucket.
+   *
+   * @since 0.3.0
+   */
+  private static final int WAYS = 8;
+
+  /**
+   * The largest value a frequency counter can reach.
+   *
+   * @since 0.3.0
+   */
+  private static final int MAX_FREQUENCY = 15;
+
+  /**
+   * Multipliers used to derive the independent sketch row indexes.
+   *
+   * @since 0.3.0
+   */
+  private static final int[] SEEDS = {
+    0x9E3779B9, 0x85EBCA6B, 0xC2B2AE35, 0x27D4EB2F
+  };
+
+  private final int maxSize;
+  private final Bucket[] buckets;
+  private final int[] frequencies;
+  private final int frequencyMask;
+  private final int sampleSize;
+  private final AtomicInteger samples = new AtomicInteger(0);
+  private final AtomicInteger hits = new AtomicInteger(0);
+  private final AtomicInteger misses = new AtomicInteger(0);
+
+  /**
+   * Creates a new RenderCache with the specified maximum size.
+   *
+   * @param maxSize the maximum number of entries in the cache (must be > 0),
+   *                rounded up to a multiple of the bucket size
+   * @throws InvalidCacheSizeException if maxSize is <= 0
+   * @since 0.3.0
+   */
+  RenderCache(final int maxSize) {
+    if (maxSize <= 0) {
+      throw new InvalidCacheSizeException("Cache size must be greater than zero, but was: " + maxSize);
+    }
+
+    final int ways = Math.min(WAYS, maxSize);
+    // Rounded up, so the cache holds at least the requested number of entries
+    this.buckets = new Bucket[(maxSize + ways - 1) / ways];
+    for (int i = 0; i < this.buckets.length; i++) {
+      this.buckets[i] = new Bucket(ways);
+    }
+    this.maxSize = this.buckets.length * ways;
+
+    // Four counters per entry keeps the estimation error low
+    final int width = Integer.highestOneBit(Math.max(16, this.maxSize * 4) - 1) << 1;
+    this.frequencies = new int[width];
+    this.frequencyMask = width - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  /**
+   * Replaces the placeholders of the given translation, returning a cached
+   * result when the same translation was already rendered with the same
+   * placeholder values.
+   * <p>
+   * Translations that are not backed by compiled templates, and replacement
+   * values whose fields are not placeholder tokens, bypass the cache.
+   *
+   * @param replaceable the translation to render
+   * @param values      the replacement values
+   * @param <T>         the type of the rendered translation
+   * @return the rendered translation
+   * @since 0.3.0
+   */
+  <T extends Replaceable<T>> T replace(
+    final Replaceable<T> replaceable,
+    final Map<char[], char[]> values
+  ) {
+    if (!(replaceable instanceof Templated) || !Template.arePlaceholders(values)) {
+      return replaceable.replace(values);
+    }
+    return this.render(replaceable, values, null);
+  }
+
+  /**
+   * Replaces the placeholders of the given translation, returning a cached
+   * result when the same translation was already rendered with the same
+   * placeholder values.
+   * <p>
+   * Translations that are not backed by compiled templates, replacements
+   * whose placeholders are not placeholder tokens, and replacements with a
+   * typed or lazy value for a referenced placeholder bypass the cache. The
+   * cache is keyed by the characters of the values, which would confuse
+   * typed values that print the same, such as {@code "1"} and {@code 1}
+   * choosing a plural variant, and would compute lazy values that the
+   * chosen variants never render.
+   *
+   * @param replaceable  the translation to render
+   * @param replacements the replacements
+   * @param localeSource the locale typed values are formatted for, may be null
+   * @param <T>          the type of the rendered translation
+   * @return the rendered translation
+   * @since 0.3.0
+   */
+  <T extends Replaceable<T>> T replace(
+    final Replaceable<T> replaceable,
+    final Replacements replacements,
+    final LocaleSource localeSource
+  ) {
+    if (!(replaceable instanceof Templated)
+      || !Template.arePlaceholders(replacements)
+      || !arePlain(((Templated) replaceable).getTemplates(), replacements)) {
+      return replaceable.replace(replacements, localeSource);
+    }
+    return this.render(replaceable, replacements, localeSource);
+  }
+
+  /**
+   * Checks whether every placeholder referenced by the given templates is
+   * missing or has a plain value.
+   *
+   * @since 0.3.0
+   */
+  private static boolean arePlain(
+    final Template[] templates,
+    final Replacements replacements
+  ) {
+    for (final Template template : templates) {
+      for (int i = 0; i < template.getNumberOfReferences(); i++) {
+        if (!template.isPlainValue(replacements, i)) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Looks the rendered translation up and renders it on a miss.
+   *
+   * @param values either a replacement map or a {@link Replacements} view
+   * @since 0.3.0
+   */
+  private <T extends Replaceable<T>> T render(
+    final Replaceable<T> replaceable,
+    final Object values,
+    final LocaleSource localeSource
+  ) {
+    final Template[] templates = ((Templated) replaceable).getTemplates();
+    final int hash = 31 * hash(replaceable, templates, values) + Objects.hashCode(localeSource);
+    this.increment(hash);
+
+    final Bucket bucket = this.buckets[(hash & 0x7FFFFFFF) % this.buckets.length];
+    synchronized (bucket) {
+      final int way = bucket.find(replaceable, localeSource, hash, templates, values);
+      if (-1 != way) {
+        hits.incrementAndGet();
+        @SuppressWarnings("unchecked")
+        final T cached = (T) bucket.results[way];
+        return cached;
+      }
+    }
+
+    misses.incrementAndGet();
+    @SuppressWarnings("unchecked")
+    final T result = values instanceof Replacements
+      ? replaceable.replace((Replacements) values, localeSource)
+      : replaceable.replace((Map<char[], char[]>) values);
+    final char[][] key = snapshot(templates, values);
+
+    synchronized (bucket) {
+      if (-1 != bucket.find(replaceable, localeSource, hash, templates, values)) {
+        return result;
+      }
+
+      int victim = bucket.free();
+      if (-1 == victim) {
+        victim = 0;
+        int victimFrequency = this.frequency(bucket.hashes[0]);
+        for (int i = 1; i < bucket.owners.length; i++) {
+          final int frequency = this.frequency(bucket.hashes[i]);
+          if (frequency < victimFrequency) {
+            victim = i;
+            victimFrequency = frequency;
+          }
+        }
+
+        // Only admit a candidate that is used more often than the victim
+        if (this.frequency(hash) <= victimFrequency) {
+          return result;
+        }
+      }
+
+      bucket.owners[victim] = replaceable;
+      bucket.locales[victim] = localeSource;
+      bucket.hashes[victim] = hash;
+      bucket.keys[victim] = key;
+      bucket.results[victim] = result;
+    }
+    return result;
+  }
+
+  /**
+   * Hashes the translation identity together with the placeholder values in
+   * template order.
+   *
+   * @since 0.3.0
+   */
+  private static int hash(
+    final Object owner,
+    final Template[] templates,
+    final Object values
+  ) {
+    int hash = System.identityHashCode(owner);
+    for (final Template template : templates) {
+      for (int i = 0; i < template.getNumberOfReferences(); i++) {
+        hash = 31 * hash + Arrays.hashCode(valueAt(template, values, i));
+      }
+    }
+    // Spread the bits so neighbouring identity hashes land in different buckets
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Finds the value of a placeholder slot in either a replacement map or a
+   * {@link Replacements} view.
+   *
+   * @since 0.3.0
+   */
+  private static char[] valueAt(
+    final Template template,
+    final Object values,
+    final int index
+  ) {
+    if (values instanceof Replacements) {
+      return template.findValue((Replacements) values, index);
+    }
+    @SuppressWarnings("unchecked")
+    final Map<char[], char[]> map = (Map<char[], char[]>) values;
+    return template.findValue(map, index);
+  }
+
+  /**
+   * Copies the placeholder values in template order for storage.
+   *
+   * @since 0.3.0
+   */
+  private static char[][] snapshot(
+    final Template[] templates,
+    final Object values
+  ) {
+    int count = 0;
+    for (final Template template : templates) {
+      count += template.getNumberOfReferences();
+    }
+
+    final char[][] key = new char[count][];
+    int index = 0;
+    for (final Template template : templates) {
+      for (int i = 0; i < template.getNumberOfReferences(); i++) {
+        final char[] value = valueAt(template, values, i);
+        key[index++] = null == value ? null : value.clone();
+      }
+    }
+    return key;
+  }
+
+  /**
+   * Records an access in the frequency sketch, halving every counter once
+   * enough accesses were sampled so that old popularity fades out.
+   * <p>
+   * Counters are updated without synchronization; lost updates under
+   * contention only make the estimates slightly less accurate.
+   *
+   * @since 0.3.0
+   */
+  private void increment(final int hash) {
+    for (final int seed : SEEDS) {
+      final int index = ((hash * seed) >>> 16 ^ hash * seed) & this.frequencyMask;
+      if (this.frequencies[index] < MAX_FREQUENCY) {
+        ++this.frequencies[index];
+      }
+    }
+
+    if (this.samples.incrementAndGet() >= this.sampleSize) {
+      synchronized (this.frequencies) {
+        if (this.samples.get() >= this.sampleSize) {
+          for (int i = 0; i < this.frequencies.length; i++) {
+            this.frequencies[i] >>>= 1;
+          }
+          this.samples.set(0);
+        }
+      }
+    }
+  }
+
+  /**
+   * Estimates how often the given hash was accessed recently.
+   *
+   * @since 0.3.0
+   */
+  private int frequency(final int hash) {
+    int frequency = MAX_FREQUENCY;
+    for (final int seed : SEEDS) {
+      final int index = ((hash * seed) >>> 16 ^ hash * seed) & this.frequencyMask;
+      frequency = Math.min(frequency, this.frequencies[index]);
+    }
+    return frequency;
+  }
+
+  /**
+   * Returns the maximum number of entries in the cache.
+   *
+   * @return the maximum size
+   * @since 0.3.0
+   */
+  int getMaxSize() {
+    return this.maxSize;
+  }
+
+  /**
+   * Returns the current number of entries in the cache.
+   *
+   * @return the current size
+   * @since 0.3.0
+   */
+  int getCurrentSize() {
+    int size = 0;
+    for (final Bucket bucket : this.buckets) {
+      synchronized (bucket) {
+        for (final Object owner : bucket.owners) {
+          if (null != owner) {
+            ++size;
+          }
+        }
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Clears all entries from the cache. The hit and miss counters are kept,
+   * so the hit rate spans reloads of the translations.
+   *
+   * @since 0.3.0
+   */
+  void clear() {
+    for (final Bucket bucket : this.buckets) {
+      synchronized (bucket) {
+        Arrays.fill(bucket.owners, null);
+        Arrays.fill(bucket.locales, null);
+        Arrays.fill(bucket.keys, null);
+        Arrays.fill(bucket.results, null);
+      }
+    }
+    synchronized (this.frequencies) {
+      Arrays.fill(this.frequencies, 0);
+      this.samples.set(0);
+    }
+  }
+
+  /**
+   * Removes every entry rendered from one of the given translations, keeping
+   * all other entries.
+   *
+   * @param owners the translations whose rendered instances to remove,
+   *               compared by identity
+   * @since 0.3.0
+   */
+  void invalidate(final Collection<?> owners) {
+    if (owners.isEmpty()) {
+      return;
+    }
+    final Set<Object> identities =
+      Collections.newSetFromMap(new IdentityHashMap<>(2 * owners.size()));
+    identities.addAll(owners);
+    for (final Bucket bucket : this.buckets) {
+      synchronized (bucket) {
+        for (int way = 0; way < bucket.owners.length; way++) {
+          if (null != bucket.owners[way] && identities.contains(bucket.owners[way])) {
+            bucket.owners[way] = null;
+            bucket.locales[way] = null;
+            bucket.keys[way] = null;
+            bucket.results[way] = null;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Gets performance statistics for the cache.
+   *
+   * @return a string with cache statistics
+   * @since 0.3.0
+   */
+  String getStatistics() {
+    int total = hits.get() + misses.get();
+    if (total == 0) {
+      return "Render cache: 0 hits, 0 misses, size: 0/" + maxSize;
+    }
+    double hitRate = (double) hits.get() / total * 100;
+    return String.format("Render cache: %d hits, %d misses, hit rate: %.2f%%, size: %d/%d",
+      hits.get(), misses.get(), hitRate, getCurrentSize(), maxSize);
+  }
+
+  /**
+   * Gets hit rate for the cache.
+   *
+   * @return the cache hit rate as a percentage
+   * @since 0.3.0
+   */
+  double getHitRate() {
+    int total = hits.get() + misses.get();
+    if (total == 0) return 0.0;
+    return (double) hits.get() / total * 100;
+  }
+
+  /**
+   * A group of entries sharing the same lock, searched linearly.
+   *
+   * @since 0.3.0
+   */
+  private static final class Bucket {
+    private final Object[] owners;
+    private final LocaleSource[] locales;
+    private final int[] hashes;
+    private final char[][][] keys;
+    private final Object[] results;
+
+    private Bucket(final int ways) {
+      this.owners = new Object[ways];
+      this.locales = new LocaleSource[ways];
+      this.hashes = new int[ways];
+      this.keys = new char[ways][][];
+      this.results = new Object[ways];
+    }
+
+    /**
+     * Finds the way holding the given translation rendered for the given
+     * locale with the given values, or -1 if there is none.
+     */
+    private int find(
+      final Object owner,
+      final LocaleSource localeSource,
+      final int hash,
+      final Template[] templates,
+      final Object values
+    ) {
+      for (int way = 0; way < this.owners.length; way++) {
+        if (owner == this.owners[way]
+          && hash == this.hashes[way]
+          && Objects.equals(localeSource, this.locales[way])
+          && matches(this.keys[way], templates, values)) {
+          return way;
+        }
+      }
+      return -1;
+    }
+
+    /**
+     * Finds an unused way, or -1 if the bucket is full.
+     */
+    private int free() {
+      for (int way = 0; way < this.owners.length; way++) {
+        if (null == this.owners[way]) {
+          return way;
+        }
+      }
+      return -1;
+    }
+
+    private static boolean matches(
+      final char[][] key,
+      final Template[] templates,
+      final Object values
+    ) {
+      int index = 0;
+      for (final Template template : templates) {
+        for (int i = 0; i < template.getNumberOfReferences(); i++) {
+          if (!Arrays.equals(key[index++], valueAt(template, values, i))) {
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+  }
+}
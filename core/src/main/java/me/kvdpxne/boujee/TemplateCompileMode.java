@@ -0,0 +1,21 @@
+package me.kvdpxne.boujee;
+
+/**
+ * Defines when the templates of loaded translations are compiled.
+ *
+ * @since 0.3.0
+ */
+public enum TemplateCompileMode {
+
+  /**
+   * Compile every template while translations are loaded, in parallel across
+   * locales, so that no render pays for compilation.
+   */
+  EAGER,
+
+  /**
+   * Compile a template the first time it is rendered, for processes that only
+   * ever render a small part of the loaded translations.
+   */
+  LAZY
+}
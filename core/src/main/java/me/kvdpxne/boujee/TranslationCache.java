@@ -1,5 +1,6 @@
 package me.kvdpxne.boujee;
 
+import java.util.Collection;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
@@ -154,6 +155,58 @@ final class TranslationCache {
     misses.set(0);
   }
 
+  /**
+   * Removes every cached entry of the given locale, keeping the entries of
+   * other locales.
+   *
+   * @param localeSource the locale source whose entries to remove
+   * @throws NullPointerException if localeSource is null
+   * @since 0.3.0
+   */
+  public void invalidate(final LocaleSource localeSource) {
+    if (null == localeSource) {
+      throw new NullPointerException("The passed locale source must not be null.");
+    }
+    final int localeHash = localeSource.hashCode();
+    // Stale keys left in the queue are skipped once they are no longer in inQueue
+    cache.keySet().removeIf(key -> {
+      if (key.getLocaleHash() != localeHash) {
+        return false;
+      }
+      inQueue.remove(key);
+      return true;
+    });
+  }
+
+  /**
+   * Removes the cached message and text of every given key of the given
+   * locale, keeping all other entries.
+   *
+   * @param localeSource    the locale source whose entries to remove
+   * @param translationKeys the keys whose entries to remove
+   * @throws NullPointerException if localeSource or translationKeys is null
+   * @since 0.3.0
+   */
+  public void invalidate(
+    final LocaleSource localeSource,
+    final Collection<TranslationKey> translationKeys
+  ) {
+    if (null == localeSource) {
+      throw new NullPointerException("The passed locale source must not be null.");
+    }
+    if (null == translationKeys) {
+      throw new NullPointerException("The passed translation keys must not be null.");
+    }
+    for (final TranslationKey translationKey : translationKeys) {
+      for (final boolean isMessage : new boolean[]{true, false}) {
+        final CacheKey key = new CacheKey(localeSource, translationKey, isMessage);
+        if (null != cache.remove(key)) {
+          inQueue.remove(key);
+        }
+      }
+    }
+  }
+
   /**
    * Retrieves a message from the cache.
    *
@@ -0,0 +1,306 @@
+package me.kvdpxne.boujee.content;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import me.kvdpxne.boujee.content.message.BasicReplaceableTranslationMessage;
+import me.kvdpxne.boujee.content.message.BasicTranslationMessage;
+import me.kvdpxne.boujee.content.message.TranslationMessage;
+import me.kvdpxne.boujee.content.text.BasicReplaceableTranslationText;
+import me.kvdpxne.boujee.content.text.BasicTranslationText;
+import me.kvdpxne.boujee.content.text.TranslationText;
+
+/**
+ * A thread-safe table that deduplicates translation content by value.
+ * <p>
+ * Identical content is common across locales, for example untranslated
+ * English copied into other files, or colour-only lines such as
+ * {@code &7&m------}. Every loaded locale still allocates its own copy.
+ * Passing all loaded translations through one interner keeps a single
+ * instance of each distinct content. The duplicates become garbage.
+ * <p>
+ * Whole translations are interned by their class and content, so a plain and
+ * a replaceable text with the same content stay distinct instances. Their
+ * {@code char[]} payloads are interned by content alone and shared between
+ * both. Translations of the built-in classes are rebuilt around the interned
+ * payloads. Other implementations are interned as whole instances only.
+ * <p>
+ * Interned translations are shared and immutable. Their lazily compiled
+ * templates are shared as well, so every distinct content is compiled once.
+ *
+ * @since 0.3.0
+ */
+public final class ContentInterner {
+
+  /**
+   * The interned {@code char[]} payloads.
+   *
+   * @since 0.3.0
+   */
+  private final ConcurrentMap<ContentKey, char[]> payloads =
+    new ConcurrentHashMap<>(1024);
+
+  /**
+   * The interned translations, keyed by their class and content.
+   *
+   * @since 0.3.0
+   */
+  private final ConcurrentMap<ContentKey, Translation<?>> translations =
+    new ConcurrentHashMap<>(1024);
+
+  /**
+   * The estimated number of bytes no longer retained thanks to interning.
+   *
+   * @since 0.3.0
+   */
+  private final AtomicLong bytesSaved = new AtomicLong();
+
+  /**
+   * The number of duplicate payloads and translations replaced.
+   *
+   * @since 0.3.0
+   */
+  private final AtomicInteger duplicates = new AtomicInteger();
+
+  /**
+   * Returns the interned payload with the same content as the given one,
+   * interning the given payload if there is none yet.
+   *
+   * @param content the payload to intern
+   * @return the interned payload, which must not be modified
+   * @throws NullPointerException if content is null
+   * @since 0.3.0
+   */
+  public char[] intern(final char[] content) {
+    if (null == content) {
+      throw new NullPointerException("The passed content must not be null.");
+    }
+    final char[] interned = this.payloads.putIfAbsent(
+      new ContentKey(null, content),
+      content
+    );
+    if (null == interned) {
+      return content;
+    }
+    if (interned != content) {
+      this.duplicates.incrementAndGet();
+      this.bytesSaved.addAndGet(sizeOf(content));
+    }
+    return interned;
+  }
+
+  /**
+   * Returns the interned text with the same class and content as the given
+   * one, interning the given text if there is none yet.
+   *
+   * @param text the text to intern
+   * @return the interned text
+   * @throws NullPointerException if text is null
+   * @since 0.3.0
+   */
+  public TranslationText intern(final TranslationText text) {
+    if (null == text) {
+      throw new NullPointerException("The passed text must not be null.");
+    }
+    final char[] content = text.getContent();
+    final ContentKey key = new ContentKey(text.getClass(), content);
+    final Translation<?> interned = this.translations.get(key);
+    if (null != interned) {
+      return this.duplicate(text, (TranslationText) interned, sizeOf(content));
+    }
+
+    // The built-in classes are rebuilt around the interned payload
+    final TranslationText candidate;
+    if (BasicReplaceableTranslationText.class == text.getClass()) {
+      candidate = new BasicReplaceableTranslationText(this.intern(content));
+    } else if (BasicTranslationText.class == text.getClass()) {
+      candidate = new BasicTranslationText(this.intern(content));
+    } else {
+      candidate = text;
+    }
+    final Translation<?> raced = this.translations.putIfAbsent(key, candidate);
+    return null == raced ? candidate : (TranslationText) raced;
+  }
+
+  /**
+   * Returns the interned message with the same class and content as the
+   * given one, interning the given message if there is none yet.
+   *
+   * @param message the message to intern
+   * @return the interned message
+   * @throws NullPointerException if message is null
+   * @since 0.3.0
+   */
+  public TranslationMessage intern(final TranslationMessage message) {
+    if (null == message) {
+      throw new NullPointerException("The passed message must not be null.");
+    }
+    final char[][] content = message.getContent();
+    final ContentKey key = new ContentKey(message.getClass(), content);
+    final Translation<?> interned = this.translations.get(key);
+    if (null != interned) {
+      return this.duplicate(message, (TranslationMessage) interned, sizeOf(content));
+    }
+
+    // The built-in classes are rebuilt around the interned payloads
+    final TranslationMessage candidate;
+    if (BasicReplaceableTranslationMessage.class == message.getClass()) {
+      candidate = new BasicReplaceableTranslationMessage(this.intern(content));
+    } else if (BasicTranslationMessage.class == message.getClass()) {
+      candidate = new BasicTranslationMessage(this.intern(content));
+    } else {
+      candidate = message;
+    }
+    final Translation<?> raced = this.translations.putIfAbsent(key, candidate);
+    return null == raced ? candidate : (TranslationMessage) raced;
+  }
+
+  /**
+   * Interns every line of the given message content in place.
+   *
+   * @since 0.3.0
+   */
+  private char[][] intern(final char[][] content) {
+    for (int i = 0; i < content.length; i++) {
+      content[i] = this.intern(content[i]);
+    }
+    return content;
+  }
+
+  /**
+   * Records that the given translation was replaced by its interned
+   * instance.
+   *
+   * @since 0.3.0
+   */
+  private <T> T duplicate(
+    final T translation,
+    final T interned,
+    final long size
+  ) {
+    if (interned != translation) {
+      this.duplicates.incrementAndGet();
+      this.bytesSaved.addAndGet(size);
+    }
+    return interned;
+  }
+
+  /**
+   * Gets the estimated number of bytes that are no longer retained because
+   * duplicates were replaced by interned content.
+   * <p>
+   * The estimate counts the character arrays of the replaced content,
+   * assuming 16-byte array headers and 8-byte alignment.
+   *
+   * @return the estimated number of bytes saved
+   * @since 0.3.0
+   */
+  public long getBytesSaved() {
+    return this.bytesSaved.get();
+  }
+
+  /**
+   * Gets the number of duplicate payloads and translations that were
+   * replaced by interned ones.
+   *
+   * @return the number of duplicates
+   * @since 0.3.0
+   */
+  public int getNumberOfDuplicates() {
+    return this.duplicates.get();
+  }
+
+  /**
+   * Gets the number of distinct payloads held by this interner.
+   *
+   * @return the number of distinct payloads
+   * @since 0.3.0
+   */
+  public int size() {
+    return this.payloads.size();
+  }
+
+  /**
+   * Estimates the retained size of a character array.
+   *
+   * @since 0.3.0
+   */
+  private static long sizeOf(final char[] content) {
+    return align(16L + 2L * content.length);
+  }
+
+  /**
+   * Estimates the retained size of a character array matrix.
+   *
+   * @since 0.3.0
+   */
+  private static long sizeOf(final char[][] content) {
+    long size = align(16L + 4L * content.length);
+    for (final char[] line : content) {
+      size += sizeOf(line);
+    }
+    return size;
+  }
+
+  private static long align(final long size) {
+    return (size + 7L) & ~7L;
+  }
+
+  /**
+   * A content compared by value, optionally qualified by the class of the
+   * translation holding it.
+   *
+   * @since 0.3.0
+   */
+  private static final class ContentKey {
+    private final Class<?> type;
+    private final Object content;
+    private final int hash;
+
+    private ContentKey(
+      final Class<?> type,
+      final char[] content
+    ) {
+      this.type = type;
+      this.content = content;
+      this.hash = 31 * (null == type ? 0 : type.hashCode()) + Arrays.hashCode(content);
+    }
+
+    private ContentKey(
+      final Class<?> type,
+      final char[][] content
+    ) {
+      this.type = type;
+      this.content = content;
+      this.hash = 31 * type.hashCode() + Arrays.deepHashCode(content);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ContentKey)) {
+        return false;
+      }
+      final ContentKey that = (ContentKey) o;
+      if (this.hash != that.hash || this.type != that.type) {
+        return false;
+      }
+      if (this.content instanceof char[] && that.content instanceof char[]) {
+        return Arrays.equals((char[]) this.content, (char[]) that.content);
+      }
+      if (this.content instanceof char[][] && that.content instanceof char[][]) {
+        return Arrays.deepEquals((char[][]) this.content, (char[][]) that.content);
+      }
+      return false;
+    }
+
+    @Override
+    public int hashCode() {
+      return this.hash;
+    }
+  }
+}
@@ -1,9 +1,15 @@
 package me.kvdpxne.boujee.content.message;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 
+import me.kvdpxne.boujee.content.Replacements;
+import me.kvdpxne.boujee.locale.LocaleFormatters;
+import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.replace.Characters;
+import me.kvdpxne.boujee.replace.Template;
+import me.kvdpxne.boujee.replace.Templated;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
@@ -20,7 +26,7 @@ import org.jetbrains.annotations.Unmodifiable;
 @Unmodifiable
 public class BasicReplaceableTranslationMessage
   extends BasicTranslationMessage
-  implements ReplacableTranslationMessage {
+  implements ReplacableTranslationMessage, Templated {
 
   /**
    * Serial version UID for serialization compatibility.
@@ -29,6 +35,15 @@ public class BasicReplaceableTranslationMessage
    */
   private static final long serialVersionUID = -8395546537545631026L;
 
+  /**
+   * Every message line compiled into literal and placeholder segments.
+   * <p>
+   * Using volatile for thread-safe lazy initialization.
+   *
+   * @since 0.3.0
+   */
+  private transient volatile Template[] templates;
+
   /**
    * Constructs a new BasicReplaceableTranslationMessage with the provided content.
    *
@@ -124,4 +139,133 @@ public class BasicReplaceableTranslationMessage
 
     return new BasicReplaceableTranslationMessage(newContent);
   }
+
+  @NotNull
+  @Override
+  public ReplacableTranslationMessage replace(
+    final @NotNull Replacements replacements
+  ) {
+    return this.replace(replacements, null);
+  }
+
+  @NotNull
+  @Override
+  public ReplacableTranslationMessage replace(
+    final @NotNull Replacements replacements,
+    final LocaleSource localeSource
+  ) {
+    // noinspection ConstantValue
+    if (null == replacements) {
+      throw new NullPointerException("The passed replacements must not be null.");
+    }
+
+    if (replacements.isEmpty()) {
+      return this;
+    }
+
+    // Arbitrary fields can only be found by searching the raw content
+    if (!Template.arePlaceholders(replacements)) {
+      return ReplacableTranslationMessage.super.replace(replacements);
+    }
+
+    final Template[] lines = this.getTemplates();
+    final LocaleFormatters formatters = LocaleFormatters.of(localeSource);
+    char[][] newContent = null;
+    for (int i = 0; i < lines.length; i++) {
+      final int[] binding = lines[i].bind(replacements);
+      if (Template.isUnbound(binding)) {
+        continue;
+      }
+      if (null == newContent) {
+        // Lines without bound placeholders are shared with this message
+        newContent = this.message.clone();
+      }
+      newContent[i] = lines[i].render(replacements, binding, formatters);
+    }
+
+    if (null == newContent) {
+      return this;
+    }
+    return new BasicReplaceableTranslationMessage(newContent);
+  }
+
+  @NotNull
+  @Override
+  public Template @NotNull [] getTemplates() {
+    // Compilation is idempotent, so a racing duplicate is harmless
+    Template[] cache = this.templates;
+    if (null == cache) {
+      cache = new Template[this.message.length];
+      for (int i = 0; i < this.message.length; i++) {
+        cache[i] = Template.compile(this.message[i]);
+      }
+      this.templates = cache;
+    }
+    return cache;
+  }
+
+  @Override
+  public void replaceInto(
+    final @NotNull Map<char @NotNull [], char @NotNull []> values,
+    final @NotNull ByteBuffer target
+  ) {
+    // noinspection ConstantValue
+    if (null == values || null == target) {
+      throw new NullPointerException("Values and target must not be null.");
+    }
+
+    if (values.isEmpty()) {
+      writeLines(this.getContentAsBytes(), target);
+      return;
+    }
+
+    // Arbitrary fields, and placeholders inside variants, can only be found
+    // by searching the raw content
+    final Template[] lines = this.getTemplates();
+    if (!Template.arePlaceholders(values) || hasNestedPlaceholders(lines)) {
+      writeLines(this.replace(values).getContentAsBytes(), target);
+      return;
+    }
+
+    for (int i = 0; i < lines.length; i++) {
+      if (0 != i) {
+        target.put((byte) '\n');
+      }
+      lines[i].writeTo(values, target);
+    }
+  }
+
+  /**
+   * Checks whether the variants of any of the given lines reference
+   * placeholders of their own.
+   *
+   * @since 0.3.0
+   */
+  private static boolean hasNestedPlaceholders(final Template[] lines) {
+    for (final Template line : lines) {
+      if (line.hasNestedPlaceholders()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Writes already encoded lines separated by a line feed.
+   *
+   * @param lines  the encoded lines
+   * @param target the buffer that receives the lines
+   * @since 0.3.0
+   */
+  private static void writeLines(
+    final byte[][] lines,
+    final ByteBuffer target
+  ) {
+    for (int i = 0; i < lines.length; i++) {
+      if (0 != i) {
+        target.put((byte) '\n');
+      }
+      target.put(lines[i]);
+    }
+  }
 }
\ No newline at end of file
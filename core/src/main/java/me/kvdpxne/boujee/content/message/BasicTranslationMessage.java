@@ -1,6 +1,7 @@
 package me.kvdpxne.boujee.content.message;
 
 import java.util.Arrays;
+import me.kvdpxne.boujee.replace.Utf8;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -43,6 +44,15 @@ public class BasicTranslationMessage implements TranslationMessage {
    */
   private transient volatile String[] contentAsStringCache;
 
+  /**
+   * Cache for the UTF-8 encoding of every message line.
+   * <p>
+   * Using volatile for thread-safe lazy initialization.
+   *
+   * @since 0.3.0
+   */
+  private transient volatile byte[][] contentAsBytesCache;
+
   /**
    * Constructs a new BasicTranslationMessage with the provided content.
    *
@@ -113,6 +123,21 @@ public class BasicTranslationMessage implements TranslationMessage {
     }
   }
 
+  @UnmodifiableView
+  @Override
+  public byte @NotNull [] @NotNull [] getContentAsBytes() {
+    // Encoding is idempotent, so a racing duplicate is harmless
+    byte[][] cache = this.contentAsBytesCache;
+    if (cache == null) {
+      cache = new byte[this.message.length][];
+      for (int i = 0; i < this.message.length; i++) {
+        cache[i] = Utf8.toBytes(this.message[i]);
+      }
+      this.contentAsBytesCache = cache;
+    }
+    return cache;
+  }
+
   @Override
   public final boolean equals(final Object o) {
     if (this == o) {
@@ -1,8 +1,14 @@
 package me.kvdpxne.boujee.content.text;
 
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
+import me.kvdpxne.boujee.content.Replacements;
+import me.kvdpxne.boujee.locale.LocaleFormatters;
+import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.replace.Characters;
+import me.kvdpxne.boujee.replace.Template;
+import me.kvdpxne.boujee.replace.Templated;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 
@@ -22,7 +28,7 @@ import org.jetbrains.annotations.Unmodifiable;
 @Unmodifiable
 public class BasicReplaceableTranslationText
   extends BasicTranslationText
-  implements ReplaceableTranslationText {
+  implements ReplaceableTranslationText, Templated {
 
   /**
    * Serial version UID for serialization compatibility.
@@ -31,6 +37,15 @@ public class BasicReplaceableTranslationText
    */
   private static final long serialVersionUID = 3626337823661723471L;
 
+  /**
+   * The content compiled into literal and placeholder segments.
+   * <p>
+   * Using volatile for thread-safe lazy initialization.
+   *
+   * @since 0.3.0
+   */
+  private transient volatile Template[] templates;
+
   /**
    * Constructs a new BasicReplaceableTranslationText with the provided
    * content.
@@ -102,4 +117,84 @@ public class BasicReplaceableTranslationText
 
     return new BasicReplaceableTranslationText(newContent);
   }
+
+  @NotNull
+  @Override
+  public ReplaceableTranslationText replace(
+    final @NotNull Replacements replacements
+  ) {
+    return this.replace(replacements, null);
+  }
+
+  @NotNull
+  @Override
+  public ReplaceableTranslationText replace(
+    final @NotNull Replacements replacements,
+    final LocaleSource localeSource
+  ) {
+    //noinspection ConstantValue
+    if (null == replacements) {
+      throw new NullPointerException("The passed replacements must not be null.");
+    }
+
+    if (replacements.isEmpty()) {
+      return this;
+    }
+
+    // Arbitrary fields can only be found by searching the raw content
+    if (!Template.arePlaceholders(replacements)) {
+      return ReplaceableTranslationText.super.replace(replacements);
+    }
+
+    final Template template = this.getTemplates()[0];
+    final int[] binding = template.bind(replacements);
+    if (Template.isUnbound(binding)) {
+      return this;
+    }
+    return new BasicReplaceableTranslationText(
+      template.render(
+        replacements,
+        binding,
+        LocaleFormatters.of(localeSource)
+      )
+    );
+  }
+
+  @NotNull
+  @Override
+  public Template @NotNull [] getTemplates() {
+    // Compilation is idempotent, so a racing duplicate is harmless
+    Template[] cache = this.templates;
+    if (null == cache) {
+      cache = new Template[]{Template.compile(this.text)};
+      this.templates = cache;
+    }
+    return cache;
+  }
+
+  @Override
+  public void replaceInto(
+    final @NotNull Map<char @NotNull [], char @NotNull []> values,
+    final @NotNull ByteBuffer target
+  ) {
+    //noinspection ConstantValue
+    if (null == values || null == target) {
+      throw new NullPointerException("Values and target must not be null.");
+    }
+
+    if (values.isEmpty()) {
+      target.put(this.getContentAsBytes());
+      return;
+    }
+
+    // Arbitrary fields, and placeholders inside variants, can only be found
+    // by searching the raw content
+    final Template template = this.getTemplates()[0];
+    if (!Template.arePlaceholders(values) || template.hasNestedPlaceholders()) {
+      target.put(this.replace(values).getContentAsBytes());
+      return;
+    }
+
+    template.writeTo(values, target);
+  }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package me.kvdpxne.boujee.content.text;
 
 import java.util.Arrays;
+import me.kvdpxne.boujee.replace.Utf8;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
@@ -41,6 +42,15 @@ public class BasicTranslationText implements TranslationText {
    */
   private transient volatile String contentAsStringCache;
 
+  /**
+   * Cache for the UTF-8 encoding of the text.
+   * <p>
+   * Using volatile for thread-safe lazy initialization.
+   *
+   * @since 0.3.0
+   */
+  private transient volatile byte[] contentAsBytesCache;
+
   /**
    * Constructs a new BasicTranslationText with the provided content.
    *
@@ -97,6 +107,18 @@ public class BasicTranslationText implements TranslationText {
     }
   }
 
+  @UnmodifiableView
+  @Override
+  public byte @NotNull [] getContentAsBytes() {
+    // Encoding is idempotent, so a racing duplicate is harmless
+    byte[] cache = this.contentAsBytesCache;
+    if (cache == null) {
+      cache = Utf8.toBytes(this.text);
+      this.contentAsBytesCache = cache;
+    }
+    return cache;
+  }
+
   @Override
   public final boolean equals(final Object o) {
     if (this == o) {
@@ -2,14 +2,24 @@ package me.kvdpxne.boujee.locale;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import me.kvdpxne.boujee.DefaultTranslationKey;
+import me.kvdpxne.boujee.KeyRegistry;
 import me.kvdpxne.boujee.TranslationKey;
 import me.kvdpxne.boujee.TranslationKeyProvider;
+import me.kvdpxne.boujee.content.ContentInterner;
+import me.kvdpxne.boujee.content.ContentTransformer;
+import me.kvdpxne.boujee.content.Translation;
 import me.kvdpxne.boujee.exceptions.TranslationKeyNotFoundException;
+import me.kvdpxne.boujee.content.message.BasicReplaceableTranslationMessage;
+import me.kvdpxne.boujee.content.message.BasicTranslationMessage;
 import me.kvdpxne.boujee.content.message.TranslationMessage;
+import me.kvdpxne.boujee.content.text.BasicReplaceableTranslationText;
+import me.kvdpxne.boujee.content.text.BasicTranslationText;
 import me.kvdpxne.boujee.content.text.TranslationText;
 
 /**
@@ -28,6 +38,11 @@ public class BasicLocaleTranslations implements LocaleTranslations {
    */
   private final LocaleSource localeSource;
 
+  /**
+   * The registry of the keys of these translations.
+   */
+  private final KeyRegistry keyRegistry;
+
   /**
    * Map of translation keys to messages.
    */
@@ -78,6 +93,7 @@ public class BasicLocaleTranslations implements LocaleTranslations {
     }
 
     this.localeSource = localeSource;
+    this.keyRegistry = KeyRegistry.global();
     this.messages = new ConcurrentHashMap<>(messages);
     this.texts = new ConcurrentHashMap<>(texts);
 
@@ -107,18 +123,29 @@ public class BasicLocaleTranslations implements LocaleTranslations {
   }
 
   /**
-   * Constructs a new empty BasicLocaleTranslations instance with custom cache size.
+   * Constructs a new empty BasicLocaleTranslations instance whose keys
+   * belong to the given registry, with custom cache size.
    *
    * @param localeSource the locale source
+   * @param keyRegistry  the registry of the keys
    * @param cacheSize    the maximum size of the translation cache
-   * @since 0.1.0
+   * @throws NullPointerException if localeSource or keyRegistry is null
+   * @since 0.3.0
    */
-  public BasicLocaleTranslations(final LocaleSource localeSource, final int cacheSize) {
+  public BasicLocaleTranslations(
+    final LocaleSource localeSource,
+    final KeyRegistry keyRegistry,
+    final int cacheSize
+  ) {
     if (null == localeSource) {
       throw new NullPointerException("Locale source must not be null");
     }
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
 
     this.localeSource = localeSource;
+    this.keyRegistry = keyRegistry;
     this.messages = new ConcurrentHashMap<>();
     this.texts = new ConcurrentHashMap<>();
 
@@ -126,9 +153,39 @@ public class BasicLocaleTranslations implements LocaleTranslations {
     this.messageCache = new TranslationCache<>(cacheSize);
     this.textCache = new TranslationCache<>(cacheSize);
 
-    // Initialize empty collections
-    this.unmodifiableMessages = Collections.emptyList();
-    this.unmodifiableTexts = Collections.emptyList();
+    // Views over the maps also reflect translations put later
+    this.unmodifiableMessages = Collections.unmodifiableCollection(this.messages.values());
+    this.unmodifiableTexts = Collections.unmodifiableCollection(this.texts.values());
+  }
+
+  /**
+   * Constructs a new empty BasicLocaleTranslations instance whose keys
+   * belong to the given registry.
+   * <p>
+   * Loaders look the keys they read up in this registry, so translations
+   * loaded into this instance are found by the keys of the registry only.
+   *
+   * @param localeSource the locale source
+   * @param keyRegistry  the registry of the keys
+   * @throws NullPointerException if localeSource or keyRegistry is null
+   * @since 0.3.0
+   */
+  public BasicLocaleTranslations(
+    final LocaleSource localeSource,
+    final KeyRegistry keyRegistry
+  ) {
+    this(localeSource, keyRegistry, 1000);
+  }
+
+  /**
+   * Constructs a new empty BasicLocaleTranslations instance with custom cache size.
+   *
+   * @param localeSource the locale source
+   * @param cacheSize    the maximum size of the translation cache
+   * @since 0.1.0
+   */
+  public BasicLocaleTranslations(final LocaleSource localeSource, final int cacheSize) {
+    this(localeSource, KeyRegistry.global(), cacheSize);
   }
 
   /**
@@ -146,6 +203,16 @@ public class BasicLocaleTranslations implements LocaleTranslations {
     return this.localeSource;
   }
 
+  /**
+   * Gets the registry of the keys of these translations.
+   *
+   * @return the key registry
+   * @since 0.3.0
+   */
+  public KeyRegistry getKeyRegistry() {
+    return this.keyRegistry;
+  }
+
   @Override
   public Collection<TranslationMessage> getMessages() {
     return this.unmodifiableMessages;
@@ -169,7 +236,7 @@ public class BasicLocaleTranslations implements LocaleTranslations {
       throw new NullPointerException("Translation key must not be null");
     }
 
-    if (!DefaultTranslationKey.exists(key)) {
+    if (!this.keyRegistry.contains(key)) {
       throw new TranslationKeyNotFoundException("Translation key not found: " + key);
     }
 
@@ -228,6 +295,205 @@ public class BasicLocaleTranslations implements LocaleTranslations {
     return this.texts.size();
   }
 
+  /**
+   * Adds the given message, replacing any message already stored under the
+   * same key.
+   * <p>
+   * This allows loaders to stream translations straight into their final
+   * storage instead of collecting them into intermediate maps first.
+   *
+   * @param key     the translation key
+   * @param message the message
+   * @throws NullPointerException if key or message is null
+   * @since 0.3.0
+   */
+  public void putMessage(
+    final TranslationKey key,
+    final TranslationMessage message
+  ) {
+    if (null == key || null == message) {
+      throw new NullPointerException("Translation key and message must not be null");
+    }
+    this.messages.put(key, message);
+    this.messageCache.remove(key);
+  }
+
+  /**
+   * Adds the given text, replacing any text already stored under the same
+   * key.
+   * <p>
+   * This allows loaders to stream translations straight into their final
+   * storage instead of collecting them into intermediate maps first.
+   *
+   * @param key  the translation key
+   * @param text the text
+   * @throws NullPointerException if key or text is null
+   * @since 0.3.0
+   */
+  public void putText(
+    final TranslationKey key,
+    final TranslationText text
+  ) {
+    if (null == key || null == text) {
+      throw new NullPointerException("Translation key and text must not be null");
+    }
+    this.texts.put(key, text);
+    this.textCache.remove(key);
+  }
+
+  /**
+   * Replaces every translation with its interned instance, so identical
+   * content is shared with every other locale passed through the same
+   * interner.
+   *
+   * @param interner the interner to intern the translations with
+   * @throws NullPointerException if interner is null
+   * @since 0.3.0
+   */
+  public void intern(final ContentInterner interner) {
+    if (null == interner) {
+      throw new NullPointerException("The passed interner must not be null.");
+    }
+    this.messages.replaceAll((key, message) -> interner.intern(message));
+    this.texts.replaceAll((key, text) -> interner.intern(text));
+
+    // The caches may still hold the replaced instances
+    this.messageCache.clear();
+    this.textCache.clear();
+  }
+
+  /**
+   * Replaces every translation of a built-in class with one of the same
+   * class holding its content passed through the given transformer.
+   * Translations of other classes, and those whose content did not change,
+   * are kept.
+   *
+   * @param transformer the transformer to pass the content through
+   * @throws NullPointerException if transformer is null
+   * @since 0.3.0
+   */
+  public void transform(final ContentTransformer transformer) {
+    if (null == transformer) {
+      throw new NullPointerException("The passed transformer must not be null.");
+    }
+    this.messages.replaceAll((key, message) -> transform(message, transformer));
+    this.texts.replaceAll((key, text) -> transform(text, transformer));
+
+    // The caches may still hold the replaced instances
+    this.messageCache.clear();
+    this.textCache.clear();
+  }
+
+  private static TranslationText transform(
+    final TranslationText text,
+    final ContentTransformer transformer
+  ) {
+    final Class<?> type = text.getClass();
+    if (BasicReplaceableTranslationText.class != type
+      && BasicTranslationText.class != type) {
+      return text;
+    }
+    final char[] content = text.getContent();
+    final char[] transformed = transformer.transform(content);
+    if (transformed == content) {
+      return text;
+    }
+    return BasicReplaceableTranslationText.class == type
+      ? new BasicReplaceableTranslationText(transformed)
+      : new BasicTranslationText(transformed);
+  }
+
+  private static TranslationMessage transform(
+    final TranslationMessage message,
+    final ContentTransformer transformer
+  ) {
+    final Class<?> type = message.getClass();
+    if (BasicReplaceableTranslationMessage.class != type
+      && BasicTranslationMessage.class != type) {
+      return message;
+    }
+    final char[][] content = message.getContent();
+    char[][] transformed = null;
+    for (int i = 0; i < content.length; ++i) {
+      final char[] line = transformer.transform(content[i]);
+      if (line != content[i]) {
+        if (null == transformed) {
+          transformed = content.clone();
+        }
+        transformed[i] = line;
+      }
+    }
+    if (null == transformed) {
+      return message;
+    }
+    return BasicReplaceableTranslationMessage.class == type
+      ? new BasicReplaceableTranslationMessage(transformed)
+      : new BasicTranslationMessage(transformed);
+  }
+
+  /**
+   * Reuses the translations of the given previous instance of the same
+   * locale whose class and content did not change, and reports the keys
+   * whose translations changed.
+   * <p>
+   * Reused translations keep their compiled templates, and their rendered
+   * instances stay valid in any cache keyed by translation identity. So a
+   * reload only needs to invalidate the returned keys.
+   *
+   * @param previous the translations being replaced by this instance
+   * @param replaced receives every translation of the previous instance
+   *                 that changed or was removed
+   * @return the keys whose translations were changed, added or removed
+   * @throws NullPointerException if previous or replaced is null
+   * @since 0.3.0
+   */
+  public Set<TranslationKey> retainUnchanged(
+    final BasicLocaleTranslations previous,
+    final Collection<? super Translation<?>> replaced
+  ) {
+    if (null == previous) {
+      throw new NullPointerException("The passed previous translations must not be null.");
+    }
+    if (null == replaced) {
+      throw new NullPointerException("The passed replaced collection must not be null.");
+    }
+    final Set<TranslationKey> changed = new HashSet<>();
+    retainUnchanged(this.messages, previous.messages, changed, replaced);
+    retainUnchanged(this.texts, previous.texts, changed, replaced);
+
+    // The caches may still hold the replaced instances
+    this.messageCache.clear();
+    this.textCache.clear();
+    return changed;
+  }
+
+  private static <T extends Translation<?>> void retainUnchanged(
+    final ConcurrentMap<TranslationKey, T> next,
+    final Map<TranslationKey, T> previous,
+    final Set<TranslationKey> changed,
+    final Collection<? super Translation<?>> replaced
+  ) {
+    for (final Map.Entry<TranslationKey, T> entry : next.entrySet()) {
+      final T old = previous.get(entry.getKey());
+      if (null != old
+        && old.getClass() == entry.getValue().getClass()
+        && Objects.deepEquals(old.getContent(), entry.getValue().getContent())) {
+        entry.setValue(old);
+        continue;
+      }
+      changed.add(entry.getKey());
+      if (null != old) {
+        replaced.add(old);
+      }
+    }
+    for (final Map.Entry<TranslationKey, T> entry : previous.entrySet()) {
+      if (!next.containsKey(entry.getKey())) {
+        changed.add(entry.getKey());
+        replaced.add(entry.getValue());
+      }
+    }
+  }
+
   @Override
   public void clear() {
     this.messages.clear();
@@ -235,10 +501,6 @@ public class BasicLocaleTranslations implements LocaleTranslations {
     this.messageCache.clear();
     this.textCache.clear();
 
-    // Update cached collections
-    this.unmodifiableMessages = Collections.emptyList();
-    this.unmodifiableTexts = Collections.emptyList();
-
     if (this.localeSource instanceof BasicLocaleSource) {
       ((BasicLocaleSource) this.localeSource).invalidateCache();
     }
@@ -274,6 +536,10 @@ public class BasicLocaleTranslations implements LocaleTranslations {
       cache.put(key, value);
     }
 
+    public void remove(TranslationKey key) {
+      cache.remove(key);
+    }
+
     public void clear() {
       cache.clear();
     }
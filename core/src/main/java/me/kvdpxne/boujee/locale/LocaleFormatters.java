@@ -0,0 +1,261 @@
+package me.kvdpxne.boujee.locale;
+
+import java.text.FieldPosition;
+import java.text.NumberFormat;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import me.kvdpxne.boujee.replace.ValueFormat;
+
+/**
+ * A thread-safe set of number, date and time formatters and plural rules for
+ * a single locale, used to render typed placeholders such as
+ * {@code {amount,number}} and plural placeholders.
+ * <p>
+ * All formatters are built when the set is created. Date and time formatters
+ * are immutable and shared by all threads. Number formatters are not
+ * thread-safe, so every thread formats with its own copies, created once per
+ * thread from the prebuilt prototypes.
+ * <p>
+ * Sets are cached per {@link Locale}, so every {@link LocaleSource} of the
+ * same locale shares one set.
+ *
+ * @since 0.3.0
+ */
+public final class LocaleFormatters {
+
+  /**
+   * Cache of formatter sets, built once per locale.
+   *
+   * @since 0.3.0
+   */
+  private static final ConcurrentMap<Locale, LocaleFormatters> FORMATTERS =
+    new ConcurrentHashMap<>(32);
+
+  /**
+   * The locale-neutral formatter set, used when no locale is known.
+   *
+   * @since 0.3.0
+   */
+  public static final LocaleFormatters ROOT = of(Locale.ROOT);
+
+  /**
+   * The locale of this formatter set.
+   *
+   * @since 0.3.0
+   */
+  private final Locale locale;
+
+  /**
+   * The number format prototypes, indexed by {@link ValueFormat#ordinal()}.
+   *
+   * @since 0.3.0
+   */
+  private final NumberFormat[] numberFormats;
+
+  /**
+   * The date and time formatters, indexed by {@link ValueFormat#ordinal()}.
+   *
+   * @since 0.3.0
+   */
+  private final DateTimeFormatter[] dateTimeFormatters;
+
+  /**
+   * The plural rules of the language of the locale.
+   *
+   * @since 0.3.0
+   */
+  private final PluralRules pluralRules;
+
+  /**
+   * The per-thread copies of the number formats together with their scratch
+   * buffer.
+   *
+   * @since 0.3.0
+   */
+  private final ThreadLocal<NumberState> numberState;
+
+  /**
+   * Constructs a new formatter set for the given locale.
+   *
+   * @param locale the locale to format for
+   * @since 0.3.0
+   */
+  private LocaleFormatters(final Locale locale) {
+    this.locale = locale;
+    this.pluralRules = PluralRules.of(locale);
+
+    final ValueFormat[] formats = ValueFormat.values();
+    this.numberFormats = new NumberFormat[formats.length];
+    this.dateTimeFormatters = new DateTimeFormatter[formats.length];
+    final ZoneId zone = ZoneId.systemDefault();
+    for (final ValueFormat format : formats) {
+      if (format.isNumber()) {
+        this.numberFormats[format.ordinal()] = createNumberFormat(format, locale);
+        continue;
+      }
+      final DateTimeFormatter formatter = format.isTime()
+        ? DateTimeFormatter.ofLocalizedTime(format.getStyle())
+        : DateTimeFormatter.ofLocalizedDate(format.getStyle());
+      // The zone lets instants be formatted without converting them first
+      this.dateTimeFormatters[format.ordinal()] = formatter
+        .withLocale(locale)
+        .withZone(zone);
+    }
+
+    this.numberState = ThreadLocal.withInitial(
+      () -> new NumberState(this.numberFormats)
+    );
+  }
+
+  /**
+   * Returns the formatter set for the given locale, building it on first use.
+   *
+   * @param locale the locale to format for
+   * @return the formatter set of the locale
+   * @throws NullPointerException if locale is null
+   * @since 0.3.0
+   */
+  public static LocaleFormatters of(final Locale locale) {
+    if (null == locale) {
+      throw new NullPointerException("The passed locale must not be null.");
+    }
+    final LocaleFormatters formatters = FORMATTERS.get(locale);
+    if (null != formatters) {
+      return formatters;
+    }
+    return FORMATTERS.computeIfAbsent(locale, LocaleFormatters::new);
+  }
+
+  /**
+   * Returns the formatter set for the locale of the given source.
+   *
+   * @param localeSource the locale source to format for, may be null
+   * @return the formatter set of the locale, or {@link #ROOT} if the source
+   * is null
+   * @since 0.3.0
+   */
+  public static LocaleFormatters of(final LocaleSource localeSource) {
+    return null == localeSource ? ROOT : of(localeSource.getLocale());
+  }
+
+  /**
+   * Creates the number format prototype for the given format.
+   *
+   * @since 0.3.0
+   */
+  private static NumberFormat createNumberFormat(
+    final ValueFormat format,
+    final Locale locale
+  ) {
+    switch (format) {
+      case INTEGER:
+        return NumberFormat.getIntegerInstance(locale);
+      case PERCENT:
+        return NumberFormat.getPercentInstance(locale);
+      case CURRENCY:
+        return NumberFormat.getCurrencyInstance(locale);
+      case NUMBER:
+      default:
+        return NumberFormat.getNumberInstance(locale);
+    }
+  }
+
+  /**
+   * Returns the locale of this formatter set.
+   *
+   * @return the locale
+   * @since 0.3.0
+   */
+  public Locale getLocale() {
+    return this.locale;
+  }
+
+  /**
+   * Returns the plural rules of the language of this formatter set.
+   *
+   * @return the plural rules
+   * @since 0.3.0
+   */
+  public PluralRules getPluralRules() {
+    return this.pluralRules;
+  }
+
+  /**
+   * Formats the given value and appends the result to the target.
+   * <p>
+   * Number formats accept any {@link Number}. Date and time formats accept
+   * {@link TemporalAccessor}, {@link Date} and {@link Calendar} values.
+   * Values of other types, and temporal values that lack the fields the format
+   * needs, are not formatted and leave the target unchanged.
+   *
+   * @param format the format to apply
+   * @param value  the value to format
+   * @param target the builder that receives the formatted value
+   * @return true if the value was formatted, false otherwise
+   * @since 0.3.0
+   */
+  public boolean formatTo(
+    final ValueFormat format,
+    final Object value,
+    final StringBuilder target
+  ) {
+    if (format.isNumber()) {
+      if (!(value instanceof Number)) {
+        return false;
+      }
+      final NumberState state = this.numberState.get();
+      state.buffer.setLength(0);
+      state.formats[format.ordinal()].format(value, state.buffer, state.position);
+      target.append(state.buffer);
+      return true;
+    }
+
+    final TemporalAccessor temporal;
+    if (value instanceof TemporalAccessor) {
+      temporal = (TemporalAccessor) value;
+    } else if (value instanceof Date) {
+      temporal = ((Date) value).toInstant();
+    } else if (value instanceof Calendar) {
+      temporal = ((Calendar) value).toInstant();
+    } else {
+      return false;
+    }
+
+    final int length = target.length();
+    try {
+      this.dateTimeFormatters[format.ordinal()].formatTo(temporal, target);
+      return true;
+    } catch (final DateTimeException exception) {
+      // For example a time format applied to a date without a time
+      target.setLength(length);
+      return false;
+    }
+  }
+
+  /**
+   * The number formats and scratch buffer owned by a single thread.
+   *
+   * @since 0.3.0
+   */
+  private static final class NumberState {
+    private final NumberFormat[] formats;
+    private final StringBuffer buffer = new StringBuffer(32);
+    private final FieldPosition position = new FieldPosition(0);
+
+    private NumberState(final NumberFormat[] prototypes) {
+      this.formats = new NumberFormat[prototypes.length];
+      for (int i = 0; i < prototypes.length; i++) {
+        if (null != prototypes[i]) {
+          this.formats[i] = (NumberFormat) prototypes[i].clone();
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package me.kvdpxne.boujee.locale;
+
+import java.util.Locale;
+
+/**
+ * The CLDR plural categories a number can fall into.
+ * <p>
+ * Which categories a language uses, and which numbers belong to them, is
+ * defined by its {@link PluralRules}. Every language uses {@link #OTHER}.
+ *
+ * @since 0.3.0
+ */
+public enum PluralCategory {
+
+  /**
+   * Used by some languages for zero, such as Latvian.
+   */
+  ZERO,
+
+  /**
+   * Used by most languages for one, and for related numbers in others.
+   */
+  ONE,
+
+  /**
+   * Used by some languages for two, such as Arabic and Hebrew.
+   */
+  TWO,
+
+  /**
+   * Used by some languages for small numbers, such as 2-4 in Polish.
+   */
+  FEW,
+
+  /**
+   * Used by some languages for large numbers or fractions.
+   */
+  MANY,
+
+  /**
+   * Used for every number no other category applies to.
+   */
+  OTHER;
+
+  /**
+   * Finds the category with the given CLDR keyword.
+   *
+   * @param keyword the keyword, such as {@code one} or {@code other}
+   * @return the matching category, or null if there is none
+   * @since 0.3.0
+   */
+  public static PluralCategory of(final String keyword) {
+    if (null == keyword) {
+      return null;
+    }
+    switch (keyword.toLowerCase(Locale.ENGLISH)) {
+      case "zero":
+        return ZERO;
+      case "one":
+        return ONE;
+      case "two":
+        return TWO;
+      case "few":
+        return FEW;
+      case "many":
+        return MANY;
+      case "other":
+        return OTHER;
+      default:
+        return null;
+    }
+  }
+}
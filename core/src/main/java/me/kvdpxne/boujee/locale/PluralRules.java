@@ -0,0 +1,585 @@
+package me.kvdpxne.boujee.locale;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The cardinal plural rules of a language, compiled from the CLDR rule syntax.
+ * <p>
+ * A rule set is a list of conditions such as {@code i = 1 and v = 0}, one per
+ * plural category, written as
+ * {@code "one: i = 1 and v = 0; few: v = 0 and i % 10 = 2..4"}. The operands
+ * are the ones defined by CLDR:
+ * <ul>
+ *   <li>{@code n} - the absolute value of the number</li>
+ *   <li>{@code i} - the integer digits of the number</li>
+ *   <li>{@code v} - the number of visible fraction digits, with trailing
+ *   zeros</li>
+ *   <li>{@code w} - the number of visible fraction digits, without trailing
+ *   zeros</li>
+ *   <li>{@code f} - the visible fraction digits, with trailing zeros</li>
+ *   <li>{@code t} - the visible fraction digits, without trailing zeros</li>
+ * </ul>
+ * <p>
+ * Rules are parsed once into flat arrays of numeric relations, so selecting a
+ * category only compares numbers and allocates nothing for integral values.
+ * Rules of the common languages are built in and cached per language.
+ *
+ * @since 0.3.0
+ */
+public final class PluralRules {
+
+  /**
+   * The built-in rule descriptions, keyed by language code.
+   *
+   * @since 0.3.0
+   */
+  private static final Map<String, String> DESCRIPTIONS = new HashMap<>(128);
+
+  /**
+   * Cache of compiled rule sets, keyed by language code.
+   *
+   * @since 0.3.0
+   */
+  private static final ConcurrentMap<String, PluralRules> RULES =
+    new ConcurrentHashMap<>(32);
+
+  /**
+   * The rules of languages without plural forms, where every number is
+   * {@link PluralCategory#OTHER}.
+   *
+   * @since 0.3.0
+   */
+  public static final PluralRules ROOT =
+    new PluralRules(new PluralCategory[0], new Relation[0][][]);
+
+  static {
+    register("ja zh ko th vi id ms my lo km", "");
+    register("en de nl sv it fi et ca gl ur sw fy ia yi",
+      "one: i = 1 and v = 0");
+    register("es el tr hu bg nb no nn kk az ka sq ta te ml mn ne ps so uz eu",
+      "one: n = 1");
+    register("pt", "one: i = 0..1");
+    register("fr", "one: i = 0,1");
+    register("hi bn fa am zu kn gu mr", "one: i = 0 or n = 1");
+    register("da", "one: n = 1 or t != 0 and i = 0,1");
+    register("is", "one: t = 0 and i % 10 = 1 and i % 100 != 11 or t != 0");
+    register("pl",
+      "one: i = 1 and v = 0;"
+        + " few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14;"
+        + " many: v = 0 and i != 1 and i % 10 = 0..1"
+        + " or v = 0 and i % 10 = 5..9 or v = 0 and i % 100 = 12..14");
+    register("ru uk",
+      "one: v = 0 and i % 10 = 1 and i % 100 != 11;"
+        + " few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14;"
+        + " many: v = 0 and i % 10 = 0 or v = 0 and i % 10 = 5..9"
+        + " or v = 0 and i % 100 = 11..14");
+    register("be",
+      "one: n % 10 = 1 and n % 100 != 11;"
+        + " few: n % 10 = 2..4 and n % 100 != 12..14;"
+        + " many: n % 10 = 0 or n % 10 = 5..9 or n % 100 = 11..14");
+    register("cs sk",
+      "one: i = 1 and v = 0; few: i = 2..4 and v = 0; many: v != 0");
+    register("lt",
+      "one: n % 10 = 1 and n % 100 != 11..19;"
+        + " few: n % 10 = 2..9 and n % 100 != 11..19;"
+        + " many: f != 0");
+    register("lv",
+      "zero: n % 10 = 0 or n % 100 = 11..19 or v = 2 and f % 100 = 11..19;"
+        + " one: n % 10 = 1 and n % 100 != 11 or v = 2 and f % 10 = 1"
+        + " and f % 100 != 11 or v != 2 and f % 10 = 1");
+    register("ro mo",
+      "one: i = 1 and v = 0; few: v != 0 or n = 0 or n != 1 and n % 100 = 1..19");
+    register("ar",
+      "zero: n = 0; one: n = 1; two: n = 2;"
+        + " few: n % 100 = 3..10; many: n % 100 = 11..99");
+    register("he iw",
+      "one: i = 1 and v = 0; two: i = 2 and v = 0;"
+        + " many: v = 0 and n != 0..10 and n % 10 = 0");
+    register("sl",
+      "one: v = 0 and i % 100 = 1; two: v = 0 and i % 100 = 2;"
+        + " few: v = 0 and i % 100 = 3..4 or v != 0");
+    register("hr sr bs sh",
+      "one: v = 0 and i % 10 = 1 and i % 100 != 11"
+        + " or f % 10 = 1 and f % 100 != 11;"
+        + " few: v = 0 and i % 10 = 2..4 and i % 100 != 12..14"
+        + " or f % 10 = 2..4 and f % 100 != 12..14");
+    register("mk",
+      "one: v = 0 and i % 10 = 1 and i % 100 != 11"
+        + " or f % 10 = 1 and f % 100 != 11");
+    register("ga", "one: n = 1; two: n = 2; few: n = 3..6; many: n = 7..10");
+    register("cy", "zero: n = 0; one: n = 1; two: n = 2; few: n = 3; many: n = 6");
+  }
+
+  /**
+   * The categories tested in order, each paired with the condition at the
+   * same index.
+   *
+   * @since 0.3.0
+   */
+  private final PluralCategory[] categories;
+
+  /**
+   * The condition of every category: a disjunction of conjunctions of
+   * relations.
+   *
+   * @since 0.3.0
+   */
+  private final Relation[][][] conditions;
+
+  /**
+   * Constructs a new rule set from compiled conditions.
+   *
+   * @param categories the categories tested in order
+   * @param conditions the condition of every category
+   * @since 0.3.0
+   */
+  private PluralRules(
+    final PluralCategory[] categories,
+    final Relation[][][] conditions
+  ) {
+    this.categories = categories;
+    this.conditions = conditions;
+  }
+
+  /**
+   * Registers the given description for every language in the list.
+   *
+   * @since 0.3.0
+   */
+  private static void register(
+    final String languages,
+    final String description
+  ) {
+    for (final String language : languages.split(" ")) {
+      DESCRIPTIONS.put(language, description);
+    }
+  }
+
+  /**
+   * Returns the plural rules of the language of the given locale.
+   *
+   * @param locale the locale
+   * @return the rules of the language, or {@link #ROOT} if the language has
+   * no built-in rules
+   * @throws NullPointerException if locale is null
+   * @since 0.3.0
+   */
+  public static PluralRules of(final Locale locale) {
+    if (null == locale) {
+      throw new NullPointerException("The passed locale must not be null.");
+    }
+
+    final String language = locale.getLanguage();
+    final PluralRules rules = RULES.get(language);
+    if (null != rules) {
+      return rules;
+    }
+    return RULES.computeIfAbsent(language, (String key) -> {
+      final String description = DESCRIPTIONS.get(key);
+      return null == description ? ROOT : parse(description);
+    });
+  }
+
+  /**
+   * Compiles plural rules from their CLDR description, such as
+   * {@code "one: i = 1 and v = 0; few: i = 2..4 and v = 0"}.
+   * <p>
+   * Sample lists starting with {@code @} are ignored. Numbers matching no
+   * condition fall into {@link PluralCategory#OTHER}.
+   *
+   * @param description the rule description
+   * @return the compiled rules
+   * @throws NullPointerException     if description is null
+   * @throws IllegalArgumentException if the description is malformed
+   * @since 0.3.0
+   */
+  public static PluralRules parse(final String description) {
+    if (null == description) {
+      throw new NullPointerException("The passed description must not be null.");
+    }
+
+    final List<PluralCategory> categories = new ArrayList<>(6);
+    final List<Relation[][]> conditions = new ArrayList<>(6);
+    for (final String rule : description.split(";")) {
+      if (rule.trim().isEmpty()) {
+        continue;
+      }
+
+      final int colon = rule.indexOf(':');
+      if (-1 == colon) {
+        throw new IllegalArgumentException("Missing plural category in rule: " + rule.trim());
+      }
+      final PluralCategory category = PluralCategory.of(rule.substring(0, colon).trim());
+      if (null == category) {
+        throw new IllegalArgumentException("Unknown plural category in rule: " + rule.trim());
+      }
+      if (PluralCategory.OTHER == category) {
+        continue;
+      }
+
+      final int samples = rule.indexOf('@', colon);
+      final String condition = -1 == samples
+        ? rule.substring(colon + 1)
+        : rule.substring(colon + 1, samples);
+      categories.add(category);
+      conditions.add(new Parser(condition).parseCondition());
+    }
+
+    return new PluralRules(
+      categories.toArray(new PluralCategory[0]),
+      conditions.toArray(new Relation[0][][])
+    );
+  }
+
+  /**
+   * Selects the plural category of the given number.
+   *
+   * @param number the number
+   * @return the plural category
+   * @throws NullPointerException if number is null
+   * @since 0.3.0
+   */
+  public PluralCategory select(final Number number) {
+    if (null == number) {
+      throw new NullPointerException("The passed number must not be null.");
+    }
+
+    if (number instanceof Long
+      || number instanceof Integer
+      || number instanceof Short
+      || number instanceof Byte) {
+      return this.select(number.longValue());
+    }
+    if (number instanceof BigDecimal) {
+      return this.select((BigDecimal) number);
+    }
+    if (number instanceof BigInteger && ((BigInteger) number).bitLength() < 63) {
+      return this.select(number.longValue());
+    }
+
+    final double value = number.doubleValue();
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      return PluralCategory.OTHER;
+    }
+    if (value == Math.rint(value) && Math.abs(value) < 1.0E18) {
+      return this.select((long) value);
+    }
+    return this.select(BigDecimal.valueOf(value));
+  }
+
+  /**
+   * Selects the plural category of the given integer.
+   *
+   * @param number the number
+   * @return the plural category
+   * @since 0.3.0
+   */
+  public PluralCategory select(final long number) {
+    final long integer = Long.MIN_VALUE == number ? Long.MAX_VALUE : Math.abs(number);
+    return this.select(integer, integer, 0, 0, 0L, 0L);
+  }
+
+  /**
+   * Selects the plural category of the given decimal, taking its visible
+   * fraction digits into account.
+   *
+   * @since 0.3.0
+   */
+  private PluralCategory select(final BigDecimal number) {
+    final BigDecimal value = number.abs();
+    final int visible = Math.max(0, value.scale());
+    final long integer = value.longValue();
+
+    long fraction = 0L;
+    if (0 != visible) {
+      fraction = value
+        .subtract(BigDecimal.valueOf(integer))
+        .movePointRight(visible)
+        .longValue();
+    }
+
+    long trimmed = fraction;
+    int significant = visible;
+    while (0 != significant && 0 == trimmed % 10) {
+      trimmed /= 10;
+      --significant;
+    }
+
+    return this.select(value.doubleValue(), integer, visible, significant, fraction, trimmed);
+  }
+
+  /**
+   * Tests the conditions in order against the given operands.
+   *
+   * @since 0.3.0
+   */
+  private PluralCategory select(
+    final double n,
+    final long i,
+    final int v,
+    final int w,
+    final long f,
+    final long t
+  ) {
+    for (int index = 0; index < this.conditions.length; index++) {
+      if (matches(this.conditions[index], n, i, v, w, f, t)) {
+        return this.categories[index];
+      }
+    }
+    return PluralCategory.OTHER;
+  }
+
+  /**
+   * Tests a disjunction of conjunctions of relations.
+   *
+   * @since 0.3.0
+   */
+  private static boolean matches(
+    final Relation[][] condition,
+    final double n,
+    final long i,
+    final int v,
+    final int w,
+    final long f,
+    final long t
+  ) {
+    for (final Relation[] conjunction : condition) {
+      boolean matches = true;
+      for (final Relation relation : conjunction) {
+        matches &= relation.matches(n, i, v, w, f, t);
+      }
+      if (matches) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns the categories this language distinguishes, in evaluation order,
+   * not including {@link PluralCategory#OTHER}.
+   *
+   * @return a new array of the categories
+   * @since 0.3.0
+   */
+  public PluralCategory[] getCategories() {
+    return this.categories.clone();
+  }
+
+  /**
+   * A single compiled relation, such as {@code i % 100 != 12..14}.
+   *
+   * @since 0.3.0
+   */
+  private static final class Relation {
+    private final char operand;
+    private final long modulus;
+    private final boolean negated;
+    private final boolean within;
+    private final long[] lows;
+    private final long[] highs;
+
+    private Relation(
+      final char operand,
+      final long modulus,
+      final boolean negated,
+      final boolean within,
+      final long[] lows,
+      final long[] highs
+    ) {
+      this.operand = operand;
+      this.modulus = modulus;
+      this.negated = negated;
+      this.within = within;
+      this.lows = lows;
+      this.highs = highs;
+    }
+
+    private boolean matches(
+      final double n,
+      final long i,
+      final int v,
+      final int w,
+      final long f,
+      final long t
+    ) {
+      if ('n' == this.operand) {
+        final double value = 0 == this.modulus ? n : n % this.modulus;
+        // Ranges of 'in' and '=' only contain integers
+        final boolean integral = this.within || value == Math.rint(value);
+        boolean found = false;
+        for (int index = 0; index < this.lows.length; index++) {
+          found |= integral && value >= this.lows[index] && value <= this.highs[index];
+        }
+        return found != this.negated;
+      }
+
+      long value;
+      switch (this.operand) {
+        case 'i':
+          value = i;
+          break;
+        case 'v':
+          value = v;
+          break;
+        case 'w':
+          value = w;
+          break;
+        case 'f':
+          value = f;
+          break;
+        default:
+          value = t;
+      }
+      if (0 != this.modulus) {
+        value %= this.modulus;
+      }
+
+      boolean found = false;
+      for (int index = 0; index < this.lows.length; index++) {
+        // A single unsigned comparison tests both bounds
+        found |= Long.compareUnsigned(
+          value - this.lows[index],
+          this.highs[index] - this.lows[index]
+        ) <= 0;
+      }
+      return found != this.negated;
+    }
+  }
+
+  /**
+   * A recursive descent parser of the CLDR condition syntax.
+   *
+   * @since 0.3.0
+   */
+  private static final class Parser {
+    private final String source;
+    private int position;
+
+    private Parser(final String source) {
+      this.source = source;
+    }
+
+    private Relation[][] parseCondition() {
+      final List<Relation[]> disjunction = new ArrayList<>(2);
+      do {
+        final List<Relation> conjunction = new ArrayList<>(2);
+        do {
+          conjunction.add(this.parseRelation());
+        } while (this.accept("and"));
+        disjunction.add(conjunction.toArray(new Relation[0]));
+      } while (this.accept("or"));
+
+      this.skipWhitespace();
+      if (this.position != this.source.length()) {
+        throw this.error();
+      }
+      return disjunction.toArray(new Relation[0][]);
+    }
+
+    private Relation parseRelation() {
+      this.skipWhitespace();
+      if (this.position >= this.source.length()) {
+        throw this.error();
+      }
+      final char operand = this.source.charAt(this.position);
+      if ("nivwft".indexOf(operand) < 0) {
+        throw this.error();
+      }
+      ++this.position;
+
+      long modulus = 0;
+      if (this.accept("%") || this.accept("mod")) {
+        modulus = this.parseValue();
+        if (0 == modulus) {
+          throw this.error();
+        }
+      }
+
+      boolean negated = false;
+      boolean within = false;
+      if (this.accept("!=")) {
+        negated = true;
+      } else if (this.accept("=")) {
+        // Equality with a range list
+      } else if (this.accept("is")) {
+        negated = this.accept("not");
+      } else {
+        negated = this.accept("not");
+        if (this.accept("within")) {
+          within = true;
+        } else if (!this.accept("in")) {
+          throw this.error();
+        }
+      }
+
+      final List<long[]> ranges = new ArrayList<>(2);
+      do {
+        final long low = this.parseValue();
+        final long high = this.accept("..") ? this.parseValue() : low;
+        if (high < low) {
+          throw this.error();
+        }
+        ranges.add(new long[]{low, high});
+      } while (this.accept(","));
+
+      final long[] lows = new long[ranges.size()];
+      final long[] highs = new long[ranges.size()];
+      for (int index = 0; index < lows.length; index++) {
+        lows[index] = ranges.get(index)[0];
+        highs[index] = ranges.get(index)[1];
+      }
+      return new Relation(operand, modulus, negated, within, lows, highs);
+    }
+
+    private long parseValue() {
+      this.skipWhitespace();
+      final int start = this.position;
+      while (this.position < this.source.length()
+        && Character.isDigit(this.source.charAt(this.position))) {
+        ++this.position;
+      }
+      if (start == this.position) {
+        throw this.error();
+      }
+      return Long.parseLong(this.source.substring(start, this.position));
+    }
+
+    private boolean accept(final String token) {
+      this.skipWhitespace();
+      if (!this.source.startsWith(token, this.position)) {
+        return false;
+      }
+      final int end = this.position + token.length();
+      // Keywords must not be a prefix of a longer word
+      if (Character.isLetter(token.charAt(0))
+        && end < this.source.length()
+        && Character.isLetter(this.source.charAt(end))) {
+        return false;
+      }
+      this.position = end;
+      return true;
+    }
+
+    private void skipWhitespace() {
+      while (this.position < this.source.length()
+        && Character.isWhitespace(this.source.charAt(this.position))) {
+        ++this.position;
+      }
+    }
+
+    private IllegalArgumentException error() {
+      return new IllegalArgumentException(
+        "Invalid plural rule at position " + this.position + ": " + this.source.trim()
+      );
+    }
+  }
+}
@@ -0,0 +1,1175 @@
+package me.kvdpxne.boujee.replace;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import me.kvdpxne.boujee.content.Replacements;
+import me.kvdpxne.boujee.locale.LocaleFormatters;
+import me.kvdpxne.boujee.locale.PluralCategory;
+import me.kvdpxne.boujee.locale.PluralRules;
+
+/**
+ * A translation content compiled into alternating literal and placeholder
+ * segments.
+ * <p>
+ * A placeholder is any {@code {...}} token that does not contain nested
+ * braces, which is the form produced by
+ * {@link me.kvdpxne.boujee.content.Replacer}. Everything else, including
+ * unmatched braces, is kept as literal content.
+ * <p>
+ * The UTF-8 encoding of the literal segments is computed lazily on first use
+ * and reused for every following render, so writing a rendered template into
+ * a {@link ByteBuffer} only has to encode the placeholder values.
+ * <p>
+ * The hash of every placeholder is computed at compile time, which allows
+ * binding the placeholder slots to the entries of a {@link Replacements} view
+ * by index, see {@link #bind(Replacements)}.
+ * <p>
+ * A placeholder may also request a format for its value, as in
+ * {@code {amount,number}} or {@code {when,date,short}}; see
+ * {@link ValueFormat} for the supported formats. Such a typed placeholder is
+ * bound to the {@code {amount}} entry of a {@link Replacements} view, and its
+ * value is formatted with the formatters of the rendered locale. Replacement
+ * maps have no typed values, so they only match the token as written.
+ * <p>
+ * Finally, a placeholder may choose between variants of the content:
+ * <ul>
+ *   <li>{@code {count,plural,one{# item} other{# items}}} chooses a variant by
+ *   the plural category of the number in the rendered locale, or by an exact
+ *   value written as {@code =0}; {@code #} inside a variant renders the
+ *   number</li>
+ *   <li>{@code {gender,select,female{her} male{his} other{their}}} chooses the
+ *   variant whose keyword equals the value</li>
+ * </ul>
+ * Every variant is compiled into a nested template when the content is
+ * compiled. A choice without an {@code other} variant is kept as literal
+ * content.
+ *
+ * @since 0.3.0
+ */
+public final class Template {
+
+  /**
+   * The largest builder kept for reuse by a thread after rendering.
+   *
+   * @since 0.3.0
+   */
+  private static final int MAX_RETAINED_CAPACITY = 8192;
+
+  /**
+   * Per-thread builder used to render templates with typed slots, whose
+   * length is not known before formatting. Nested renders, started by lazy
+   * values, append after the output of the enclosing render.
+   *
+   * @since 0.3.0
+   */
+  private static final ThreadLocal<StringBuilder> BUILDER =
+    ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+  /**
+   * The token that renders the number of the enclosing plural choice.
+   *
+   * @since 0.3.0
+   */
+  private static final char[] NUMBER_SIGN = {'#'};
+
+  /**
+   * The literal segments, always one more than the number of placeholders.
+   *
+   * @since 0.3.0
+   */
+  private final char[][] literals;
+
+  /**
+   * The placeholder tokens, including their braces, in order of appearance.
+   *
+   * @since 0.3.0
+   */
+  private final char[][] placeholders;
+
+  /**
+   * The hash of every placeholder token, as computed by
+   * {@link Arrays#hashCode(char[])}.
+   *
+   * @since 0.3.0
+   */
+  private final int[] placeholderHashes;
+
+  /**
+   * The open-addressed table of the distinct placeholder tokens, holding the
+   * index of the first slot of each token plus one, or 0 for a free bucket.
+   *
+   * @since 0.3.0
+   */
+  private final int[] tokenTable;
+
+  /**
+   * The index of the next slot with the same token as every slot, or -1.
+   *
+   * @since 0.3.0
+   */
+  private final int[] sameToken;
+
+  /**
+   * The placeholder of every slot as looked up in a {@link Replacements}
+   * view, which is the token itself unless the token is typed.
+   *
+   * @since 0.3.0
+   */
+  private final char[][] keys;
+
+  /**
+   * The hash of every key, as computed by {@link Arrays#hashCode(char[])}.
+   *
+   * @since 0.3.0
+   */
+  private final int[] keyHashes;
+
+  /**
+   * The format requested by every slot, or null for untyped slots.
+   *
+   * @since 0.3.0
+   */
+  private final ValueFormat[] formats;
+
+  /**
+   * The variants every slot chooses from, or null for slots without variants.
+   *
+   * @since 0.3.0
+   */
+  private final Choice[] choices;
+
+  /**
+   * Whether any slot is formatted or chooses a variant.
+   *
+   * @since 0.3.0
+   */
+  private final boolean formatted;
+
+  /**
+   * The tokens of every placeholder this template and its variants
+   * reference, see {@link #getNumberOfReferences()}.
+   *
+   * @since 0.3.0
+   */
+  private final char[][] referenceTokens;
+
+  /**
+   * The keys of every placeholder this template and its variants reference.
+   *
+   * @since 0.3.0
+   */
+  private final char[][] referenceKeys;
+
+  /**
+   * The hashes of {@link #referenceKeys}.
+   *
+   * @since 0.3.0
+   */
+  private final int[] referenceHashes;
+
+  /**
+   * Lazily computed UTF-8 encoding of every literal segment.
+   *
+   * @since 0.3.0
+   */
+  private volatile byte[][] literalBytes;
+
+  /**
+   * Constructs a new template from already split segments.
+   *
+   * @param literals     the literal segments
+   * @param placeholders the placeholder tokens
+   * @param keys         the key of every slot
+   * @param formats      the format of every slot
+   * @param choices      the variants of every slot
+   * @since 0.3.0
+   */
+  private Template(
+    final char[][] literals,
+    final char[][] placeholders,
+    final char[][] keys,
+    final ValueFormat[] formats,
+    final Choice[] choices
+  ) {
+    this.literals = literals;
+    this.placeholders = placeholders;
+    this.keys = keys;
+    this.formats = formats;
+    this.choices = choices;
+    this.keyHashes = new int[keys.length];
+
+    final List<char[]> referenceTokens = new ArrayList<>(keys.length);
+    final List<char[]> referenceKeys = new ArrayList<>(keys.length);
+    boolean formatted = false;
+    for (int i = 0; i < keys.length; i++) {
+      this.keyHashes[i] = Arrays.hashCode(keys[i]);
+      formatted |= null != formats[i] || null != choices[i];
+      referenceTokens.add(placeholders[i]);
+      referenceKeys.add(keys[i]);
+      if (null == choices[i]) {
+        continue;
+      }
+      for (final Template variant : choices[i].variants) {
+        referenceTokens.addAll(Arrays.asList(variant.referenceTokens));
+        referenceKeys.addAll(Arrays.asList(variant.referenceKeys));
+      }
+    }
+    this.formatted = formatted;
+
+    this.placeholderHashes = new int[placeholders.length];
+    this.sameToken = new int[placeholders.length];
+    this.tokenTable = new int[Integer.highestOneBit(2 * placeholders.length + 1) << 1];
+    final int mask = this.tokenTable.length - 1;
+    for (int i = 0; i < placeholders.length; i++) {
+      final int hash = Arrays.hashCode(placeholders[i]);
+      this.placeholderHashes[i] = hash;
+      this.sameToken[i] = -1;
+      for (int bucket = spread(hash) & mask; ; bucket = (bucket + 1) & mask) {
+        final int first = this.tokenTable[bucket] - 1;
+        if (-1 == first) {
+          this.tokenTable[bucket] = i + 1;
+          break;
+        }
+        if (hash == this.placeholderHashes[first]
+          && Arrays.equals(placeholders[i], placeholders[first])) {
+          // Later slots of a repeated token are chained after the first
+          int last = first;
+          while (-1 != this.sameToken[last]) {
+            last = this.sameToken[last];
+          }
+          this.sameToken[last] = i;
+          break;
+        }
+      }
+    }
+
+    this.referenceTokens = referenceTokens.toArray(new char[0][]);
+    this.referenceKeys = referenceKeys.toArray(new char[0][]);
+    this.referenceHashes = new int[this.referenceKeys.length];
+    for (int i = 0; i < this.referenceKeys.length; i++) {
+      this.referenceHashes[i] = Arrays.hashCode(this.referenceKeys[i]);
+    }
+  }
+
+  /**
+   * Compiles the given content into a template.
+   *
+   * @param source the content to compile
+   * @return the compiled template
+   * @throws NullPointerException if source is null
+   * @since 0.3.0
+   */
+  public static Template compile(final char[] source) {
+    if (null == source) {
+      throw new NullPointerException("The passed source must not be null.");
+    }
+    return compile(source, 0, source.length, null);
+  }
+
+  /**
+   * Compiles the given range of content into a template.
+   *
+   * @param source    the content to compile
+   * @param from      the index of the first character, inclusive
+   * @param to        the index of the last character, exclusive
+   * @param numberKey the key {@code #} renders, or null outside of plural
+   *                  variants
+   * @return the compiled template
+   * @since 0.3.0
+   */
+  private static Template compile(
+    final char[] source,
+    final int from,
+    final int to,
+    final char[] numberKey
+  ) {
+    final List<char[]> literals = new ArrayList<>(4);
+    final List<char[]> placeholders = new ArrayList<>(4);
+    final List<char[]> keys = new ArrayList<>(4);
+    final List<ValueFormat> formats = new ArrayList<>(4);
+    final List<Choice> choices = new ArrayList<>(4);
+
+    int literalStart = from;
+    int position = from;
+    while (position < to) {
+      final char c = source[position];
+      if ('#' == c && null != numberKey) {
+        literals.add(Arrays.copyOfRange(source, literalStart, position));
+        placeholders.add(NUMBER_SIGN);
+        keys.add(numberKey);
+        formats.add(ValueFormat.NUMBER);
+        choices.add(null);
+        literalStart = ++position;
+        continue;
+      }
+
+      if ('{' != c) {
+        ++position;
+        continue;
+      }
+
+      final int simpleEnd = closingBrace(source, position, to);
+      if (-1 != simpleEnd) {
+        final char[] token = Arrays.copyOfRange(source, position, simpleEnd + 1);
+        literals.add(Arrays.copyOfRange(source, literalStart, position));
+        placeholders.add(token);
+        parseToken(token, keys, formats);
+        choices.add(null);
+        literalStart = position = simpleEnd + 1;
+        continue;
+      }
+
+      final int nestedEnd = matchingBrace(source, position, to);
+      final Choice choice = -1 == nestedEnd
+        ? null
+        : Choice.parse(source, position, nestedEnd, numberKey);
+      if (null == choice) {
+        ++position;
+        continue;
+      }
+      literals.add(Arrays.copyOfRange(source, literalStart, position));
+      placeholders.add(Arrays.copyOfRange(source, position, nestedEnd + 1));
+      keys.add(choice.key);
+      formats.add(null);
+      choices.add(choice);
+      literalStart = position = nestedEnd + 1;
+    }
+    literals.add(Arrays.copyOfRange(source, literalStart, to));
+
+    return new Template(
+      literals.toArray(new char[0][]),
+      placeholders.toArray(new char[0][]),
+      keys.toArray(new char[0][]),
+      formats.toArray(new ValueFormat[0]),
+      choices.toArray(new Choice[0])
+    );
+  }
+
+  /**
+   * Splits a simple token into the placeholder name and the requested format,
+   * leaving untyped and unsupported tokens as they are.
+   *
+   * @param token   the token, including its braces
+   * @param keys    receives the key of the token
+   * @param formats receives the format of the token, or null
+   * @since 0.3.0
+   */
+  private static void parseToken(
+    final char[] token,
+    final List<char[]> keys,
+    final List<ValueFormat> formats
+  ) {
+    final String body = new String(token, 1, token.length - 2);
+    final int typeStart = body.indexOf(',');
+    if (-1 == typeStart) {
+      keys.add(token);
+      formats.add(null);
+      return;
+    }
+
+    final String name = body.substring(0, typeStart).trim();
+    final int styleStart = body.indexOf(',', typeStart + 1);
+    final String type = -1 == styleStart
+      ? body.substring(typeStart + 1).trim()
+      : body.substring(typeStart + 1, styleStart).trim();
+    final String style = -1 == styleStart
+      ? null
+      : body.substring(styleStart + 1).trim();
+
+    final ValueFormat format = ValueFormat.of(type, style);
+    if (name.isEmpty() || null == format) {
+      keys.add(token);
+      formats.add(null);
+      return;
+    }
+    keys.add(('{' + name + '}').toCharArray());
+    formats.add(format);
+  }
+
+  /**
+   * Checks whether the given field is a single placeholder token, that is
+   * {@code {...}} without nested braces.
+   *
+   * @param field the field to check
+   * @return true if the field is a placeholder token, false otherwise
+   * @since 0.3.0
+   */
+  public static boolean isPlaceholder(final char[] field) {
+    return null != field
+      && 3 <= field.length
+      && '{' == field[0]
+      && field.length - 1 == closingBrace(field, 0, field.length);
+  }
+
+  /**
+   * Checks whether every key of the given replacement values is a single
+   * placeholder token, so the values can be applied to a compiled template
+   * instead of being searched for in the raw content.
+   *
+   * @param values the replacement values to check
+   * @return true if every key is a placeholder token, false otherwise
+   * @since 0.3.0
+   */
+  public static boolean arePlaceholders(final Map<char[], char[]> values) {
+    for (final char[] field : values.keySet()) {
+      if (!isPlaceholder(field)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether every placeholder of the given replacements is a single
+   * placeholder token, so the replacements can be bound to a compiled
+   * template instead of being searched for in the raw content.
+   *
+   * @param replacements the replacements to check
+   * @return true if every placeholder is a placeholder token, false otherwise
+   * @since 0.3.0
+   */
+  public static boolean arePlaceholders(final Replacements replacements) {
+    for (int i = 0; i < replacements.size(); i++) {
+      if (!isPlaceholder(replacements.placeholderAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether the given binding leaves every placeholder without a
+   * value, in which case rendering reproduces the source content.
+   *
+   * @param binding the binding returned by {@link #bind(Replacements)}
+   * @return true if no placeholder is bound, false otherwise
+   * @since 0.3.0
+   */
+  public static boolean isUnbound(final int[] binding) {
+    for (final int index : binding) {
+      if (-1 != index) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Finds the brace closing a simple placeholder opened at the given index.
+   *
+   * @param source the content to search in
+   * @param start  the index of the opening brace
+   * @param to     the index to stop searching at, exclusive
+   * @return the index of the closing brace, or -1 if the token is empty,
+   * nested or unterminated
+   * @since 0.3.0
+   */
+  private static int closingBrace(
+    final char[] source,
+    final int start,
+    final int to
+  ) {
+    for (int i = start + 1; i < to; i++) {
+      final char c = source[i];
+      if ('}' == c) {
+        return i == start + 1 ? -1 : i;
+      }
+      if ('{' == c) {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the brace closing the brace at the given index, taking nested
+   * braces into account.
+   *
+   * @param source the content to search in
+   * @param start  the index of the opening brace
+   * @param to     the index to stop searching at, exclusive
+   * @return the index of the closing brace, or -1 if it is unterminated
+   * @since 0.3.0
+   */
+  private static int matchingBrace(
+    final char[] source,
+    final int start,
+    final int to
+  ) {
+    int depth = 0;
+    for (int i = start; i < to; i++) {
+      if ('{' == source[i]) {
+        ++depth;
+      } else if ('}' == source[i] && 0 == --depth) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the replacement value for the given placeholder.
+   * <p>
+   * Empty values are ignored, which is consistent with
+   * {@link Characters#replace(char[], char[], char[])}.
+   *
+   * @param values      the replacement values
+   * @param placeholder the placeholder token
+   * @return the replacement value, or null if there is none
+   * @since 0.3.0
+   */
+  private static char[] lookup(
+    final Map<char[], char[]> values,
+    final char[] placeholder
+  ) {
+    for (final Map.Entry<char[], char[]> entry : values.entrySet()) {
+      final char[] value = entry.getValue();
+      if (!Characters.isEmpty(value)
+        && Arrays.equals(placeholder, entry.getKey())) {
+        return value;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the value of every placeholder slot in a single pass over the
+   * given values, resolving each placeholder by its hash.
+   * <p>
+   * Empty values are ignored, which is consistent with
+   * {@link Characters#replace(char[], char[], char[])}.
+   *
+   * @param values the replacement values
+   * @return the value of every slot, null for slots without one
+   * @since 0.3.0
+   */
+  private char[][] resolve(final Map<char[], char[]> values) {
+    final char[][] resolved = new char[this.placeholders.length][];
+    if (0 == resolved.length) {
+      return resolved;
+    }
+    final int mask = this.tokenTable.length - 1;
+    for (final Map.Entry<char[], char[]> entry : values.entrySet()) {
+      final char[] placeholder = entry.getKey();
+      final char[] value = entry.getValue();
+      if (Characters.isEmpty(placeholder) || Characters.isEmpty(value)) {
+        continue;
+      }
+      final int hash = Arrays.hashCode(placeholder);
+      for (int bucket = spread(hash) & mask; ; bucket = (bucket + 1) & mask) {
+        final int first = this.tokenTable[bucket] - 1;
+        if (-1 == first) {
+          break;
+        }
+        if (hash == this.placeholderHashes[first]
+          && Arrays.equals(placeholder, this.placeholders[first])) {
+          // The first entry of equal placeholders wins, as with lookup
+          for (int slot = first; -1 != slot; slot = this.sameToken[slot]) {
+            if (null == resolved[slot]) {
+              resolved[slot] = value;
+            }
+          }
+          break;
+        }
+      }
+    }
+    return resolved;
+  }
+
+  /**
+   * Spreads the bits of the given hash so that tokens differing only in
+   * their last characters land in different buckets.
+   *
+   * @since 0.3.0
+   */
+  private static int spread(final int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  /**
+   * Returns the UTF-8 encoding of the literal segments, computing it on first
+   * use.
+   *
+   * @return the encoded literal segments
+   * @since 0.3.0
+   */
+  private byte[][] getLiteralBytes() {
+    byte[][] bytes = this.literalBytes;
+    if (null == bytes) {
+      bytes = new byte[this.literals.length][];
+      for (int i = 0; i < bytes.length; i++) {
+        bytes[i] = Utf8.toBytes(this.literals[i]);
+      }
+      this.literalBytes = bytes;
+    }
+    return bytes;
+  }
+
+  /**
+   * Returns the number of placeholder tokens in this template, not counting
+   * the placeholders inside variants.
+   *
+   * @return the number of placeholders
+   * @since 0.3.0
+   */
+  public int getNumberOfPlaceholders() {
+    return this.placeholders.length;
+  }
+
+  /**
+   * Returns the number of placeholders the rendered content may depend on,
+   * including the placeholders inside variants.
+   *
+   * @return the number of referenced placeholders
+   * @since 0.3.0
+   */
+  public int getNumberOfReferences() {
+    return this.referenceKeys.length;
+  }
+
+  /**
+   * Checks whether the variants of this template reference placeholders of
+   * their own, which {@link #writeTo(Map, ByteBuffer)} does not replace.
+   *
+   * @return true if any variant references a placeholder, false otherwise
+   * @since 0.3.0
+   */
+  public boolean hasNestedPlaceholders() {
+    return this.referenceKeys.length != this.keys.length;
+  }
+
+  /**
+   * Finds the replacement value for the referenced placeholder at the given
+   * index.
+   * <p>
+   * Empty values are ignored, which is consistent with
+   * {@link Characters#replace(char[], char[], char[])}.
+   *
+   * @param values the replacement values
+   * @param index  the index of the reference, less than
+   *               {@link #getNumberOfReferences()}
+   * @return the replacement value, or null if there is none
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  public char[] findValue(
+    final Map<char[], char[]> values,
+    final int index
+  ) {
+    return lookup(values, this.referenceTokens[index]);
+  }
+
+  /**
+   * Finds the replacement value for the referenced placeholder at the given
+   * index.
+   * <p>
+   * Empty values are ignored, which is consistent with
+   * {@link Characters#replace(char[], char[], char[])}.
+   *
+   * @param replacements the replacements
+   * @param index        the index of the reference, less than
+   *                     {@link #getNumberOfReferences()}
+   * @return the replacement value, or null if there is none
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  public char[] findValue(
+    final Replacements replacements,
+    final int index
+  ) {
+    final int entry = replacements.indexOf(
+      this.referenceKeys[index],
+      this.referenceHashes[index]
+    );
+    if (-1 == entry) {
+      return null;
+    }
+    final char[] value = replacements.valueAt(entry);
+    return Characters.isEmpty(value) ? null : value;
+  }
+
+  /**
+   * Checks whether the value of the referenced placeholder at the given
+   * index is missing or was supplied as characters, without converting or
+   * computing it.
+   *
+   * @param replacements the replacements
+   * @param index        the index of the reference, less than
+   *                     {@link #getNumberOfReferences()}
+   * @return true if the value is missing or plain, false if it is typed or
+   * lazy
+   * @throws IndexOutOfBoundsException if the index is out of range
+   * @since 0.3.0
+   */
+  public boolean isPlainValue(
+    final Replacements replacements,
+    final int index
+  ) {
+    final int entry = replacements.indexOf(
+      this.referenceKeys[index],
+      this.referenceHashes[index]
+    );
+    return -1 == entry || replacements.isPlainAt(entry);
+  }
+
+  /**
+   * Resolves every placeholder slot of this template to the index of its
+   * entry in the given replacements.
+   * <p>
+   * Slots without an entry, or whose entry has an empty value, are bound to
+   * -1 and rendered unchanged. The placeholders inside variants are bound
+   * when the chosen variant is rendered.
+   *
+   * @param replacements the replacements to bind to
+   * @return the entry index of every placeholder slot, in order of appearance
+   * @since 0.3.0
+   */
+  public int[] bind(final Replacements replacements) {
+    final int[] binding = new int[this.placeholders.length];
+    for (int i = 0; i < binding.length; i++) {
+      final int entry = replacements.indexOf(
+        this.keys[i],
+        this.keyHashes[i]
+      );
+      binding[i] = -1 == entry || this.isEmpty(replacements, entry, i)
+        ? -1
+        : entry;
+    }
+    return binding;
+  }
+
+  /**
+   * Checks whether the given entry has no value to render in the given slot.
+   * Typed values are not converted to characters, as they are formatted or
+   * choose a variant instead.
+   *
+   * @since 0.3.0
+   */
+  private boolean isEmpty(
+    final Replacements replacements,
+    final int entry,
+    final int slot
+  ) {
+    if (null != this.formats[slot] || null != this.choices[slot]) {
+      final Object value = replacements.objectAt(entry);
+      if (!(value instanceof char[])) {
+        return false;
+      }
+    }
+    return Characters.isEmpty(replacements.valueAt(entry));
+  }
+
+  /**
+   * Renders this template with the bound replacement values, formatting
+   * typed values with the locale-neutral formatters.
+   *
+   * @param replacements the replacements the binding was created for
+   * @param binding      the binding returned by {@link #bind(Replacements)}
+   * @return the rendered content
+   * @since 0.3.0
+   */
+  public char[] render(
+    final Replacements replacements,
+    final int[] binding
+  ) {
+    return this.render(replacements, binding, LocaleFormatters.ROOT);
+  }
+
+  /**
+   * Renders this template with the bound replacement values, formatting
+   * typed values and choosing variants with the given formatters.
+   * <p>
+   * A typed value that its format cannot handle, such as text passed to a
+   * {@code number} placeholder, is rendered as its characters.
+   *
+   * @param replacements the replacements the binding was created for
+   * @param binding      the binding returned by {@link #bind(Replacements)}
+   * @param formatters   the formatters of the rendered locale
+   * @return the rendered content
+   * @since 0.3.0
+   */
+  public char[] render(
+    final Replacements replacements,
+    final int[] binding,
+    final LocaleFormatters formatters
+  ) {
+    if (!this.formatted) {
+      return this.renderPlain(replacements, binding);
+    }
+
+    // A lazy value may render another template on this thread while this
+    // one is being rendered, so each render only owns the builder past the
+    // length it found
+    final StringBuilder builder = BUILDER.get();
+    final int start = builder.length();
+    try {
+      this.appendTo(builder, replacements, binding, formatters);
+
+      final char[] result = new char[builder.length() - start];
+      builder.getChars(start, builder.length(), result, 0);
+      return result;
+    } finally {
+      builder.setLength(start);
+      if (0 == start && builder.capacity() > MAX_RETAINED_CAPACITY) {
+        BUILDER.remove();
+      }
+    }
+  }
+
+  /**
+   * Renders this template at the end of the given builder.
+   *
+   * @since 0.3.0
+   */
+  private void appendTo(
+    final StringBuilder builder,
+    final Replacements replacements,
+    final int[] binding,
+    final LocaleFormatters formatters
+  ) {
+    builder.append(this.literals[0]);
+    for (int i = 0; i < binding.length; i++) {
+      final int entry = binding[i];
+      if (-1 == entry) {
+        builder.append(this.placeholders[i]);
+      } else if (null != this.choices[i]) {
+        final Template variant = this.choices[i].select(
+          replacements,
+          entry,
+          formatters.getPluralRules()
+        );
+        variant.appendTo(builder, replacements, variant.bind(replacements), formatters);
+      } else if (null == this.formats[i]
+        || !formatters.formatTo(this.formats[i], replacements.objectAt(entry), builder)) {
+        builder.append(replacements.valueAt(entry));
+      }
+      builder.append(this.literals[i + 1]);
+    }
+  }
+
+  /**
+   * Renders this template without typed slots straight into an exactly sized
+   * array.
+   *
+   * @since 0.3.0
+   */
+  private char[] renderPlain(
+    final Replacements replacements,
+    final int[] binding
+  ) {
+    int length = this.literals[0].length;
+    for (int i = 0; i < binding.length; i++) {
+      length += -1 == binding[i]
+        ? this.placeholders[i].length
+        : replacements.valueAt(binding[i]).length;
+      length += this.literals[i + 1].length;
+    }
+
+    final char[] result = new char[length];
+    int position = append(this.literals[0], result, 0);
+    for (int i = 0; i < binding.length; i++) {
+      position = append(
+        -1 == binding[i] ? this.placeholders[i] : replacements.valueAt(binding[i]),
+        result,
+        position
+      );
+      position = append(this.literals[i + 1], result, position);
+    }
+    return result;
+  }
+
+  /**
+   * Copies the source into the target at the given position.
+   *
+   * @return the position just past the copied characters
+   * @since 0.3.0
+   */
+  private static int append(
+    final char[] source,
+    final char[] target,
+    final int position
+  ) {
+    System.arraycopy(source, 0, target, position, source.length);
+    return position + source.length;
+  }
+
+  /**
+   * Calculates the number of bytes needed to write this template with the
+   * given replacement values.
+   *
+   * @param values the replacement values
+   * @return the number of bytes {@link #writeTo(Map, ByteBuffer)} would write
+   * @since 0.3.0
+   */
+  public int encodedLength(final Map<char[], char[]> values) {
+    final byte[][] bytes = this.getLiteralBytes();
+    final char[][] resolved = this.resolve(values);
+    int length = bytes[0].length;
+    for (int i = 0; i < this.placeholders.length; i++) {
+      final char[] value = resolved[i];
+      length += Utf8.encodedLength(null != value ? value : this.placeholders[i]);
+      length += bytes[i + 1].length;
+    }
+    return length;
+  }
+
+  /**
+   * Writes this template as UTF-8 into the target buffer, starting at its
+   * current position.
+   * <p>
+   * Literal segments are copied from their pre-encoded form; only the
+   * replacement values are encoded. Placeholders without a value are written
+   * unchanged, and so are plural and select placeholders, including the
+   * placeholders inside their variants, see
+   * {@link #hasNestedPlaceholders()}.
+   *
+   * @param values the replacement values
+   * @param target the buffer that receives the encoded bytes
+   * @throws BufferOverflowException if the target buffer has not enough
+   *                                 remaining space
+   * @since 0.3.0
+   */
+  public void writeTo(
+    final Map<char[], char[]> values,
+    final ByteBuffer target
+  ) {
+    final byte[][] bytes = this.getLiteralBytes();
+    final char[][] resolved = this.resolve(values);
+    target.put(bytes[0]);
+    for (int i = 0; i < this.placeholders.length; i++) {
+      final char[] value = resolved[i];
+      Utf8.encode(null != value ? value : this.placeholders[i], target);
+      target.put(bytes[i + 1]);
+    }
+  }
+
+  /**
+   * The variants of a plural or select placeholder.
+   *
+   * @since 0.3.0
+   */
+  private static final class Choice {
+
+    /**
+     * The placeholder whose value chooses the variant.
+     */
+    private final char[] key;
+
+    /**
+     * Whether variants are chosen by plural category rather than by keyword.
+     */
+    private final boolean plural;
+
+    /**
+     * The exact value every variant matches, or NaN for other variants.
+     */
+    private final double[] exactValues;
+
+    /**
+     * The plural category every variant matches, or null.
+     */
+    private final PluralCategory[] categories;
+
+    /**
+     * The keyword every variant matches.
+     */
+    private final char[][] keywords;
+
+    /**
+     * The compiled variants.
+     */
+    private final Template[] variants;
+
+    /**
+     * The variant used when no other variant matches.
+     */
+    private final Template other;
+
+    private Choice(
+      final char[] key,
+      final boolean plural,
+      final double[] exactValues,
+      final PluralCategory[] categories,
+      final char[][] keywords,
+      final Template[] variants,
+      final Template other
+    ) {
+      this.key = key;
+      this.plural = plural;
+      this.exactValues = exactValues;
+      this.categories = categories;
+      this.keywords = keywords;
+      this.variants = variants;
+      this.other = other;
+    }
+
+    /**
+     * Parses a choice placeholder spanning from the opening to the closing
+     * brace.
+     *
+     * @return the parsed choice, or null if the token is not a well-formed
+     * plural or select placeholder
+     */
+    private static Choice parse(
+      final char[] source,
+      final int start,
+      final int end,
+      final char[] numberKey
+    ) {
+      final int nameEnd = indexOf(source, ',', start + 1, end);
+      if (-1 == nameEnd) {
+        return null;
+      }
+      final int typeEnd = indexOf(source, ',', nameEnd + 1, end);
+      if (-1 == typeEnd) {
+        return null;
+      }
+
+      final String name = new String(source, start + 1, nameEnd - start - 1).trim();
+      final String type = new String(source, nameEnd + 1, typeEnd - nameEnd - 1).trim();
+      final boolean plural = "plural".equals(type);
+      if (name.isEmpty() || -1 != name.indexOf('{') || (!plural && !"select".equals(type))) {
+        return null;
+      }
+      final char[] key = ('{' + name + '}').toCharArray();
+
+      final List<String> selectors = new ArrayList<>(4);
+      final List<Template> variants = new ArrayList<>(4);
+      int position = typeEnd + 1;
+      while (true) {
+        position = skipWhitespace(source, position, end);
+        if (position == end) {
+          break;
+        }
+        final int selectorStart = position;
+        while (position < end
+          && '{' != source[position]
+          && !Character.isWhitespace(source[position])) {
+          ++position;
+        }
+        final String selector = new String(source, selectorStart, position - selectorStart);
+        position = skipWhitespace(source, position, end);
+        if (selector.isEmpty() || position == end || '{' != source[position]) {
+          return null;
+        }
+        final int variantEnd = matchingBrace(source, position, end);
+        if (-1 == variantEnd) {
+          return null;
+        }
+        selectors.add(selector);
+        // '#' renders the number of the nearest enclosing plural
+        variants.add(compile(source, position + 1, variantEnd, plural ? key : numberKey));
+        position = variantEnd + 1;
+      }
+
+      final int count = selectors.size();
+      final double[] exactValues = new double[count];
+      final PluralCategory[] categories = new PluralCategory[count];
+      final char[][] keywords = new char[count][];
+      Template other = null;
+      for (int i = 0; i < count; i++) {
+        final String selector = selectors.get(i);
+        exactValues[i] = Double.NaN;
+        keywords[i] = selector.toCharArray();
+        if ("other".equals(selector)) {
+          other = variants.get(i);
+        } else if (plural && '=' == selector.charAt(0)) {
+          try {
+            exactValues[i] = Double.parseDouble(selector.substring(1));
+          } catch (final NumberFormatException exception) {
+            return null;
+          }
+        } else if (plural) {
+          categories[i] = PluralCategory.of(selector);
+          if (null == categories[i]) {
+            return null;
+          }
+        }
+      }
+      if (null == other) {
+        return null;
+      }
+
+      return new Choice(
+        key,
+        plural,
+        exactValues,
+        categories,
+        keywords,
+        variants.toArray(new Template[0]),
+        other
+      );
+    }
+
+    /**
+     * Chooses the variant for the value of the given entry.
+     * <p>
+     * Exact values take precedence over plural categories. A plural choice
+     * whose value is not a number renders the {@code other} variant.
+     */
+    private Template select(
+      final Replacements replacements,
+      final int entry,
+      final PluralRules rules
+    ) {
+      if (!this.plural) {
+        final char[] value = replacements.valueAt(entry);
+        for (int i = 0; i < this.keywords.length; i++) {
+          if (Arrays.equals(this.keywords[i], value)) {
+            return this.variants[i];
+          }
+        }
+        return this.other;
+      }
+
+      final Object value = replacements.objectAt(entry);
+      if (!(value instanceof Number)) {
+        return this.other;
+      }
+      final double number = ((Number) value).doubleValue();
+      for (int i = 0; i < this.exactValues.length; i++) {
+        if (number == this.exactValues[i]) {
+          return this.variants[i];
+        }
+      }
+
+      final PluralCategory category = rules.select((Number) value);
+      for (int i = 0; i < this.categories.length; i++) {
+        if (category == this.categories[i]) {
+          return this.variants[i];
+        }
+      }
+      return this.other;
+    }
+
+    private static int indexOf(
+      final char[] source,
+      final char c,
+      final int from,
+      final int to
+    ) {
+      for (int i = from; i < to; i++) {
+        if (c == source[i]) {
+          return i;
+        }
+      }
+      return -1;
+    }
+
+    private static int skipWhitespace(
+      final char[] source,
+      final int from,
+      final int to
+    ) {
+      int position = from;
+      while (position < to && Character.isWhitespace(source[position])) {
+        ++position;
+      }
+      return position;
+    }
+  }
+}
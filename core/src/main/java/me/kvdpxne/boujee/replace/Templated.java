@@ -0,0 +1,26 @@
+package me.kvdpxne.boujee.replace;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents translatable content that is backed by compiled templates.
+ * <p>
+ * Single-segment content exposes exactly one template, multi-segment content
+ * exposes one template per segment, in order.
+ *
+ * @since 0.3.0
+ */
+public interface Templated {
+
+  /**
+   * Returns the compiled templates of this content, compiling them on first
+   * use.
+   * <p>
+   * The returned array is shared and must not be modified.
+   *
+   * @return the compiled templates, one per content segment
+   * @since 0.3.0
+   */
+  @NotNull
+  Template @NotNull [] getTemplates();
+}
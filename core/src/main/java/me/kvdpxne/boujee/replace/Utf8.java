@@ -0,0 +1,175 @@
+package me.kvdpxne.boujee.replace;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Utility class for encoding character arrays to UTF-8 without going through
+ * {@link String} or {@link java.nio.charset.CharsetEncoder} instances.
+ * <p>
+ * Unpaired surrogates are encoded as {@code '?'}, which matches the behaviour
+ * of {@link String#getBytes(java.nio.charset.Charset)}.
+ *
+ * @since 0.3.0
+ */
+public final class Utf8 {
+
+  /**
+   * An empty byte array shared by all empty encodings.
+   *
+   * @since 0.3.0
+   */
+  public static final byte[] EMPTY = new byte[0];
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   *
+   * @throws AssertionError if an attempt to instantiate this class occurs.
+   * @since 0.3.0
+   */
+  private Utf8() {
+    throw new AssertionError("This class is non-instantiable.");
+  }
+
+  /**
+   * Calculates the number of bytes needed to encode the given range of
+   * characters as UTF-8.
+   *
+   * @param source the characters to measure
+   * @param from   the index of the first character, inclusive
+   * @param to     the index of the last character, exclusive
+   * @return the number of bytes in the UTF-8 encoding of the range
+   * @since 0.3.0
+   */
+  public static int encodedLength(
+    final char[] source,
+    final int from,
+    final int to
+  ) {
+    int length = 0;
+    for (int i = from; i < to; i++) {
+      final char c = source[i];
+      if (c < 0x80) {
+        ++length;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isHighSurrogate(c)
+        && i + 1 < to
+        && Character.isLowSurrogate(source[i + 1])) {
+        length += 4;
+        ++i;
+      } else if (Character.isSurrogate(c)) {
+        ++length;
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  /**
+   * Calculates the number of bytes needed to encode the given characters as
+   * UTF-8.
+   *
+   * @param source the characters to measure
+   * @return the number of bytes in the UTF-8 encoding
+   * @since 0.3.0
+   */
+  public static int encodedLength(final char[] source) {
+    return encodedLength(source, 0, source.length);
+  }
+
+  /**
+   * Encodes the given range of characters as UTF-8 directly into the target
+   * buffer, starting at its current position.
+   *
+   * @param source the characters to encode
+   * @param from   the index of the first character, inclusive
+   * @param to     the index of the last character, exclusive
+   * @param target the buffer that receives the encoded bytes
+   * @throws BufferOverflowException if the target buffer has not enough
+   *                                 remaining space
+   * @since 0.3.0
+   */
+  public static void encode(
+    final char[] source,
+    final int from,
+    final int to,
+    final ByteBuffer target
+  ) {
+    for (int i = from; i < to; i++) {
+      final char c = source[i];
+      if (c < 0x80) {
+        target.put((byte) c);
+      } else if (c < 0x800) {
+        target.put((byte) (0xC0 | (c >> 6)));
+        target.put((byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c)
+        && i + 1 < to
+        && Character.isLowSurrogate(source[i + 1])) {
+        final int codePoint = Character.toCodePoint(c, source[++i]);
+        target.put((byte) (0xF0 | (codePoint >> 18)));
+        target.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+        target.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+        target.put((byte) (0x80 | (codePoint & 0x3F)));
+      } else if (Character.isSurrogate(c)) {
+        target.put((byte) '?');
+      } else {
+        target.put((byte) (0xE0 | (c >> 12)));
+        target.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+        target.put((byte) (0x80 | (c & 0x3F)));
+      }
+    }
+  }
+
+  /**
+   * Encodes the given characters as UTF-8 directly into the target buffer,
+   * starting at its current position.
+   *
+   * @param source the characters to encode
+   * @param target the buffer that receives the encoded bytes
+   * @throws BufferOverflowException if the target buffer has not enough
+   *                                 remaining space
+   * @since 0.3.0
+   */
+  public static void encode(
+    final char[] source,
+    final ByteBuffer target
+  ) {
+    encode(source, 0, source.length, target);
+  }
+
+  /**
+   * Encodes the given range of characters into a new, exactly sized UTF-8
+   * byte array.
+   *
+   * @param source the characters to encode
+   * @param from   the index of the first character, inclusive
+   * @param to     the index of the last character, exclusive
+   * @return a new array holding the UTF-8 encoding of the range
+   * @since 0.3.0
+   */
+  public static byte[] toBytes(
+    final char[] source,
+    final int from,
+    final int to
+  ) {
+    if (from == to) {
+      return EMPTY;
+    }
+    final byte[] bytes = new byte[encodedLength(source, from, to)];
+    encode(source, from, to, ByteBuffer.wrap(bytes));
+    return bytes;
+  }
+
+  /**
+   * Encodes the given characters into a new, exactly sized UTF-8 byte array.
+   *
+   * @param source the characters to encode
+   * @return a new array holding the UTF-8 encoding
+   * @since 0.3.0
+   */
+  public static byte[] toBytes(final char[] source) {
+    return toBytes(source, 0, source.length);
+  }
+}
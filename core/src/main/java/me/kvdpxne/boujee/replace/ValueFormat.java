@@ -0,0 +1,203 @@
+package me.kvdpxne.boujee.replace;
+
+import java.time.format.FormatStyle;
+import java.util.Locale;
+
+/**
+ * The formats a typed placeholder can request, as in {@code {amount,number}}
+ * or {@code {when,date,short}}.
+ * <p>
+ * The first part of a typed placeholder is the name of the value, the second
+ * is the type and the optional third is the style. Supported combinations
+ * are:
+ * <ul>
+ *   <li>{@code number}, {@code number,integer}, {@code number,percent} and
+ *   {@code number,currency}</li>
+ *   <li>{@code date} and {@code time}, optionally followed by {@code short},
+ *   {@code medium}, {@code long} or {@code full}; the default style is
+ *   {@code medium}</li>
+ * </ul>
+ *
+ * @since 0.3.0
+ */
+public enum ValueFormat {
+
+  /**
+   * {@code number} - a general-purpose number.
+   */
+  NUMBER,
+
+  /**
+   * {@code number,integer} - a number rounded to an integer.
+   */
+  INTEGER,
+
+  /**
+   * {@code number,percent} - a fraction rendered as a percentage.
+   */
+  PERCENT,
+
+  /**
+   * {@code number,currency} - an amount in the currency of the locale.
+   */
+  CURRENCY,
+
+  /**
+   * {@code date,short} - a short date.
+   */
+  DATE_SHORT,
+
+  /**
+   * {@code date} or {@code date,medium} - a medium date.
+   */
+  DATE_MEDIUM,
+
+  /**
+   * {@code date,long} - a long date.
+   */
+  DATE_LONG,
+
+  /**
+   * {@code date,full} - a full date.
+   */
+  DATE_FULL,
+
+  /**
+   * {@code time,short} - a short time of day.
+   */
+  TIME_SHORT,
+
+  /**
+   * {@code time} or {@code time,medium} - a medium time of day.
+   */
+  TIME_MEDIUM,
+
+  /**
+   * {@code time,long} - a long time of day.
+   */
+  TIME_LONG,
+
+  /**
+   * {@code time,full} - a full time of day.
+   */
+  TIME_FULL;
+
+  /**
+   * Checks whether this format is applied to numbers.
+   *
+   * @return true if this is a number format, false if it is a date or time
+   * format
+   * @since 0.3.0
+   */
+  public boolean isNumber() {
+    return this.ordinal() <= CURRENCY.ordinal();
+  }
+
+  /**
+   * Checks whether this format only renders the time of day.
+   *
+   * @return true if this is a time format, false otherwise
+   * @since 0.3.0
+   */
+  public boolean isTime() {
+    return this.ordinal() >= TIME_SHORT.ordinal();
+  }
+
+  /**
+   * Returns the localized style of this date or time format.
+   *
+   * @return the format style, or null if this is a number format
+   * @since 0.3.0
+   */
+  public FormatStyle getStyle() {
+    switch (this) {
+      case DATE_SHORT:
+      case TIME_SHORT:
+        return FormatStyle.SHORT;
+      case DATE_MEDIUM:
+      case TIME_MEDIUM:
+        return FormatStyle.MEDIUM;
+      case DATE_LONG:
+      case TIME_LONG:
+        return FormatStyle.LONG;
+      case DATE_FULL:
+      case TIME_FULL:
+        return FormatStyle.FULL;
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Finds the format for the given type and style of a typed placeholder.
+   *
+   * @param type  the type, such as {@code number} or {@code date}
+   * @param style the style, or null if none was given
+   * @return the matching format, or null if the combination is not supported
+   * @since 0.3.0
+   */
+  public static ValueFormat of(
+    final String type,
+    final String style
+  ) {
+    if (null == type) {
+      return null;
+    }
+
+    final String normalizedStyle = null == style
+      ? null
+      : style.toLowerCase(Locale.ENGLISH);
+    switch (type.toLowerCase(Locale.ENGLISH)) {
+      case "number":
+        if (null == normalizedStyle) {
+          return NUMBER;
+        }
+        switch (normalizedStyle) {
+          case "integer":
+            return INTEGER;
+          case "percent":
+            return PERCENT;
+          case "currency":
+            return CURRENCY;
+          default:
+            return null;
+        }
+      case "date":
+        return ofStyle(normalizedStyle, DATE_SHORT);
+      case "time":
+        return ofStyle(normalizedStyle, TIME_SHORT);
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Finds the date or time format with the given style.
+   *
+   * @param style the style, or null for the medium style
+   * @param first the short format of the group
+   * @return the matching format, or null if the style is not supported
+   * @since 0.3.0
+   */
+  private static ValueFormat ofStyle(
+    final String style,
+    final ValueFormat first
+  ) {
+    final ValueFormat[] values = values();
+    if (null == style) {
+      return values[first.ordinal() + 1];
+    }
+    switch (style) {
+      case "short":
+        return first;
+      case "medium":
+        return values[first.ordinal() + 1];
+      case "long":
+        return values[first.ordinal() + 2];
+      case "full":
+        return values[first.ordinal() + 3];
+      default:
+        return null;
+    }
+  }
+}
@@ -3,8 +3,68 @@ dependencies {
   implementation(project(":minecraft-api"))
   implementation(project(":core"))
   implementation(project(":singleton-java"))
+  implementation(project(":inputs-bundle"))
   implementation(project(":inputs-common"))
   implementation(project(":inputs-json-gson"))
 
   implementation(libraries.gson)
-}
\ No newline at end of file
+}
+
+val languages = layout.projectDirectory.dir("src/main/resources/assets/languages")
+val generatedBundle = layout.buildDirectory.dir("generated/translation-bundle")
+
+// Compiles the JSON translation files into a binary bundle, so the bundle is
+// mapped at startup instead of parsing JSON.
+val compileTranslationBundle by tasks.registering(JavaExec::class) {
+  group = "build"
+  description = "Compiles assets/languages/*.json into assets/languages.bundle."
+
+  inputs.dir(languages)
+  outputs.dir(generatedBundle)
+
+  // The dependencies only, as the own resources depend on this task
+  classpath = configurations.runtimeClasspath.get()
+  mainClass.set("me.kvdpxne.boujee.io.GsonBundleCompiler")
+  argumentProviders.add(CommandLineArgumentProvider {
+    listOf(
+      languages.asFile.absolutePath,
+      generatedBundle.get().file("assets/languages.bundle").asFile.absolutePath
+    )
+  })
+}
+
+val generatedKeys = layout.buildDirectory.dir("generated/translation-keys")
+
+// The ordinal of every key, one name per line. Kept in version control, so
+// ordinals survive clean builds; the generator only ever appends to it.
+val translationKeyManifest = layout.projectDirectory.file("src/main/translation-keys.txt")
+
+// Generates the typed key enum of the default locale, with ordinals that stay
+// the same between builds and a perfect hash table for lookups by name.
+val generateTranslationKeys by tasks.registering(JavaExec::class) {
+  group = "build"
+  description = "Generates EnumTranslationKey from assets/languages/en_US.json."
+
+  inputs.file(languages.file("en_US.json"))
+  inputs.files(translationKeyManifest)
+  outputs.file(translationKeyManifest)
+  outputs.dir(generatedKeys)
+
+  classpath = configurations.runtimeClasspath.get()
+  mainClass.set("me.kvdpxne.boujee.io.GsonKeyCompiler")
+  argumentProviders.add(CommandLineArgumentProvider {
+    listOf(
+      languages.file("en_US.json").asFile.absolutePath,
+      "me.kvdpxne.boujee.example.EnumTranslationKey",
+      translationKeyManifest.asFile.absolutePath,
+      generatedKeys.get().dir("java").asFile.absolutePath,
+      generatedKeys.get().dir("resources").asFile.absolutePath
+    )
+  })
+}
+
+sourceSets.main {
+  java.srcDir(files(generatedKeys.map { it.dir("java") }).builtBy(generateTranslationKeys))
+  resources.srcDir(compileTranslationBundle)
+  resources.srcDir(files(generatedKeys.map { it.dir("resources") }).builtBy(generateTranslationKeys))
+}
@@ -0,0 +1,4 @@
+dependencies {
+  shadow(project(":api"))
+  shadow(project(":core"))
+}
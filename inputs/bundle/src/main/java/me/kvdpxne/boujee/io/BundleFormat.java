@@ -0,0 +1,61 @@
+package me.kvdpxne.boujee.io;
+
+/**
+ * The layout of a compiled translation bundle.
+ * <p>
+ * All numbers are big-endian and all characters are UTF-16 code units, so
+ * content is read straight from the mapped file without decoding. The file
+ * consists of:
+ * <ol>
+ *   <li>A header of {@link #HEADER_SIZE} bytes: the magic number, the format
+ *   version, a reserved short, the number of keys, the number of locales, and
+ *   the offsets of the key table, the locale table, and the data section,
+ *   followed by the length of the data section.</li>
+ *   <li>The key table: one data reference per key, pointing at the key
+ *   name. Keys are sorted by name, and the position of a key in this table
+ *   is its bundle ordinal.</li>
+ *   <li>The locale table: two ints per locale, a data reference to the
+ *   localization of the locale and the file offset of its entry table.</li>
+ *   <li>One entry table per locale: one data reference per key ordinal,
+ *   or {@link #ABSENT} if the locale lacks the key.</li>
+ *   <li>The data section, holding records addressed by their offset from
+ *   the start of the section. A string is its length followed by its
+ *   characters. A text entry is a string. A message entry is the negated
+ *   number of its lines followed by every line as a string.</li>
+ * </ol>
+ * Identical records are written once and shared by every reference.
+ *
+ * @since 0.3.0
+ */
+final class BundleFormat {
+
+  /**
+   * The first four bytes of every bundle, {@code BJB1} in ASCII.
+   *
+   * @since 0.3.0
+   */
+  static final int MAGIC = 0x424A4231;
+
+  /**
+   * The format version written by this library.
+   *
+   * @since 0.3.0
+   */
+  static final short VERSION = 1;
+
+  /**
+   * The size of the header in bytes.
+   *
+   * @since 0.3.0
+   */
+  static final int HEADER_SIZE = 32;
+
+  /**
+   * The data reference of a key the locale does not translate.
+   *
+   * @since 0.3.0
+   */
+  static final int ABSENT = -1;
+
+  private BundleFormat() {}
+}
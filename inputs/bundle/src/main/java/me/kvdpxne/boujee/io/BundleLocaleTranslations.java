@@ -0,0 +1,165 @@
+package me.kvdpxne.boujee.io;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import me.kvdpxne.boujee.TranslationKey;
+import me.kvdpxne.boujee.TranslationKeyProvider;
+import me.kvdpxne.boujee.content.message.TranslationMessage;
+import me.kvdpxne.boujee.content.text.TranslationText;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.locale.LocaleTranslations;
+
+/**
+ * The translations of one locale of a {@link TranslationBundle}, read from
+ * the bundle on every lookup.
+ * <p>
+ * Lookups copy the found translation out of the bundle and keep nothing, so
+ * callers looking up the same keys repeatedly should cache the results, as
+ * {@link me.kvdpxne.boujee.DefaultTranslationService} does. The collection
+ * getters read the whole locale and are meant for tooling, not lookups.
+ *
+ * @since 0.3.0
+ */
+final class BundleLocaleTranslations
+  implements LocaleTranslations {
+
+  private final TranslationBundle bundle;
+  private final LocaleSource localeSource;
+
+  /**
+   * The file offset of the entry table of this locale.
+   *
+   * @since 0.3.0
+   */
+  private final int entryTableOffset;
+
+  BundleLocaleTranslations(
+    final TranslationBundle bundle,
+    final LocaleSource localeSource,
+    final int entryTableOffset
+  ) {
+    this.bundle = bundle;
+    this.localeSource = localeSource;
+    this.entryTableOffset = entryTableOffset;
+  }
+
+  @Override
+  public LocaleSource getLocaleSource() {
+    return this.localeSource;
+  }
+
+  @Override
+  public Collection<TranslationMessage> getMessages() {
+    final List<TranslationMessage> messages = new ArrayList<>();
+    for (int i = 0; i < this.bundle.getNumberOfKeys(); i++) {
+      final TranslationMessage message = this.findMessageOrNull(i);
+      if (null != message) {
+        messages.add(message);
+      }
+    }
+    return Collections.unmodifiableList(messages);
+  }
+
+  @Override
+  public Collection<TranslationText> getTexts() {
+    final List<TranslationText> texts = new ArrayList<>();
+    for (int i = 0; i < this.bundle.getNumberOfKeys(); i++) {
+      final TranslationText text = this.findTextOrNull(i);
+      if (null != text) {
+        texts.add(text);
+      }
+    }
+    return Collections.unmodifiableList(texts);
+  }
+
+  @Override
+  public TranslationMessage findMessageOrNull(
+    final TranslationKeyProvider keyProvider
+  ) {
+    final int index = this.bundle.findKeyIndex(checkKey(keyProvider));
+    return 0 > index ? null : this.findMessageOrNull(index);
+  }
+
+  @Override
+  public TranslationText findTextOrNull(
+    final TranslationKeyProvider keyProvider
+  ) {
+    final int index = this.bundle.findKeyIndex(checkKey(keyProvider));
+    return 0 > index ? null : this.findTextOrNull(index);
+  }
+
+  /**
+   * Finds the message with the given bundle ordinal.
+   *
+   * @since 0.3.0
+   */
+  TranslationMessage findMessageOrNull(final int index) {
+    final int reference = this.bundle.entry(this.entryTableOffset, index);
+    return BundleFormat.ABSENT == reference || !this.bundle.isMessage(reference)
+      ? null
+      : this.bundle.readMessage(reference);
+  }
+
+  /**
+   * Finds the text with the given bundle ordinal.
+   *
+   * @since 0.3.0
+   */
+  TranslationText findTextOrNull(final int index) {
+    final int reference = this.bundle.entry(this.entryTableOffset, index);
+    return BundleFormat.ABSENT == reference || this.bundle.isMessage(reference)
+      ? null
+      : this.bundle.readText(reference);
+  }
+
+  @Override
+  public int getNumberOfMessages() {
+    return this.count(true);
+  }
+
+  @Override
+  public int getNumberOfTexts() {
+    return this.count(false);
+  }
+
+  private int count(final boolean messages) {
+    int count = 0;
+    for (int i = 0; i < this.bundle.getNumberOfKeys(); i++) {
+      final int reference = this.bundle.entry(this.entryTableOffset, i);
+      if (BundleFormat.ABSENT != reference && messages == this.bundle.isMessage(reference)) {
+        ++count;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Bundles are read-only.
+   *
+   * @throws UnsupportedOperationException always
+   */
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException("The translations of a bundle are read-only.");
+  }
+
+  private static TranslationKey checkKey(
+    final TranslationKeyProvider keyProvider
+  ) {
+    if (null == keyProvider) {
+      throw new NullPointerException("Translation key provider must not be null");
+    }
+    final TranslationKey key = keyProvider.getTranslationKey();
+    if (null == key) {
+      throw new NullPointerException("Translation key must not be null");
+    }
+    return key;
+  }
+
+  @Override
+  public String toString() {
+    return "BundleLocaleTranslations{localeSource=" + this.localeSource + '}';
+  }
+}
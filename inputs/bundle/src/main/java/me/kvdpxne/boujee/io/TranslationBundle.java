@@ -0,0 +1,467 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import me.kvdpxne.boujee.DefaultTranslationKey;
+import me.kvdpxne.boujee.KeyRegistry;
+import me.kvdpxne.boujee.TranslationKey;
+import me.kvdpxne.boujee.content.message.BasicTranslationMessage;
+import me.kvdpxne.boujee.content.message.TranslationMessage;
+import me.kvdpxne.boujee.content.text.BasicTranslationText;
+import me.kvdpxne.boujee.content.text.TranslationText;
+import me.kvdpxne.boujee.locale.BasicLocaleSource;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.locale.LocaleTranslations;
+
+/**
+ * A compiled translation bundle, memory-mapped and read in place.
+ * <p>
+ * Opening a bundle maps the file and reads its header and locale table, so
+ * startup does not depend on the number or size of the translations. Every
+ * lookup finds its entry through fixed-size tables and copies only the
+ * characters of the translation found. Nothing is parsed.
+ * <p>
+ * The first lookup by {@link TranslationKey} registers the names of every key
+ * of the bundle in the {@link KeyRegistry} of the bundle, since keys are only
+ * known by the ordinals assigned to them at runtime, and indexes the bundle
+ * by those ordinals. A bundle opened with a registry of its own keeps that
+ * index as small as the bundle, whatever keys the rest of the JVM holds.
+ * Lookups by name, such as
+ * {@link #findTextOrNull(LocaleSource, CharSequence)}, never do so.
+ * <p>
+ * Bundles are written by {@link TranslationBundleWriter}. The mapping stays
+ * valid until the bundle is garbage collected, and the file must not be
+ * modified while it is mapped.
+ *
+ * @see BundleFormat
+ * @since 0.3.0
+ */
+public final class TranslationBundle {
+
+  /**
+   * The whole mapped file. Only absolute reads are used, so the buffer is
+   * shared by concurrent lookups.
+   *
+   * @since 0.3.0
+   */
+  private final ByteBuffer buffer;
+
+  private final int numberOfKeys;
+  private final int keyTableOffset;
+  private final int dataOffset;
+
+  /**
+   * The translations of every locale, in the order they were written.
+   *
+   * @since 0.3.0
+   */
+  private final List<LocaleTranslations> locales;
+
+  /**
+   * The registry of the keys looked up in this bundle.
+   *
+   * @since 0.3.0
+   */
+  private final KeyRegistry keyRegistry;
+
+  /**
+   * The bundle ordinal of every key, indexed by the runtime ordinal of the
+   * key, or null until the first lookup by key.
+   *
+   * @since 0.3.0
+   */
+  private volatile int[] keyIndexes;
+
+  private TranslationBundle(
+    final ByteBuffer buffer,
+    final KeyRegistry keyRegistry
+  ) {
+    if (BundleFormat.HEADER_SIZE > buffer.limit()
+      || BundleFormat.MAGIC != buffer.getInt(0)) {
+      throw new IllegalArgumentException("The passed file is not a translation bundle.");
+    }
+    final short version = buffer.getShort(4);
+    if (BundleFormat.VERSION != version) {
+      throw new IllegalArgumentException("Unsupported translation bundle version: " + version);
+    }
+    this.buffer = buffer;
+    this.keyRegistry = keyRegistry;
+    this.numberOfKeys = buffer.getInt(8);
+    final int numberOfLocales = buffer.getInt(12);
+    this.keyTableOffset = buffer.getInt(16);
+    final int localeTableOffset = buffer.getInt(20);
+    this.dataOffset = buffer.getInt(24);
+    if ((long) this.dataOffset + buffer.getInt(28) > buffer.limit()) {
+      throw new IllegalArgumentException("The passed translation bundle is truncated.");
+    }
+
+    final List<LocaleTranslations> locales = new ArrayList<>(numberOfLocales);
+    for (int i = 0; i < numberOfLocales; i++) {
+      final int entry = localeTableOffset + 8 * i;
+      final LocaleSource localeSource = new BasicLocaleSource(
+        new String(this.readString(buffer.getInt(entry)))
+      );
+      locales.add(new BundleLocaleTranslations(this, localeSource, buffer.getInt(entry + 4)));
+    }
+    this.locales = Collections.unmodifiableList(locales);
+  }
+
+  /**
+   * Maps the given bundle file into memory.
+   *
+   * @param path the bundle file
+   * @return the mapped bundle
+   * @throws IOException              if the file cannot be mapped
+   * @throws IllegalArgumentException if the file is not a bundle of a
+   *                                  supported version
+   * @since 0.3.0
+   */
+  public static TranslationBundle open(final Path path) throws IOException {
+    return open(path, KeyRegistry.global());
+  }
+
+  /**
+   * Maps the given bundle file into memory, to be looked up by the keys of
+   * the given registry.
+   *
+   * @param path        the bundle file
+   * @param keyRegistry the registry of the keys looked up in the bundle
+   * @return the mapped bundle
+   * @throws IOException              if the file cannot be mapped
+   * @throws IllegalArgumentException if the file is not a bundle of a
+   *                                  supported version
+   * @since 0.3.0
+   */
+  public static TranslationBundle open(
+    final Path path,
+    final KeyRegistry keyRegistry
+  ) throws IOException {
+    if (null == path) {
+      throw new NullPointerException("The passed path must not be null.");
+    }
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
+    // The mapping outlives the channel, so it does not hold a file handle
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final MappedByteBuffer buffer = channel.map(
+        FileChannel.MapMode.READ_ONLY,
+        0L,
+        channel.size()
+      );
+      return new TranslationBundle(buffer, keyRegistry);
+    }
+  }
+
+  /**
+   * Wraps a bundle that is already in memory, for example one read from the
+   * classpath, where it cannot be mapped.
+   *
+   * @param bytes the content of the bundle
+   * @return the bundle
+   * @throws IllegalArgumentException if the bytes are not a bundle of a
+   *                                  supported version
+   * @since 0.3.0
+   */
+  public static TranslationBundle wrap(final byte[] bytes) {
+    return wrap(bytes, KeyRegistry.global());
+  }
+
+  /**
+   * Wraps a bundle that is already in memory, to be looked up by the keys
+   * of the given registry.
+   *
+   * @param bytes       the content of the bundle
+   * @param keyRegistry the registry of the keys looked up in the bundle
+   * @return the bundle
+   * @throws IllegalArgumentException if the bytes are not a bundle of a
+   *                                  supported version
+   * @since 0.3.0
+   */
+  public static TranslationBundle wrap(
+    final byte[] bytes,
+    final KeyRegistry keyRegistry
+  ) {
+    if (null == bytes) {
+      throw new NullPointerException("The passed bytes must not be null.");
+    }
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
+    return new TranslationBundle(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), keyRegistry);
+  }
+
+  /**
+   * Gets the registry of the keys looked up in this bundle.
+   *
+   * @return the key registry
+   * @since 0.3.0
+   */
+  public KeyRegistry getKeyRegistry() {
+    return this.keyRegistry;
+  }
+
+  /**
+   * Gets the translations of every locale in the bundle. The translations
+   * are read from the bundle on each lookup and can be installed into a
+   * service as they are.
+   * <p>
+   * Bundle translations are never templated, so a service installing them
+   * should use {@link me.kvdpxne.boujee.TemplateCompileMode#LAZY}, which
+   * spares it reading every translation to look for templates.
+   *
+   * @return an unmodifiable list of the translations of every locale
+   * @since 0.3.0
+   */
+  public Collection<LocaleTranslations> getLocaleTranslations() {
+    return this.locales;
+  }
+
+  /**
+   * Finds the translations of the given locale.
+   *
+   * @param localeSource the locale source
+   * @return the translations, or null if the bundle lacks the locale
+   * @since 0.3.0
+   */
+  public LocaleTranslations findLocaleTranslationsOrNull(
+    final LocaleSource localeSource
+  ) {
+    for (final LocaleTranslations translations : this.locales) {
+      if (translations.getLocaleSource().equals(localeSource)) {
+        return translations;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the text of the given locale by the name of its key.
+   *
+   * @param localeSource the locale source
+   * @param name         the exact name of the key
+   * @return the text, or null if the bundle lacks the locale or the key, or
+   * holds a message under the key
+   * @throws NullPointerException if name is null
+   * @since 0.3.0
+   */
+  public TranslationText findTextOrNull(
+    final LocaleSource localeSource,
+    final CharSequence name
+  ) {
+    final BundleLocaleTranslations translations =
+      (BundleLocaleTranslations) this.findLocaleTranslationsOrNull(localeSource);
+    final int index = this.findKeyIndex(name);
+    return null == translations || 0 > index ? null : translations.findTextOrNull(index);
+  }
+
+  /**
+   * Finds the message of the given locale by the name of its key.
+   *
+   * @param localeSource the locale source
+   * @param name         the exact name of the key
+   * @return the message, or null if the bundle lacks the locale or the key,
+   * or holds a text under the key
+   * @throws NullPointerException if name is null
+   * @since 0.3.0
+   */
+  public TranslationMessage findMessageOrNull(
+    final LocaleSource localeSource,
+    final CharSequence name
+  ) {
+    final BundleLocaleTranslations translations =
+      (BundleLocaleTranslations) this.findLocaleTranslationsOrNull(localeSource);
+    final int index = this.findKeyIndex(name);
+    return null == translations || 0 > index ? null : translations.findMessageOrNull(index);
+  }
+
+  /**
+   * Gets the number of distinct keys across all locales of the bundle.
+   *
+   * @return the number of keys
+   * @since 0.3.0
+   */
+  public int getNumberOfKeys() {
+    return this.numberOfKeys;
+  }
+
+  /**
+   * Finds the bundle ordinal of the key with the given name, by binary
+   * search over the sorted key table.
+   *
+   * @param name the exact name of the key
+   * @return the bundle ordinal, or -1 if the bundle lacks the key
+   * @throws NullPointerException if name is null
+   * @since 0.3.0
+   */
+  public int findKeyIndex(final CharSequence name) {
+    if (null == name) {
+      throw new NullPointerException("The passed name must not be null.");
+    }
+    int low = 0;
+    int high = this.numberOfKeys - 1;
+    while (low <= high) {
+      final int middle = (low + high) >>> 1;
+      final int comparison = this.compareKey(middle, name);
+      if (0 > comparison) {
+        low = middle + 1;
+      } else if (0 < comparison) {
+        high = middle - 1;
+      } else {
+        return middle;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Gets the name of the key with the given bundle ordinal.
+   *
+   * @param index the bundle ordinal
+   * @return the name of the key
+   * @throws IndexOutOfBoundsException if the bundle has no such key
+   * @since 0.3.0
+   */
+  public String getKeyName(final int index) {
+    if (0 > index || index >= this.numberOfKeys) {
+      throw new IndexOutOfBoundsException("Key index out of range: " + index);
+    }
+    return new String(this.readString(this.buffer.getInt(this.keyTableOffset + 4 * index)));
+  }
+
+  /**
+   * Finds the bundle ordinal of the given key.
+   *
+   * @return the bundle ordinal, or -1 if the bundle lacks the key
+   * @since 0.3.0
+   */
+  int findKeyIndex(final TranslationKey key) {
+    // The ordinal of a key of another registry means another key here
+    if (key instanceof DefaultTranslationKey
+      && this.keyRegistry != ((DefaultTranslationKey) key).getKeyRegistry()) {
+      return -1;
+    }
+    int[] keyIndexes = this.keyIndexes;
+    if (null == keyIndexes) {
+      keyIndexes = this.indexKeys();
+    }
+    final int ordinal = key.getOrdinalNumber();
+    return ordinal < keyIndexes.length ? keyIndexes[ordinal] : -1;
+  }
+
+  /**
+   * Registers the name of every key of the bundle and indexes the bundle
+   * ordinals by the runtime ordinals of the keys. Keys created later were
+   * not in the bundle, so the index never goes stale.
+   *
+   * @since 0.3.0
+   */
+  private synchronized int[] indexKeys() {
+    int[] keyIndexes = this.keyIndexes;
+    if (null != keyIndexes) {
+      return keyIndexes;
+    }
+    final int[] ordinals = new int[this.numberOfKeys];
+    int maxOrdinal = -1;
+    for (int i = 0; i < this.numberOfKeys; i++) {
+      ordinals[i] = this.keyRegistry.of(this.getKeyName(i)).getOrdinalNumber();
+      maxOrdinal = Math.max(maxOrdinal, ordinals[i]);
+    }
+    keyIndexes = new int[maxOrdinal + 1];
+    Arrays.fill(keyIndexes, -1);
+    for (int i = 0; i < this.numberOfKeys; i++) {
+      keyIndexes[ordinals[i]] = i;
+    }
+    this.keyIndexes = keyIndexes;
+    return keyIndexes;
+  }
+
+  /**
+   * Gets the data reference of the entry with the given bundle ordinal in
+   * the given entry table.
+   *
+   * @since 0.3.0
+   */
+  int entry(final int entryTableOffset, final int index) {
+    return this.buffer.getInt(entryTableOffset + 4 * index);
+  }
+
+  /**
+   * Checks whether the entry at the given data reference is a message.
+   *
+   * @since 0.3.0
+   */
+  boolean isMessage(final int reference) {
+    return 0 > this.buffer.getInt(this.dataOffset + reference);
+  }
+
+  /**
+   * Reads the text at the given data reference.
+   *
+   * @since 0.3.0
+   */
+  TranslationText readText(final int reference) {
+    return new BasicTranslationText(this.readString(reference));
+  }
+
+  /**
+   * Reads the message at the given data reference.
+   *
+   * @since 0.3.0
+   */
+  TranslationMessage readMessage(final int reference) {
+    int position = this.dataOffset + reference;
+    final char[][] lines = new char[-this.buffer.getInt(position)][];
+    position += 4;
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = this.readChars(position);
+      position += 4 + 2 * lines[i].length;
+    }
+    return new BasicTranslationMessage(lines);
+  }
+
+  private char[] readString(final int reference) {
+    return this.readChars(this.dataOffset + reference);
+  }
+
+  private char[] readChars(final int position) {
+    final char[] content = new char[this.buffer.getInt(position)];
+    final int start = position + 4;
+    for (int i = 0; i < content.length; i++) {
+      content[i] = this.buffer.getChar(start + 2 * i);
+    }
+    return content;
+  }
+
+  /**
+   * Compares the name of the key with the given bundle ordinal to the given
+   * name, in {@link String#compareTo(String)} order, without copying it.
+   *
+   * @since 0.3.0
+   */
+  private int compareKey(
+    final int index,
+    final CharSequence name
+  ) {
+    final int position = this.dataOffset + this.buffer.getInt(this.keyTableOffset + 4 * index);
+    final int length = this.buffer.getInt(position);
+    final int common = Math.min(length, name.length());
+    for (int i = 0; i < common; i++) {
+      final char c = this.buffer.getChar(position + 4 + 2 * i);
+      final char other = name.charAt(i);
+      if (c != other) {
+        return c - other;
+      }
+    }
+    return length - name.length();
+  }
+}
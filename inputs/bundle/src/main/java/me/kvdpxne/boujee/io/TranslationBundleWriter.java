@@ -0,0 +1,272 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Collects translations of any number of locales and writes them as a
+ * compiled translation bundle, to be read by {@link TranslationBundle}.
+ * <p>
+ * This is meant to run at build time, so it favours a compact output over
+ * writing speed. Identical content is written once, whichever locales and
+ * keys share it.
+ *
+ * @see BundleFormat
+ * @since 0.3.0
+ */
+public final class TranslationBundleWriter {
+
+  /**
+   * The translations of every locale, keyed by localization and then by key
+   * name. Values are either {@code char[]} texts or {@code char[][]}
+   * messages.
+   *
+   * @since 0.3.0
+   */
+  private final Map<String, Map<String, Object>> locales = new LinkedHashMap<>();
+
+  /**
+   * The names of every key of every locale, in bundle ordinal order.
+   *
+   * @since 0.3.0
+   */
+  private final TreeSet<String> keys = new TreeSet<>();
+
+  /**
+   * Adds a text, replacing any translation the locale already has under the
+   * same key.
+   *
+   * @param localization the localization of the locale, as returned by
+   *                     {@link me.kvdpxne.boujee.locale.LocaleSource#getLocalization()}
+   * @param key          the name of the key
+   * @param text         the content of the text
+   * @return this writer
+   * @throws NullPointerException if any argument is null
+   * @since 0.3.0
+   */
+  public TranslationBundleWriter putText(
+    final String localization,
+    final String key,
+    final char[] text
+  ) {
+    if (null == text) {
+      throw new NullPointerException("The passed text must not be null.");
+    }
+    this.put(localization, key, text.clone());
+    return this;
+  }
+
+  /**
+   * Adds a message, replacing any translation the locale already has under
+   * the same key.
+   *
+   * @param localization the localization of the locale, as returned by
+   *                     {@link me.kvdpxne.boujee.locale.LocaleSource#getLocalization()}
+   * @param key          the name of the key
+   * @param lines        the lines of the message
+   * @return this writer
+   * @throws NullPointerException     if any argument or line is null
+   * @throws IllegalArgumentException if the message has no lines
+   * @since 0.3.0
+   */
+  public TranslationBundleWriter putMessage(
+    final String localization,
+    final String key,
+    final char[][] lines
+  ) {
+    if (null == lines) {
+      throw new NullPointerException("The passed lines must not be null.");
+    }
+    if (0 == lines.length) {
+      throw new IllegalArgumentException("The passed lines must not be empty.");
+    }
+    final char[][] copy = new char[lines.length][];
+    for (int i = 0; i < lines.length; i++) {
+      if (null == lines[i]) {
+        throw new NullPointerException("The passed lines must not contain null.");
+      }
+      copy[i] = lines[i].clone();
+    }
+    this.put(localization, key, copy);
+    return this;
+  }
+
+  private void put(
+    final String localization,
+    final String key,
+    final Object translation
+  ) {
+    if (null == localization) {
+      throw new NullPointerException("The passed localization must not be null.");
+    }
+    if (null == key) {
+      throw new NullPointerException("The passed key must not be null.");
+    }
+    this.locales.computeIfAbsent(localization, (String absent) -> new HashMap<>())
+      .put(key, translation);
+    this.keys.add(key);
+  }
+
+  /**
+   * Writes the collected translations to the given file, replacing it if it
+   * exists.
+   *
+   * @param path the file to write the bundle to
+   * @throws IOException if the file cannot be written
+   * @since 0.3.0
+   */
+  public void write(final Path path) throws IOException {
+    if (null == path) {
+      throw new NullPointerException("The passed path must not be null.");
+    }
+    final Path parent = path.toAbsolutePath().getParent();
+    if (null != parent) {
+      Files.createDirectories(parent);
+    }
+    try (final OutputStream out = Files.newOutputStream(path)) {
+      this.write(out);
+    }
+  }
+
+  /**
+   * Writes the collected translations to the given stream, leaving it open.
+   *
+   * @param out the stream to write the bundle to
+   * @throws IOException if the stream fails
+   * @since 0.3.0
+   */
+  public void write(final OutputStream out) throws IOException {
+    if (null == out) {
+      throw new NullPointerException("The passed output stream must not be null.");
+    }
+    final Records records = new Records();
+
+    final int numberOfKeys = this.keys.size();
+    final int[] keyTable = new int[numberOfKeys];
+    final Map<String, Integer> ordinals = new HashMap<>(2 * numberOfKeys);
+    int ordinal = 0;
+    for (final String key : this.keys) {
+      keyTable[ordinal] = records.string(key.toCharArray());
+      ordinals.put(key, ordinal++);
+    }
+
+    final int numberOfLocales = this.locales.size();
+    final int[] localizations = new int[numberOfLocales];
+    final List<int[]> entryTables = new ArrayList<>(numberOfLocales);
+    int locale = 0;
+    for (final Map.Entry<String, Map<String, Object>> entry : this.locales.entrySet()) {
+      localizations[locale++] = records.string(entry.getKey().toCharArray());
+      final int[] entries = new int[numberOfKeys];
+      Arrays.fill(entries, BundleFormat.ABSENT);
+      for (final Map.Entry<String, Object> translation : entry.getValue().entrySet()) {
+        final Object value = translation.getValue();
+        entries[ordinals.get(translation.getKey())] = value instanceof char[]
+          ? records.string((char[]) value)
+          : records.message((char[][]) value);
+      }
+      entryTables.add(entries);
+    }
+
+    final int keyTableOffset = BundleFormat.HEADER_SIZE;
+    final int localeTableOffset = keyTableOffset + 4 * numberOfKeys;
+    final int entryTablesOffset = localeTableOffset + 8 * numberOfLocales;
+    final int dataOffset = entryTablesOffset + 4 * numberOfKeys * numberOfLocales;
+
+    final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(BundleFormat.MAGIC);
+    data.writeShort(BundleFormat.VERSION);
+    data.writeShort(0);
+    data.writeInt(numberOfKeys);
+    data.writeInt(numberOfLocales);
+    data.writeInt(keyTableOffset);
+    data.writeInt(localeTableOffset);
+    data.writeInt(dataOffset);
+    data.writeInt(records.size());
+    writeInts(data, keyTable);
+    for (int i = 0; i < numberOfLocales; i++) {
+      data.writeInt(localizations[i]);
+      data.writeInt(entryTablesOffset + 4 * numberOfKeys * i);
+    }
+    for (final int[] entries : entryTables) {
+      writeInts(data, entries);
+    }
+    records.writeTo(data);
+    data.flush();
+  }
+
+  private static void writeInts(
+    final DataOutputStream out,
+    final int[] values
+  ) throws IOException {
+    for (final int value : values) {
+      out.writeInt(value);
+    }
+  }
+
+  /**
+   * The data section under construction, which writes every distinct record
+   * once.
+   *
+   * @since 0.3.0
+   */
+  private static final class Records {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+    private final DataOutputStream out = new DataOutputStream(this.bytes);
+    private final Map<String, Integer> strings = new HashMap<>();
+    private final Map<List<String>, Integer> messages = new HashMap<>();
+
+    int string(final char[] content) throws IOException {
+      final String key = new String(content);
+      final Integer known = this.strings.get(key);
+      if (null != known) {
+        return known;
+      }
+      final int offset = this.out.size();
+      this.out.writeInt(content.length);
+      this.out.writeChars(key);
+      this.strings.put(key, offset);
+      return offset;
+    }
+
+    int message(final char[][] lines) throws IOException {
+      final String[] content = new String[lines.length];
+      for (int i = 0; i < lines.length; i++) {
+        content[i] = new String(lines[i]);
+      }
+      final List<String> key = Arrays.asList(content);
+      final Integer known = this.messages.get(key);
+      if (null != known) {
+        return known;
+      }
+      // Lines are written inline, so a message is read in one pass
+      final int offset = this.out.size();
+      this.out.writeInt(-lines.length);
+      for (final String line : content) {
+        this.out.writeInt(line.length());
+        this.out.writeChars(line);
+      }
+      this.messages.put(key, offset);
+      return offset;
+    }
+
+    int size() {
+      return this.out.size();
+    }
+
+    void writeTo(final OutputStream target) throws IOException {
+      this.bytes.writeTo(target);
+    }
+  }
+}
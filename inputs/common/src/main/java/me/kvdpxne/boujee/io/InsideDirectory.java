@@ -0,0 +1,284 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * An index of the files under a classpath directory, such as
+ * {@code assets/languages}, opened once and read many times.
+ * <p>
+ * The directory is listed once, when it is opened, and every file is then
+ * found by name without walking the tree again. Inside an archive, the file
+ * system of the archive is shared through {@link InsideFiles} and stays open
+ * until {@link InsideFiles#closeFileSystems()}. Reads after that open the
+ * archive again.
+ * <p>
+ * Files on the default file system are memory-mapped. Files inside an
+ * archive are inflated into a buffer reused by every read on the same
+ * thread.
+ *
+ * @since 0.3.0
+ */
+public final class InsideDirectory {
+
+  /**
+   * The buffer every archive entry is read into, per thread.
+   *
+   * @since 0.3.0
+   */
+  private static final ThreadLocal<byte[]> BUFFERS =
+    ThreadLocal.withInitial(() -> new byte[8192]);
+
+  /**
+   * Whether the files are on the default file system, where they can be
+   * mapped.
+   *
+   * @since 0.3.0
+   */
+  private final boolean mappable;
+
+  /**
+   * The URI of the directory inside its archive, or null if the directory is
+   * not inside an archive.
+   *
+   * @since 0.3.0
+   */
+  private final URI archiveUri;
+
+  /**
+   * The classpath path of the directory.
+   *
+   * @since 0.3.0
+   */
+  private final String path;
+
+  /**
+   * Every regular file under the directory, keyed by its path relative to
+   * the directory, in the order they were listed.
+   *
+   * @since 0.3.0
+   */
+  private final Map<String, Path> files;
+
+  private InsideDirectory(
+    final boolean mappable,
+    final URI archiveUri,
+    final String path,
+    final Map<String, Path> files
+  ) {
+    this.mappable = mappable;
+    this.archiveUri = archiveUri;
+    this.path = path;
+    this.files = Collections.unmodifiableMap(files);
+  }
+
+  /**
+   * Opens and indexes the given classpath directory.
+   *
+   * @param classLoader the class loader to locate the directory with
+   * @param path        the classpath path of the directory
+   * @return the index of the directory
+   * @throws IllegalArgumentException if the directory cannot be found
+   * @throws RuntimeException         if the directory cannot be listed
+   * @since 0.3.0
+   */
+  public static InsideDirectory open(
+    final ClassLoader classLoader,
+    final String path
+  ) {
+    if (null == classLoader) {
+      throw new NullPointerException("The passed class loader must not be null.");
+    }
+    if (null == path) {
+      throw new NullPointerException("The passed path must not be null.");
+    }
+    final URL resource = classLoader.getResource(path);
+    if (null == resource) {
+      throw new IllegalArgumentException("Not found: " + path);
+    }
+
+    try {
+      final URI uri = resource.toURI();
+      final boolean archive = "jar".equals(uri.getScheme());
+      final Path directory;
+      if (archive) {
+        final FileSystem fs = InsideFiles.fileSystem(uri);
+        directory = fs.getPath(path);
+      } else {
+        directory = Paths.get(uri);
+      }
+
+      final Map<String, Path> files = new LinkedHashMap<>();
+      try (final Stream<Path> stream = Files.walk(directory)) {
+        stream.filter(Files::isRegularFile)
+          .forEach(file -> files.put(directory.relativize(file).toString(), file));
+      }
+      return new InsideDirectory(
+        !archive && FileSystems.getDefault() == directory.getFileSystem(),
+        archive ? uri : null,
+        path,
+        files
+      );
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to open: " + path, e);
+    }
+  }
+
+  /**
+   * Gets the path of every file under the directory, relative to it.
+   *
+   * @return an unmodifiable set of relative paths
+   * @since 0.3.0
+   */
+  public Set<String> getNames() {
+    return this.files.keySet();
+  }
+
+  /**
+   * Gets the file with the given relative path.
+   *
+   * @param name the path relative to the directory
+   * @return the file, or null if the directory has no such file
+   * @since 0.3.0
+   */
+  public Path getPath(final String name) {
+    final Path file = this.files.get(name);
+    if (null == file || file.getFileSystem().isOpen() || null == this.archiveUri) {
+      return file;
+    }
+    // The archive was closed since the directory was indexed
+    try {
+      return InsideFiles.fileSystem(this.archiveUri).getPath(this.path).resolve(name);
+    } catch (final IOException e) {
+      throw new RuntimeException("Failed to open: " + this.path, e);
+    }
+  }
+
+  /**
+   * Reads the whole file with the given relative path.
+   * <p>
+   * A file inside an archive is read into a buffer shared by every read on
+   * the calling thread, so the returned buffer must be consumed before the
+   * thread reads another file.
+   *
+   * @param name the path relative to the directory
+   * @return a read-only buffer positioned at the start of the file
+   * @throws IllegalArgumentException if the directory has no such file
+   * @throws IOException              if the file cannot be read
+   * @since 0.3.0
+   */
+  public ByteBuffer read(final String name) throws IOException {
+    final Path path = this.getPath(name);
+    if (null == path) {
+      throw new IllegalArgumentException("Not found: " + name);
+    }
+    if (this.mappable) {
+      try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+      }
+    }
+
+    byte[] buffer = BUFFERS.get();
+    int length = 0;
+    try (final InputStream in = Files.newInputStream(path)) {
+      int read;
+      while (-1 != (read = in.read(buffer, length, buffer.length - length))) {
+        length += read;
+        if (length == buffer.length) {
+          buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+          BUFFERS.set(buffer);
+        }
+      }
+    }
+    return ByteBuffer.wrap(buffer, 0, length).asReadOnlyBuffer();
+  }
+
+  /**
+   * Opens a stream over the whole file with the given relative path, as
+   * read by {@link #read(String)}.
+   *
+   * @param name the path relative to the directory
+   * @return a stream over the file
+   * @throws IllegalArgumentException if the directory has no such file
+   * @throws IOException              if the file cannot be read
+   * @since 0.3.0
+   */
+  public InputStream newInputStream(final String name) throws IOException {
+    return new BufferInputStream(this.read(name));
+  }
+
+  /**
+   * Opens a UTF-8 reader over the whole file with the given relative path,
+   * as read by {@link #read(String)}.
+   *
+   * @param name the path relative to the directory
+   * @return a reader over the file
+   * @throws IllegalArgumentException if the directory has no such file
+   * @throws IOException              if the file cannot be read
+   * @since 0.3.0
+   */
+  public Reader newReader(final String name) throws IOException {
+    return new InputStreamReader(this.newInputStream(name), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * A stream over the remaining bytes of a buffer.
+   *
+   * @since 0.3.0
+   */
+  private static final class BufferInputStream
+    extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private BufferInputStream(final ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(
+      final byte[] bytes,
+      final int offset,
+      final int length
+    ) {
+      if (0 == length) {
+        return 0;
+      }
+      if (!this.buffer.hasRemaining()) {
+        return -1;
+      }
+      final int count = Math.min(length, this.buffer.remaining());
+      this.buffer.get(bytes, offset, count);
+      return count;
+    }
+
+    @Override
+    public int available() {
+      return this.buffer.remaining();
+    }
+  }
+}
@@ -8,7 +8,10 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.FileSystemAlreadyExistsException;
 import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 
 /**
@@ -26,6 +29,16 @@ import java.util.function.BiFunction;
  */
 public final class InsideFiles {
 
+  /**
+   * The archive file systems opened by this class, keyed by the URI of their
+   * archive. They stay open, so every later access to the same archive
+   * reuses them instead of reopening and re-reading its central directory.
+   *
+   * @since 0.3.0
+   */
+  private static final ConcurrentMap<URI, FileSystem> FILE_SYSTEMS =
+    new ConcurrentHashMap<>();
+
   /**
    * Private constructor to prevent instantiation of this utility class.
    *
@@ -43,6 +56,8 @@ public final class InsideFiles {
    * This method locates the resource using the provided {@link ClassLoader},
    * opens a {@link FileSystem} for the container, and applies the given
    * {@link BiFunction} to the resolved {@link Path} inside the container.
+   * The file system of an archive is opened once and reused by every later
+   * call, until {@link #closeFileSystems()} is called.
    * <p>
    * The resource path must follow the JAR URL format, i.e., a path that may
    * include an internal structure separated by `!` (e.g.,
@@ -75,10 +90,8 @@ public final class InsideFiles {
       URI uri = resource.toURI();
 
       if ("jar".equals(uri.getScheme())) {
-        // Jesteśmy w JAR — bezpiecznie otwieramy
-        try (FileSystem fs = FileSystems.newFileSystem(uri, Collections.emptyMap())) {
-          return function.apply(fs, fs.getPath(path));
-        }
+        final FileSystem fs = fileSystem(uri);
+        return function.apply(fs, fs.getPath(path));
       } else {
         // Jesteśmy w katalogu (np. target/classes) — nie tworzymy osobnego FileSystem
         Path p = Paths.get(uri);
@@ -92,4 +105,61 @@ public final class InsideFiles {
       throw new RuntimeException("Failed to open: " + path, e);
     }
   }
+
+  /**
+   * Gets the file system of the archive holding the given {@code jar:} URI,
+   * opening it on first use.
+   *
+   * @param uri a {@code jar:} URI of an entry inside the archive
+   * @return the open file system of the archive
+   * @throws IOException if the archive cannot be opened
+   * @since 0.3.0
+   */
+  static FileSystem fileSystem(final URI uri) throws IOException {
+    final String content = uri.toString();
+    final int separator = content.indexOf("!/");
+    final URI archive = -1 == separator
+      ? uri
+      : URI.create(content.substring(0, separator));
+    final FileSystem cached = FILE_SYSTEMS.get(archive);
+    if (null != cached && cached.isOpen()) {
+      return cached;
+    }
+    synchronized (FILE_SYSTEMS) {
+      final FileSystem raced = FILE_SYSTEMS.get(archive);
+      if (null != raced && raced.isOpen()) {
+        return raced;
+      }
+      try {
+        final FileSystem fs = FileSystems.newFileSystem(archive, Collections.emptyMap());
+        FILE_SYSTEMS.put(archive, fs);
+        return fs;
+      } catch (final FileSystemAlreadyExistsException e) {
+        // Opened and owned by someone else, so it is neither cached nor closed here
+        return FileSystems.getFileSystem(archive);
+      }
+    }
+  }
+
+  /**
+   * Closes every archive file system opened by this class, releasing the
+   * archives. This should be called when the archives are about to be
+   * replaced or unloaded, for example when a plugin is disabled.
+   * <p>
+   * Later accesses open the archives again.
+   *
+   * @since 0.3.0
+   */
+  public static void closeFileSystems() {
+    synchronized (FILE_SYSTEMS) {
+      for (final FileSystem fs : FILE_SYSTEMS.values()) {
+        try {
+          fs.close();
+        } catch (final IOException ignored) {
+          // Closing is best effort, the archive may already be gone
+        }
+      }
+      FILE_SYSTEMS.clear();
+    }
+  }
 }
@@ -1,6 +1,7 @@
 dependencies {
   shadow(project(":api"))
   shadow(project(":core"))
+  shadow(project(":inputs-bundle"))
   shadow(project(":inputs-common"))
 
   testImplementation(project(":api"))
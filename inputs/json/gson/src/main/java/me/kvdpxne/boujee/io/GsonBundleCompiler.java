@@ -0,0 +1,113 @@
+package me.kvdpxne.boujee.io;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import me.kvdpxne.boujee.locale.BasicLocaleSource;
+import me.kvdpxne.boujee.locale.Locales;
+
+/**
+ * Compiles a directory of JSON translation files into a single translation
+ * bundle, read at runtime by {@link TranslationBundle}.
+ * <p>
+ * Every file is read as by {@link InsideGsonReader}, with its locale named
+ * by the file name, so a bundle holds exactly the translations the JSON
+ * files would load. This is meant to run at build time:
+ * <pre>{@code
+ * java me.kvdpxne.boujee.io.GsonBundleCompiler assets/languages languages.bundle
+ * }</pre>
+ *
+ * @since 0.3.0
+ */
+public final class GsonBundleCompiler {
+
+  private GsonBundleCompiler() {}
+
+  /**
+   * Compiles every JSON file of the given directory into the given bundle.
+   *
+   * @param directory the directory of the translation files
+   * @param bundle    the bundle file to write
+   * @throws IOException if a file cannot be read or the bundle written
+   * @since 0.3.0
+   */
+  public static void compile(
+    final Path directory,
+    final Path bundle
+  ) throws IOException {
+    if (null == directory) {
+      throw new NullPointerException("The passed directory must not be null.");
+    }
+    if (null == bundle) {
+      throw new NullPointerException("The passed bundle must not be null.");
+    }
+    final List<Path> paths;
+    try (final Stream<Path> stream = Files.walk(directory)) {
+      paths = stream
+        .filter(Files::isRegularFile)
+        .filter(path -> path.getFileName().toString().endsWith(".json"))
+        .sorted()
+        .collect(Collectors.toList());
+    }
+
+    final TranslationBundleWriter writer = new TranslationBundleWriter();
+    for (final Path path : paths) {
+      read(path, writer);
+    }
+    writer.write(bundle);
+  }
+
+  private static void read(
+    final Path path,
+    final TranslationBundleWriter writer
+  ) throws IOException {
+    final String fileName = path.getFileName().toString();
+    final String localization = new BasicLocaleSource(
+      Locales.fromString(fileName.substring(0, fileName.lastIndexOf('.')))
+    ).getLocalization();
+
+    try (final InputStream in = Files.newInputStream(path);
+         final JsonReader reader = new JsonReader(new InputStreamReader(in))) {
+      reader.setStrictness(Strictness.LENIENT);
+      StreamGson.read(reader, new StreamGson.Target() {
+        @Override
+        public void putText(final String key, final char[] text) {
+          writer.putText(localization, key, text);
+        }
+
+        @Override
+        public void putMessage(final String key, final char[][] lines) {
+          writer.putMessage(localization, key, lines);
+        }
+      });
+      if (JsonToken.END_DOCUMENT != reader.peek()) {
+        throw new JsonSyntaxException("Did not consume the entire document: " + path);
+      }
+    }
+  }
+
+  /**
+   * Compiles the directory given as the first argument into the bundle file
+   * given as the second.
+   *
+   * @param arguments the directory and the bundle file
+   * @throws IOException if a file cannot be read or the bundle written
+   * @since 0.3.0
+   */
+  public static void main(final String[] arguments) throws IOException {
+    if (2 != arguments.length) {
+      throw new IllegalArgumentException("Usage: GsonBundleCompiler <directory> <bundle>");
+    }
+    compile(Paths.get(arguments[0]), Paths.get(arguments[1]));
+  }
+}
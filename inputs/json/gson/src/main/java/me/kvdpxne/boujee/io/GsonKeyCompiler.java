@@ -0,0 +1,461 @@
+package me.kvdpxne.boujee.io;
+
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import me.kvdpxne.boujee.PerfectHashTable;
+import me.kvdpxne.boujee.TranslationKeySchema;
+
+/**
+ * Generates a typed key enum from the JSON translation file of the default
+ * locale, with stable ordinal numbers and a perfect hash table for lookups
+ * by name.
+ * <p>
+ * Every key of the file becomes a constant of the enum, so the constant at
+ * {@code ordinal()} is the key with that ordinal number. The ordinals are
+ * kept in a manifest, a UTF-8 file with the name of every key on the line
+ * of its ordinal, which belongs in version control next to the translation
+ * files. The manifest is append-only: new keys are appended to it in the
+ * order of their names, and keys removed from the translation file keep
+ * their lines and constants, so ordinals stored elsewhere stay valid across
+ * clean builds and checkouts. Compilation fails rather than move a name that
+ * the previously generated enum, if any, holds at another ordinal. The enum
+ * implements
+ * {@link me.kvdpxne.boujee.TranslationKeyProvider} like a hand-written key
+ * enum, but resolves its keys once, when it is initialized. Its nested
+ * {@code Schema} is registered as a {@link TranslationKeySchema} service,
+ * so the keys get these ordinals whichever loads first, the enum or a
+ * translation file. This is meant to run at build time:
+ * <pre>{@code
+ * java me.kvdpxne.boujee.io.GsonKeyCompiler assets/languages/en_US.json \
+ *   com.example.TranslationKeys src/main/translation-keys.txt \
+ *   build/generated/java build/generated/resources
+ * }</pre>
+ * <p>
+ * Names that are not Java identifiers, such as {@code 1ST-PLACE}, become
+ * constants with every other character replaced by {@code _} and a leading
+ * {@code _} if needed. Java limits the number of constants of an enum to a
+ * few thousand.
+ *
+ * @since 0.3.0
+ */
+public final class GsonKeyCompiler {
+
+  /**
+   * The declaration of the names of the generated schema, which is how the
+   * next compilation finds them to check that none moved.
+   *
+   * @since 0.3.0
+   */
+  private static final String NAMES_DECLARATION = "static final String[] NAMES = {";
+
+  private GsonKeyCompiler() {}
+
+  /**
+   * Generates the key enum of the given translation file, appending its new
+   * keys to the given manifest.
+   *
+   * @param file              the translation file of the default locale
+   * @param className         the fully qualified name of the enum
+   * @param manifest          the manifest of the ordinals, created if it does
+   *                          not exist
+   * @param sourceDirectory   the directory to write the source of the enum to
+   * @param resourceDirectory the directory to write the service registration
+   *                          to
+   * @throws IOException              if a file cannot be read or the output
+   *                                  written
+   * @throws IllegalArgumentException if two keys map to the same constant, a
+   *                                  name cannot be kept in the manifest, the
+   *                                  manifest lists a name twice, or the
+   *                                  previously generated source cannot be
+   *                                  read back
+   * @throws IllegalStateException    if a name would move to another ordinal
+   * @since 0.3.0
+   */
+  public static void compile(
+    final Path file,
+    final String className,
+    final Path manifest,
+    final Path sourceDirectory,
+    final Path resourceDirectory
+  ) throws IOException {
+    if (null == file) {
+      throw new NullPointerException("The passed file must not be null.");
+    }
+    if (null == className) {
+      throw new NullPointerException("The passed class name must not be null.");
+    }
+    if (null == manifest) {
+      throw new NullPointerException("The passed manifest must not be null.");
+    }
+    if (null == sourceDirectory) {
+      throw new NullPointerException("The passed source directory must not be null.");
+    }
+    if (null == resourceDirectory) {
+      throw new NullPointerException("The passed resource directory must not be null.");
+    }
+
+    final Path source = sourceDirectory.resolve(className.replace('.', '/') + ".java");
+    // Listed names keep their ordinals, new ones are appended after them
+    final Set<String> orderedNames = readManifest(manifest);
+    final int numberOfListedNames = orderedNames.size();
+    orderedNames.addAll(readNames(file));
+    final String[] names = orderedNames.toArray(new String[0]);
+    checkOrdinals(readPreviousNames(source), names, manifest);
+    if (numberOfListedNames != names.length) {
+      writeManifest(manifest, names);
+    }
+    final PerfectHashTable table = PerfectHashTable.build(names);
+
+    final int dot = className.lastIndexOf('.');
+    final String packageName = -1 == dot ? "" : className.substring(0, dot);
+    final String simpleName = className.substring(dot + 1);
+
+    Files.createDirectories(source.getParent());
+    try (final Writer out = Files.newBufferedWriter(source, StandardCharsets.UTF_8)) {
+      writeEnum(out, packageName, simpleName, file.getFileName().toString(), names, table);
+    }
+
+    final Path service = resourceDirectory.resolve(
+      "META-INF/services/" + TranslationKeySchema.class.getName()
+    );
+    Files.createDirectories(service.getParent());
+    Files.write(service, (className + "$Schema\n").getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Reads the flattened name of every key of the given file, normalized as
+   * by {@link me.kvdpxne.boujee.DefaultTranslationKey#of(String)}.
+   *
+   * @since 0.3.0
+   */
+  private static SortedSet<String> readNames(final Path file) throws IOException {
+    final SortedSet<String> names = new TreeSet<>();
+    try (final InputStream in = Files.newInputStream(file);
+         final JsonReader reader = new JsonReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      reader.setStrictness(Strictness.LENIENT);
+      StreamGson.read(reader, new StreamGson.Target() {
+        @Override
+        public void putText(final String key, final char[] text) {
+          names.add(key.trim().toUpperCase(Locale.ENGLISH));
+        }
+
+        @Override
+        public void putMessage(final String key, final char[][] lines) {
+          names.add(key.trim().toUpperCase(Locale.ENGLISH));
+        }
+      });
+      if (JsonToken.END_DOCUMENT != reader.peek()) {
+        throw new JsonSyntaxException("Did not consume the entire document: " + file);
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Reads the names of the given manifest, in the order of their ordinals.
+   *
+   * @return the names, or an empty set if there is no such manifest
+   * @since 0.3.0
+   */
+  private static Set<String> readManifest(final Path manifest) throws IOException {
+    final Set<String> names = new LinkedHashSet<>();
+    if (!Files.exists(manifest)) {
+      return names;
+    }
+    for (final String name : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+      if (!names.add(name)) {
+        throw new IllegalArgumentException(
+          "The manifest " + manifest + " lists the \"" + name + "\" key twice."
+        );
+      }
+    }
+    return names;
+  }
+
+  /**
+   * Writes the given names to the given manifest, one per line.
+   *
+   * @since 0.3.0
+   */
+  private static void writeManifest(
+    final Path manifest,
+    final String[] names
+  ) throws IOException {
+    final StringBuilder content = new StringBuilder();
+    for (final String name : names) {
+      // A name must stay on a single, non-blank line to be read back
+      if (name.isEmpty() || -1 != name.indexOf('\n') || -1 != name.indexOf('\r')) {
+        throw new IllegalArgumentException(
+          "The " + quote(name) + " key cannot be kept in the manifest " + manifest + "."
+        );
+      }
+      content.append(name).append('\n');
+    }
+    final Path parent = manifest.toAbsolutePath().getParent();
+    if (null != parent) {
+      Files.createDirectories(parent);
+    }
+    Files.write(manifest, content.toString().getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Checks that every name of the previously generated enum keeps its
+   * ordinal, which fails if the manifest was edited, replaced or lost.
+   *
+   * @throws IllegalStateException if a name would move to another ordinal
+   * @since 0.3.0
+   */
+  private static void checkOrdinals(
+    final List<String> previousNames,
+    final String[] names,
+    final Path manifest
+  ) {
+    for (int i = 0; i < previousNames.size(); ++i) {
+      final String name = previousNames.get(i);
+      if (i >= names.length || !name.equals(names[i])) {
+        throw new IllegalStateException(
+          "The \"" + name + "\" key would move from ordinal " + i
+            + ", as the manifest " + manifest + " no longer lists it there."
+        );
+      }
+    }
+  }
+
+  /**
+   * Reads back the names of the {@code Schema.NAMES} array of the given
+   * previously generated source, in the order of their ordinals.
+   *
+   * @return the names, or an empty list if there is no such source
+   * @since 0.3.0
+   */
+  private static List<String> readPreviousNames(final Path source) throws IOException {
+    final List<String> names = new ArrayList<>();
+    if (!Files.isRegularFile(source)) {
+      return names;
+    }
+    final String content = new String(Files.readAllBytes(source), StandardCharsets.UTF_8);
+    final int start = content.indexOf(NAMES_DECLARATION);
+    if (-1 == start) {
+      throw new IllegalArgumentException(
+        "The previously generated " + source + " does not declare the key names."
+      );
+    }
+    final StringBuilder name = new StringBuilder();
+    for (int i = start + NAMES_DECLARATION.length(); i < content.length(); ++i) {
+      final char c = content.charAt(i);
+      if ('}' == c) {
+        return names;
+      }
+      if ('"' != c) {
+        continue;
+      }
+      // Reverses the escapes written by quote
+      for (++i; '"' != content.charAt(i); ++i) {
+        final char d = content.charAt(i);
+        if ('\\' != d) {
+          name.append(d);
+        } else if ('u' == content.charAt(++i)) {
+          name.append((char) Integer.parseInt(content.substring(i + 1, i + 5), 16));
+          i += 4;
+        } else if ('0' <= content.charAt(i) && '7' >= content.charAt(i)) {
+          name.append((char) Integer.parseInt(content.substring(i, i + 3), 8));
+          i += 2;
+        } else {
+          name.append(content.charAt(i));
+        }
+      }
+      names.add(name.toString());
+      name.setLength(0);
+    }
+    throw new IllegalArgumentException(
+      "The key names of the previously generated " + source + " are not terminated."
+    );
+  }
+
+  private static void writeEnum(
+    final Writer out,
+    final String packageName,
+    final String simpleName,
+    final String fileName,
+    final String[] names,
+    final PerfectHashTable table
+  ) throws IOException {
+    if (!packageName.isEmpty()) {
+      out.write("package " + packageName + ";\n\n");
+    }
+    out.write("import me.kvdpxne.boujee.DefaultTranslationKey;\n");
+    out.write("import me.kvdpxne.boujee.PerfectHashTable;\n");
+    out.write("import me.kvdpxne.boujee.TranslationKey;\n");
+    out.write("import me.kvdpxne.boujee.TranslationKeyProvider;\n");
+    out.write("import me.kvdpxne.boujee.TranslationKeySchema;\n\n");
+    out.write("/**\n");
+    out.write(" * The translation keys of {@code " + fileName + "}, indexed by their ordinal numbers.\n");
+    out.write(" * <p>\n");
+    out.write(" * Generated by {@code " + GsonKeyCompiler.class.getName() + "}. Do not edit.\n");
+    out.write(" */\n");
+    out.write("public enum " + simpleName + "\n");
+    out.write("  implements TranslationKeyProvider {\n\n");
+
+    final Map<String, String> constants = new HashMap<>(names.length * 2);
+    for (int i = 0; i < names.length; ++i) {
+      final String constant = toIdentifier(names[i]);
+      final String previous = constants.put(constant, names[i]);
+      if (null != previous) {
+        throw new IllegalArgumentException(
+          "The \"" + previous + "\" and \"" + names[i] + "\" keys both map to " + constant + "."
+        );
+      }
+      out.write("  " + constant + (names.length - 1 == i ? ";\n\n" : ",\n"));
+    }
+    if (0 == names.length) {
+      out.write("  ;\n\n");
+    }
+
+    // Lower-case members cannot clash with the upper-case constants
+    out.write("  private static final " + simpleName + "[] constants = values();\n\n");
+    out.write("  private final TranslationKey translationKey =\n");
+    out.write("    DefaultTranslationKey.of(Schema.NAMES[this.ordinal()], true);\n\n");
+    out.write("  @Override\n");
+    out.write("  public TranslationKey getTranslationKey() {\n");
+    out.write("    return this.translationKey;\n");
+    out.write("  }\n\n");
+    out.write("  /**\n");
+    out.write("   * Finds the constant of the key with the given exact name.\n");
+    out.write("   *\n");
+    out.write("   * @param name the normalized name of the key\n");
+    out.write("   * @return the constant, or null if there is no such key\n");
+    out.write("   */\n");
+    out.write("  public static " + simpleName + " find(final CharSequence name) {\n");
+    out.write("    final int ordinal = Table.TABLE.indexOf(name);\n");
+    out.write("    return -1 == ordinal ? null : constants[ordinal];\n");
+    out.write("  }\n\n");
+
+    out.write("  /**\n");
+    out.write("   * Registers the names of the keys with their ordinal numbers.\n");
+    out.write("   */\n");
+    out.write("  public static final class Schema\n");
+    out.write("    implements TranslationKeySchema {\n\n");
+    out.write("    " + NAMES_DECLARATION + "\n");
+    for (int i = 0; i < names.length; ++i) {
+      out.write("      " + quote(names[i]) + (names.length - 1 == i ? "\n" : ",\n"));
+    }
+    out.write("    };\n\n");
+    out.write("    @Override\n");
+    out.write("    public String[] getKeyNames() {\n");
+    out.write("      return NAMES.clone();\n");
+    out.write("    }\n");
+    out.write("  }\n\n");
+
+    out.write("  /**\n");
+    out.write("   * The perfect hash table of the names, initialized on the first lookup.\n");
+    out.write("   */\n");
+    out.write("  private static final class Table {\n\n");
+    out.write("    static final PerfectHashTable TABLE = new PerfectHashTable(\n");
+    out.write("      Schema.NAMES,\n");
+    writeUnpack(out, table.getSeeds(), ",\n");
+    writeUnpack(out, table.getSlots(), "\n");
+    out.write("    );\n");
+    out.write("  }\n");
+    out.write("}\n");
+  }
+
+  private static void writeUnpack(
+    final Writer out,
+    final int[] values,
+    final String suffix
+  ) throws IOException {
+    out.write("      PerfectHashTable.unpack(");
+    final String[] chunks = PerfectHashTable.pack(values);
+    for (int i = 0; i < chunks.length; ++i) {
+      out.write((0 == i ? "\n        " : ",\n        ") + quote(chunks[i]));
+    }
+    out.write(")" + suffix);
+  }
+
+  /**
+   * Turns the given key name into a Java identifier.
+   *
+   * @since 0.3.0
+   */
+  private static String toIdentifier(final String name) {
+    final StringBuilder identifier = new StringBuilder(name.length() + 1);
+    if (name.isEmpty() || !Character.isJavaIdentifierStart(name.charAt(0)) || "_".equals(name)) {
+      identifier.append('_');
+    }
+    for (int i = 0; i < name.length(); ++i) {
+      final char c = name.charAt(i);
+      identifier.append(Character.isJavaIdentifierPart(c) ? c : '_');
+    }
+    return identifier.toString();
+  }
+
+  /**
+   * Writes the given string as a Java string literal, with every character
+   * outside printable ASCII escaped.
+   *
+   * @since 0.3.0
+   */
+  private static String quote(final String value) {
+    final StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+    for (int i = 0; i < value.length(); ++i) {
+      final char c = value.charAt(i);
+      if ('"' == c || '\\' == c) {
+        literal.append('\\').append(c);
+      } else if (' ' <= c && '~' >= c) {
+        literal.append(c);
+      } else if (0x80 > c) {
+        // A unicode escape of a line break would end the literal, as such
+        // escapes are replaced before the source is parsed
+        literal.append(String.format("\\%03o", (int) c));
+      } else {
+        literal.append(String.format("\\u%04x", (int) c));
+      }
+    }
+    return literal.append('"').toString();
+  }
+
+  /**
+   * Generates the key enum of the translation file given as the first
+   * argument, named by the second, with the manifest given as the third,
+   * into the source and resource directories given as the fourth and fifth.
+   *
+   * @param arguments the file, the class name, the manifest and the output
+   *                  directories
+   * @throws IOException if the file cannot be read or the output written
+   * @since 0.3.0
+   */
+  public static void main(final String[] arguments) throws IOException {
+    if (5 != arguments.length) {
+      throw new IllegalArgumentException(
+        "Usage: GsonKeyCompiler <file> <class name> <manifest> <source directory>"
+          + " <resource directory>"
+      );
+    }
+    compile(
+      Paths.get(arguments[0]),
+      arguments[1],
+      Paths.get(arguments[2]),
+      Paths.get(arguments[3]),
+      Paths.get(arguments[4])
+    );
+  }
+}
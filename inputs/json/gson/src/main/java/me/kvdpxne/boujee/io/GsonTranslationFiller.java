@@ -9,14 +9,82 @@ public class GsonTranslationFiller
   public static final GsonTranslationFiller INSTANCE
     = new GsonTranslationFiller();
 
+  /**
+   * The maximum number of translation files decoded at once.
+   *
+   * @since 0.3.0
+   */
+  private final int parallelism;
+
+  /**
+   * Whether locales are only decoded on first access.
+   *
+   * @since 0.3.0
+   */
+  private final boolean lazy;
+
+  /**
+   * Creates a filler that decodes translation files on the calling thread.
+   *
+   * @since 0.1.0
+   */
+  public GsonTranslationFiller() {
+    this(1);
+  }
+
+  /**
+   * Creates a filler that decodes up to the given number of translation files
+   * concurrently. The decoded locales are installed into the service in a
+   * single update once every file is decoded.
+   *
+   * @param parallelism the maximum number of files decoded at once, 1 to
+   *                    decode on the calling thread
+   * @throws IllegalArgumentException if parallelism is less than 1
+   * @since 0.3.0
+   */
+  public GsonTranslationFiller(final int parallelism) {
+    this(parallelism, false);
+  }
+
+  /**
+   * Creates a filler that either decodes every translation file up front,
+   * up to the given number concurrently, or only indexes the files and lets
+   * the service decode each locale on its first access.
+   *
+   * @param parallelism the maximum number of files decoded at once, 1 to
+   *                    decode on the calling thread; unused when lazy
+   * @param lazy        whether locales are only decoded on first access
+   * @throws IllegalArgumentException if parallelism is less than 1
+   * @see DefaultTranslationService#updateLazyTranslations(java.util.Map)
+   * @since 0.3.0
+   */
+  public GsonTranslationFiller(
+    final int parallelism,
+    final boolean lazy
+  ) {
+    if (1 > parallelism) {
+      throw new IllegalArgumentException("The passed parallelism must be at least 1.");
+    }
+    this.parallelism = parallelism;
+    this.lazy = lazy;
+  }
+
   @Override
   public void fill(
     final String path,
     final TranslationService translationService
   ) {
-    if (translationService instanceof DefaultTranslationService) {
-      ((DefaultTranslationService) translationService).updateTranslations(
-        InsideGsonReader.read(path)
+    if (!(translationService instanceof DefaultTranslationService)) {
+      return;
+    }
+    final DefaultTranslationService service = (DefaultTranslationService) translationService;
+    if (this.lazy) {
+      service.updateLazyTranslations(
+        InsideGsonReader.index(path, service.getKeyRegistry())
+      );
+    } else {
+      service.updateTranslations(
+        InsideGsonReader.read(path, this.parallelism, service.getKeyRegistry())
       );
     }
   }
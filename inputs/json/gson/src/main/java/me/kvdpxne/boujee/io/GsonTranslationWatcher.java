@@ -0,0 +1,245 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import me.kvdpxne.boujee.DefaultTranslationService;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.locale.LocaleTranslations;
+
+/**
+ * Watches a directory of JSON translation files and reloads every locale
+ * whose file changes, one locale at a time.
+ * <p>
+ * Changes are debounced: a file is reloaded once no change to the directory
+ * was seen for the debounce time, so an editor writing a file in several
+ * steps causes a single reload. Each changed file is decoded on its own and
+ * swapped in with
+ * {@link DefaultTranslationService#updateLocaleTranslations(LocaleTranslations)},
+ * which keeps the cached entries of every other locale.
+ * <p>
+ * A file that fails to decode or was deleted leaves its locale as it was, so
+ * a half-saved file never takes translations away. Only files directly in
+ * the directory are watched.
+ *
+ * @since 0.3.0
+ */
+public final class GsonTranslationWatcher
+  implements Closeable {
+
+  /**
+   * Receives the outcome of every reload.
+   *
+   * @since 0.3.0
+   */
+  public interface Listener {
+
+    /**
+     * Called after a locale was swapped in.
+     *
+     * @param localeSource the reloaded locale
+     * @param latencyNanos the time from the first detected change of the file
+     *                     to the swap, including the debounce time
+     * @since 0.3.0
+     */
+    void onReload(LocaleSource localeSource, long latencyNanos);
+
+    /**
+     * Called when a changed file could not be reloaded. The locale keeps its
+     * previous translations.
+     *
+     * @param path      the file that failed to reload
+     * @param exception the failure
+     * @since 0.3.0
+     */
+    default void onFailure(final Path path, final RuntimeException exception) {}
+  }
+
+  private final Path directory;
+  private final DefaultTranslationService service;
+  private final long debounceNanos;
+  private final Listener listener;
+  private final WatchService watchService;
+  private final Thread thread;
+
+  private GsonTranslationWatcher(
+    final Path directory,
+    final DefaultTranslationService service,
+    final long debounceNanos,
+    final Listener listener
+  ) throws IOException {
+    this.directory = directory;
+    this.service = service;
+    this.debounceNanos = debounceNanos;
+    this.listener = listener;
+    this.watchService = directory.getFileSystem().newWatchService();
+    directory.register(
+      this.watchService,
+      StandardWatchEventKinds.ENTRY_CREATE,
+      StandardWatchEventKinds.ENTRY_MODIFY
+    );
+    this.thread = new Thread(this::run, "boujee-translation-watcher");
+    this.thread.setDaemon(true);
+  }
+
+  /**
+   * Starts watching the given directory on a daemon thread.
+   *
+   * @param directory the directory of the translation files
+   * @param service   the service to reload the changed locales into
+   * @param debounce  how long the directory must stay unchanged before the
+   *                  changed files are reloaded
+   * @param unit      the unit of the debounce time
+   * @param listener  the listener notified of every reload
+   * @return the running watcher, to be closed once no longer needed
+   * @throws IOException              if the directory cannot be watched
+   * @throws IllegalArgumentException if debounce is negative
+   * @since 0.3.0
+   */
+  public static GsonTranslationWatcher start(
+    final Path directory,
+    final DefaultTranslationService service,
+    final long debounce,
+    final TimeUnit unit,
+    final Listener listener
+  ) throws IOException {
+    if (null == directory) {
+      throw new NullPointerException("The passed directory must not be null.");
+    }
+    if (null == service) {
+      throw new NullPointerException("The passed service must not be null.");
+    }
+    if (null == unit) {
+      throw new NullPointerException("The passed unit must not be null.");
+    }
+    if (null == listener) {
+      throw new NullPointerException("The passed listener must not be null.");
+    }
+    if (0L > debounce) {
+      throw new IllegalArgumentException("The passed debounce must not be negative.");
+    }
+    final GsonTranslationWatcher watcher = new GsonTranslationWatcher(
+      directory,
+      service,
+      unit.toNanos(debounce),
+      listener
+    );
+    watcher.thread.start();
+    return watcher;
+  }
+
+  private void run() {
+    // Changed files in detection order, with the time each was first seen
+    final Map<Path, Long> pending = new LinkedHashMap<>();
+    long lastChangeNanos = 0L;
+    try {
+      while (true) {
+        final WatchKey key;
+        if (pending.isEmpty()) {
+          key = this.watchService.take();
+        } else {
+          final long remaining = this.debounceNanos - (System.nanoTime() - lastChangeNanos);
+          key = 0L < remaining
+            ? this.watchService.poll(remaining, TimeUnit.NANOSECONDS)
+            : this.watchService.poll();
+        }
+
+        if (null != key) {
+          final long now = System.nanoTime();
+          for (final WatchEvent<?> event : key.pollEvents()) {
+            if (StandardWatchEventKinds.OVERFLOW == event.kind()) {
+              this.listFiles(pending, now);
+            } else {
+              this.enqueue(pending, this.directory.resolve((Path) event.context()), now);
+            }
+          }
+          lastChangeNanos = now;
+          if (!key.reset()) {
+            // The directory is gone
+            return;
+          }
+        }
+
+        if (!pending.isEmpty() && System.nanoTime() - lastChangeNanos >= this.debounceNanos) {
+          for (final Map.Entry<Path, Long> entry : pending.entrySet()) {
+            this.reload(entry.getKey(), entry.getValue());
+          }
+          pending.clear();
+        }
+      }
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (final ClosedWatchServiceException e) {
+      // Closed by close()
+    }
+  }
+
+  /**
+   * Queues every translation file of the directory, after events were lost.
+   *
+   * @since 0.3.0
+   */
+  private void listFiles(
+    final Map<Path, Long> pending,
+    final long now
+  ) {
+    try (final Stream<Path> stream = Files.list(this.directory)) {
+      stream.forEach(path -> this.enqueue(pending, path, now));
+    } catch (final IOException e) {
+      this.listener.onFailure(this.directory, new RuntimeException(e));
+    }
+  }
+
+  private void enqueue(
+    final Map<Path, Long> pending,
+    final Path path,
+    final long now
+  ) {
+    if (path.getFileName().toString().endsWith(".json")) {
+      pending.putIfAbsent(path, now);
+    }
+  }
+
+  private void reload(
+    final Path path,
+    final long detectedNanos
+  ) {
+    if (!Files.isRegularFile(path)) {
+      return;
+    }
+    try {
+      final LocaleTranslations translations = InsideGsonReader.decodeJson(
+        path,
+        this.service.getKeyRegistry()
+      );
+      this.service.updateLocaleTranslations(translations);
+      this.listener.onReload(
+        translations.getLocaleSource(),
+        System.nanoTime() - detectedNanos
+      );
+    } catch (final RuntimeException e) {
+      this.listener.onFailure(path, e);
+    }
+  }
+
+  /**
+   * Stops watching. Reloads already in progress complete.
+   *
+   * @throws IOException if the watch service fails to close
+   * @since 0.3.0
+   */
+  @Override
+  public void close() throws IOException {
+    this.watchService.close();
+  }
+}
@@ -1,100 +1,269 @@
 package me.kvdpxne.boujee.io;
 
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
-import java.nio.file.FileSystem;
-import java.util.stream.Stream;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import me.kvdpxne.boujee.KeyRegistry;
 import me.kvdpxne.boujee.locale.Locales;
-import me.kvdpxne.boujee.content.Translation;
-import me.kvdpxne.boujee.TranslationKey;
 import me.kvdpxne.boujee.locale.*;
-import me.kvdpxne.boujee.content.message.TranslationMessage;
-import me.kvdpxne.boujee.content.text.TranslationText;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 
 public final class InsideGsonReader {
 
   private InsideGsonReader() {}
 
+  /**
+   * Decodes a single translation file, naming its locale after the file.
+   *
+   * @param path        the translation file
+   * @param keyRegistry the registry of the keys of the file
+   * @return the translations of the file
+   */
+  static LocaleTranslations decodeJson(
+    final Path path,
+    final KeyRegistry keyRegistry
+  ) {
+    try (final InputStream in = Files.newInputStream(path)) {
+      return decodeJson(
+        path.getFileName().toString(),
+        new InputStreamReader(in, StandardCharsets.UTF_8),
+        keyRegistry
+      );
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Decodes a single translation file of the given directory, read in one
+   * go into a mapped or reused buffer.
+   *
+   * @since 0.3.0
+   */
   private static LocaleTranslations decodeJson(
-    final Path path
+    final InsideDirectory directory,
+    final String name,
+    final KeyRegistry keyRegistry
   ) {
-    final String fileName = path.getFileName().toString();
+    try {
+      return decodeJson(
+        directory.getPath(name).getFileName().toString(),
+        directory.newReader(name),
+        keyRegistry
+      );
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Decodes the translations read by the given reader, naming their locale
+   * after the given file name and keying them by the given registry, and
+   * closes the reader.
+   *
+   * @since 0.3.0
+   */
+  private static LocaleTranslations decodeJson(
+    final String fileName,
+    final Reader source,
+    final KeyRegistry keyRegistry
+  ) throws IOException {
     final String localeName = fileName.substring(0, fileName.lastIndexOf('.'));
     final Locale locale = Locales.fromString(localeName);
 
-    try (final InputStream in = Files.newInputStream(path);
-         final InputStreamReader reader = new InputStreamReader(in)) {
-      final JsonElement rootJson = JsonParser.parseReader(reader);
-      final Map<TranslationKey, Translation<?>> map = FlattenGson.flatten(rootJson);
-
-      final Map<TranslationKey, TranslationMessage> messages = new HashMap<>();
-      final Map<TranslationKey, TranslationText> texts = new HashMap<>();
-
-      for (final Map.Entry<TranslationKey, Translation<?>> entry : map.entrySet()) {
-        final Translation<?> value = entry.getValue();
-        if (value instanceof TranslationMessage) {
-          messages.put(entry.getKey(), (TranslationMessage) value);
-        } else if (value instanceof TranslationText) {
-          texts.put(entry.getKey(), (TranslationText) value);
-        }
+    final BasicLocaleTranslations translations =
+      new BasicLocaleTranslations(new BasicLocaleSource(locale), keyRegistry);
+    try (final JsonReader reader = new JsonReader(source)) {
+      // Same leniency as JsonParser, which this reader replaced
+      reader.setStrictness(Strictness.LENIENT);
+      StreamGson.read(reader, translations);
+      if (JsonToken.END_DOCUMENT != reader.peek()) {
+        throw new JsonSyntaxException("Did not consume the entire document.");
       }
-
-      return new BasicLocaleTranslations(
-        new BasicLocaleSource(locale),
-        messages,
-        texts
-      );
-    } catch (IOException e) {
-      throw new RuntimeException(e);
+      return translations;
     }
   }
 
+  /**
+   * Opens the index of the given classpath directory.
+   *
+   * @since 0.3.0
+   */
+  private static InsideDirectory open(final String rawPath) {
+    return InsideDirectory.open(InsideGsonReader.class.getClassLoader(), rawPath);
+  }
+
   public static LocaleTranslations read(final String rawPath, final String name) {
-    return InsideFiles.files(
-      InsideGsonReader.class.getClassLoader(),
-      rawPath,
-      (fs, basePath) -> {
-        try {
-          return Files.walk(basePath)
-            .filter(Files::isRegularFile)
-            .filter(p -> p.getFileName().toString().contains(name))
-            .map(InsideGsonReader::decodeJson)
-            .findFirst()
-            .orElseThrow(() -> new NoSuchElementException("Translation file for locale '" + name + "' not found."));
-        } catch (IOException e) {
-          throw new RuntimeException(e);
-        }
+    final InsideDirectory directory = open(rawPath);
+    for (final String file : directory.getNames()) {
+      if (directory.getPath(file).getFileName().toString().contains(name)) {
+        return decodeJson(directory, file, KeyRegistry.global());
       }
-    );
+    }
+    throw new NoSuchElementException("Translation file for locale '" + name + "' not found.");
   }
 
   /**
+   * Reads every translation file under the given path on the calling
+   * thread.
    *
+   * @param rawPath the classpath path of the translation files
+   * @return the translations of every file
    */
   public static Collection<LocaleTranslations> read(
     final String rawPath
   ) {
-    return InsideFiles.files(
-      InsideGsonReader.class.getClassLoader(),
-      rawPath,
-      (final FileSystem __, final Path basePath) -> {
-        try (final Stream<Path> stream = Files.walk(basePath)) {
-          return stream
-            .filter(Files::isRegularFile)
-            .map(InsideGsonReader::decodeJson)
-            .collect(Collectors.toList());
-        } catch (IOException e) {
-          throw new RuntimeException(e);
-        }
+    return read(rawPath, 1);
+  }
+
+  /**
+   * Reads every translation file under the given path, decoding up to the
+   * given number of files concurrently.
+   * <p>
+   * The files are decoded in a fork-join pool that lives only for this call.
+   * The method returns after every file is decoded, in the order the files
+   * were found, so the result can be installed into a service in one
+   * update.
+   *
+   * @param rawPath     the classpath path of the translation files
+   * @param parallelism the maximum number of files decoded at once, 1 to
+   *                    decode on the calling thread
+   * @return the translations of every file
+   * @throws IllegalArgumentException if parallelism is less than 1
+   * @since 0.3.0
+   */
+  public static Collection<LocaleTranslations> read(
+    final String rawPath,
+    final int parallelism
+  ) {
+    return read(rawPath, parallelism, KeyRegistry.global());
+  }
+
+  /**
+   * Reads every translation file under the given path into the given key
+   * registry, decoding up to the given number of files concurrently.
+   *
+   * @param rawPath     the classpath path of the translation files
+   * @param parallelism the maximum number of files decoded at once, 1 to
+   *                    decode on the calling thread
+   * @param keyRegistry the registry of the keys of the files
+   * @return the translations of every file
+   * @throws NullPointerException     if keyRegistry is null
+   * @throws IllegalArgumentException if parallelism is less than 1
+   * @see #read(String, int)
+   * @since 0.3.0
+   */
+  public static Collection<LocaleTranslations> read(
+    final String rawPath,
+    final int parallelism,
+    final KeyRegistry keyRegistry
+  ) {
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
+    if (1 > parallelism) {
+      throw new IllegalArgumentException("The passed parallelism must be at least 1.");
+    }
+    final InsideDirectory directory = open(rawPath);
+    final Set<String> names = directory.getNames();
+    if (1 == parallelism || 1 >= names.size()) {
+      final List<LocaleTranslations> translations = new ArrayList<>(names.size());
+      for (final String name : names) {
+        translations.add(decodeJson(directory, name, keyRegistry));
       }
+      return translations;
+    }
+    return decodeConcurrently(directory, parallelism, keyRegistry);
+  }
+
+  /**
+   * Lists every translation file under the given path without decoding any
+   * of them.
+   * <p>
+   * Every loader decodes its file when called, so it can be called, and
+   * called again, long after this method returned. This is meant for
+   * {@link me.kvdpxne.boujee.DefaultTranslationService#updateLazyTranslations(Map)}.
+   *
+   * @param rawPath the classpath path of the translation files
+   * @return the loaders of every file, keyed by the locale named by the file
+   * @since 0.3.0
+   */
+  public static Map<LocaleSource, Supplier<LocaleTranslations>> index(
+    final String rawPath
+  ) {
+    return index(rawPath, KeyRegistry.global());
+  }
+
+  /**
+   * Lists every translation file under the given path without decoding any
+   * of them, to be decoded into the given key registry.
+   *
+   * @param rawPath     the classpath path of the translation files
+   * @param keyRegistry the registry of the keys of the files
+   * @return the loaders of every file, keyed by the locale named by the file
+   * @throws NullPointerException if keyRegistry is null
+   * @see #index(String)
+   * @since 0.3.0
+   */
+  public static Map<LocaleSource, Supplier<LocaleTranslations>> index(
+    final String rawPath,
+    final KeyRegistry keyRegistry
+  ) {
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
+    final InsideDirectory directory = open(rawPath);
+    final Map<LocaleSource, Supplier<LocaleTranslations>> loaders = new LinkedHashMap<>();
+    for (final String name : directory.getNames()) {
+      final String fileName = directory.getPath(name).getFileName().toString();
+      final Locale locale = Locales.fromString(
+        fileName.substring(0, fileName.lastIndexOf('.'))
+      );
+      loaders.put(new BasicLocaleSource(locale), () -> decodeJson(directory, name, keyRegistry));
+    }
+    return loaders;
+  }
+
+  /**
+   * Decodes every file of the given directory in a dedicated fork-join
+   * pool, and returns once every file is decoded.
+   *
+   * @since 0.3.0
+   */
+  private static List<LocaleTranslations> decodeConcurrently(
+    final InsideDirectory directory,
+    final int parallelism,
+    final KeyRegistry keyRegistry
+  ) {
+    final Set<String> names = directory.getNames();
+    final ForkJoinPool pool = new ForkJoinPool(
+      Math.min(parallelism, names.size())
     );
+    try {
+      final List<ForkJoinTask<LocaleTranslations>> tasks = new ArrayList<>(names.size());
+      for (final String name : names) {
+        tasks.add(pool.submit(() -> decodeJson(directory, name, keyRegistry)));
+      }
+
+      final List<LocaleTranslations> translations = new ArrayList<>(names.size());
+      for (final ForkJoinTask<LocaleTranslations> task : tasks) {
+        translations.add(task.join());
+      }
+      return translations;
+    } finally {
+      pool.shutdownNow();
+    }
   }
-}
\ No newline at end of file
+}
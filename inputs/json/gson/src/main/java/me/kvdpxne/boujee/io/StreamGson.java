@@ -0,0 +1,174 @@
+package me.kvdpxne.boujee.io;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import me.kvdpxne.boujee.content.message.BasicTranslationMessage;
+import me.kvdpxne.boujee.content.text.BasicTranslationText;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
+
+/**
+ * Streams a translation file into its final storage.
+ * <p>
+ * This produces the same translations as {@link FlattenGson}, but without
+ * building a {@link com.google.gson.JsonElement} tree or any intermediate
+ * map. Every string or string array is turned into a translation as soon as
+ * it is read and put into the target under its flattened key.
+ *
+ * @since 0.3.0
+ */
+public final class StreamGson {
+
+  private StreamGson() {}
+
+  /**
+   * Receives the translations read by {@link StreamGson}, keyed by their
+   * flattened names.
+   *
+   * @since 0.3.0
+   */
+  public interface Target {
+
+    /**
+     * Receives a text.
+     *
+     * @param key  the flattened key of the text
+     * @param text the content of the text
+     * @since 0.3.0
+     */
+    void putText(String key, char[] text);
+
+    /**
+     * Receives a message.
+     *
+     * @param key   the flattened key of the message
+     * @param lines the lines of the message, at least one
+     * @since 0.3.0
+     */
+    void putMessage(String key, char[][] lines);
+  }
+
+  /**
+   * Reads the root object from the given reader and puts every translation
+   * it contains into the target.
+   *
+   * @param reader the reader positioned before the root object
+   * @param target the storage that receives the translations, under keys
+   *               of its registry
+   * @throws IOException              if the reader fails
+   * @throws IllegalArgumentException if a text is blank, a message is empty,
+   *                                  or a value has an unsupported type
+   * @throws RuntimeException         if the root is not an object
+   * @since 0.3.0
+   */
+  public static void read(
+    final JsonReader reader,
+    final BasicLocaleTranslations target
+  ) throws IOException {
+    Objects.requireNonNull(target);
+    read(reader, new Target() {
+      @Override
+      public void putText(final String key, final char[] text) {
+        target.putText(target.getKeyRegistry().of(key), new BasicTranslationText(text));
+      }
+
+      @Override
+      public void putMessage(final String key, final char[][] lines) {
+        target.putMessage(target.getKeyRegistry().of(key), new BasicTranslationMessage(lines));
+      }
+    });
+  }
+
+  /**
+   * Reads the root object from the given reader and passes every
+   * translation it contains to the target under its flattened name.
+   *
+   * @param reader the reader positioned before the root object
+   * @param target the target that receives the translations
+   * @throws IOException              if the reader fails
+   * @throws IllegalArgumentException if a text is blank, a message is empty,
+   *                                  or a value has an unsupported type
+   * @throws RuntimeException         if the root is not an object
+   * @since 0.3.0
+   */
+  public static void read(
+    final JsonReader reader,
+    final Target target
+  ) throws IOException {
+    Objects.requireNonNull(reader);
+    Objects.requireNonNull(target);
+    if (JsonToken.BEGIN_OBJECT != reader.peek()) {
+      throw new RuntimeException("Unsupported root json type.");
+    }
+    readObject(reader, new StringBuilder(64), target);
+  }
+
+  private static void readObject(
+    final JsonReader reader,
+    final StringBuilder key,
+    final Target target
+  ) throws IOException {
+    reader.beginObject();
+    while (reader.hasNext()) {
+      // The flattened key of the parent is restored after every entry
+      final int parentLength = key.length();
+      if (0 != parentLength) {
+        key.append('_');
+      }
+      key.append(reader.nextName().toUpperCase());
+
+      switch (reader.peek()) {
+        case BEGIN_OBJECT:
+          readObject(reader, key, target);
+          break;
+        case BEGIN_ARRAY:
+          target.putMessage(key.toString(), readMessage(reader));
+          break;
+        case NULL:
+          reader.skipValue();
+          break;
+        default:
+          target.putText(key.toString(), readText(reader));
+      }
+      key.setLength(parentLength);
+    }
+    reader.endObject();
+  }
+
+  private static char[] readText(
+    final JsonReader reader
+  ) throws IOException {
+    if (JsonToken.STRING != reader.peek()) {
+      throw new IllegalArgumentException("Expected a JSON string for SingleMessage, but received a different type.");
+    }
+
+    final String rawText = reader.nextString();
+    if (rawText.trim().isEmpty()) {
+      throw new IllegalArgumentException("SingleMessage content cannot be blank.");
+    }
+
+    return rawText.toCharArray();
+  }
+
+  private static char[][] readMessage(
+    final JsonReader reader
+  ) throws IOException {
+    final List<char[]> lines = new ArrayList<>(8);
+    reader.beginArray();
+    while (reader.hasNext()) {
+      if (JsonToken.STRING != reader.peek()) {
+        throw new IllegalArgumentException("Expected all elements in JSON array to be strings.");
+      }
+      lines.add(reader.nextString().toCharArray());
+    }
+    reader.endArray();
+
+    if (lines.isEmpty()) {
+      throw new IllegalArgumentException("Expected a non-empty JSON array for MultipleMessages.");
+    }
+    return lines.toArray(new char[0][]);
+  }
+}
@@ -1,3 +1,5 @@
+import org.jetbrains.kotlin.gradle.dsl.JvmTarget
+
 plugins {
   id("org.jetbrains.kotlin.jvm")
   id("org.jetbrains.kotlin.plugin.serialization")
@@ -7,5 +9,13 @@ dependencies {
   shadow(project(":api"))
   shadow(project(":core"))
   shadow(project(":inputs-common"))
+  shadow(libraries.kotlinx.coroutines.core)
   shadow(libraries.kotlinx.serialization.json)
-}
\ No newline at end of file
+}
+
+kotlin {
+  compilerOptions {
+    // Same target as the Java sources of every module
+    jvmTarget.set(JvmTarget.JVM_1_8)
+  }
+}
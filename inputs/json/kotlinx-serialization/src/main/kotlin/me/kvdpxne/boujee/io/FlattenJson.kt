@@ -30,7 +30,7 @@ internal object FlattenJson {
    * @throws IllegalArgumentException if the JSON primitive is not a string or is blank.
    * @since 0.1.0
    */
-  private fun toText(
+  internal fun toText(
     json: JsonPrimitive
   ): TranslationText {
     require(json.isString) {
@@ -54,24 +54,19 @@ internal object FlattenJson {
    * @throws IllegalArgumentException if the array is empty or contains non-string elements.
    * @since 0.1.0
    */
-  private fun toMessage(
+  internal fun toMessage(
     json: JsonArray
   ): TranslationMessage {
     require(json.isNotEmpty()) {
       "Expected a non-empty JSON array for MultipleMessages."
     }
 
-    val size: Int = json.size
-    val messages: Array<CharArray?> = arrayOfNulls(size)
-
-    var i = 0
-    while (i != size) {
+    val messages: Array<CharArray> = Array(json.size) { i: Int ->
       val next: JsonPrimitive = json[i].jsonPrimitive
       require(next.isString) {
         "Expected all elements in JSON array to be strings."
       }
-      messages[i] = next.content.toCharArray()
-      ++i
+      next.content.toCharArray()
     }
 
     return BasicTranslationMessage(messages)
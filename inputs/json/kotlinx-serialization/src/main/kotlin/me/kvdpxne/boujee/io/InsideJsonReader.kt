@@ -1,22 +1,22 @@
 package me.kvdpxne.boujee.io
 
-import java.nio.file.FileSystem
-import java.nio.file.Files
-import java.nio.file.Path
+import java.io.InputStream
 import java.util.Locale
-import java.util.stream.Collectors
-import kotlin.io.path.nameWithoutExtension
-import kotlin.io.path.readText
+import kotlinx.coroutines.CoroutineDispatcher
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.async
+import kotlinx.coroutines.awaitAll
+import kotlinx.coroutines.coroutineScope
+import kotlinx.coroutines.runBlocking
+import kotlinx.serialization.ExperimentalSerializationApi
 import kotlinx.serialization.json.Json
-import kotlinx.serialization.json.JsonElement
-import me.kvdpxne.boujee.content.Translation
-import me.kvdpxne.boujee.TranslationKey
+import kotlinx.serialization.json.decodeFromStream
+import me.kvdpxne.boujee.KeyRegistry
 import me.kvdpxne.boujee.locale.BasicLocaleSource
 import me.kvdpxne.boujee.locale.BasicLocaleTranslations
 import me.kvdpxne.boujee.locale.LocaleTranslations
 import me.kvdpxne.boujee.locale.Locales
-import me.kvdpxne.boujee.content.message.TranslationMessage
-import me.kvdpxne.boujee.content.text.TranslationText
 
 /**
  * A utility to read locale-specific JSON translation files and parse them into `LocaleMessages`.
@@ -26,39 +26,51 @@ import me.kvdpxne.boujee.content.text.TranslationText
 internal object InsideJsonReader {
 
   /**
-   * Decodes a JSON file from the given path into a `LocaleMessages` object.
+   * Decodes a JSON file of the given directory into a `LocaleMessages` object.
    *
-   * @param path Path of the JSON file to decode.
+   * @param directory The index of the directory holding the file.
+   * @param name Path of the JSON file to decode, relative to the directory.
+   * @param keyRegistry The registry of the keys of the file.
    * @return Parsed `LocaleMessages` containing messages for a specific locale.
    * @throws IllegalArgumentException if the file name does not represent a valid locale.
    * @since 0.1.0
    */
   private fun decodeJson(
-    path: Path
+    directory: InsideDirectory,
+    name: String,
+    keyRegistry: KeyRegistry
   ): LocaleTranslations {
-    val fileName: String = path.nameWithoutExtension
-    val locale: Locale = Locales.fromString(fileName)
+    val fileName: String = directory.getPath(name).fileName.toString()
+    val locale: Locale = Locales.fromString(fileName.substringBeforeLast('.'))
 
-    val texts: String = path.readText()
-    val rootJson: JsonElement = Json.parseToJsonElement(texts)
-
-    val map: Map<TranslationKey, Translation<*>> = FlattenJson.flatten(rootJson)
-
-    val messages = hashMapOf<TranslationKey, TranslationMessage>()
-    val textes = hashMapOf<TranslationKey, TranslationText>()
-
-    for ((key: TranslationKey, value: Translation<*>) in map) {
-      when (value) {
-        is TranslationMessage -> messages[key] = value
-        is TranslationText -> textes[key] = value
-      }
+    return directory.newInputStream(name).use { input: InputStream ->
+      decodeJson(BasicLocaleTranslations(BasicLocaleSource(locale), keyRegistry), input)
     }
+  }
+
+  /**
+   * Streams the translations read from the given input into the given
+   * translations.
+   *
+   * @since 0.3.0
+   */
+  @OptIn(ExperimentalSerializationApi::class)
+  private fun decodeJson(
+    translations: BasicLocaleTranslations,
+    input: InputStream
+  ): LocaleTranslations {
+    return Json.decodeFromStream(StreamJson(translations), input)
+  }
 
-    return BasicLocaleTranslations(
-      BasicLocaleSource(locale),
-      messages,
-      textes
-    )
+  /**
+   * Opens the index of the given classpath directory.
+   *
+   * @since 0.3.0
+   */
+  private fun open(
+    rawPath: String
+  ): InsideDirectory {
+    return InsideDirectory.open(this::class.java.classLoader, rawPath)
   }
 
   /**
@@ -73,21 +85,11 @@ internal object InsideJsonReader {
     rawPath: String,
     name: String
   ): LocaleTranslations {
-    return InsideFiles.files(
-      this::class.java.classLoader,
-      rawPath
-    ) { _, path: Path ->
-      Files.walk(path)
-        .filter(Files::isRegularFile)
-        .filter {
-          it.fileName.toString().contains(name)
-        }
-        .map(this::decodeJson)
-        .findFirst()
-        .orElseThrow {
-          NoSuchElementException("Translation file for locale '$name' not found.")
-        }
-    }
+    val directory: InsideDirectory = open(rawPath)
+    val file: String = directory.names.firstOrNull {
+      directory.getPath(it).fileName.toString().contains(name)
+    } ?: throw NoSuchElementException("Translation file for locale '$name' not found.")
+    return decodeJson(directory, file, KeyRegistry.global())
   }
 
   /**
@@ -99,17 +101,56 @@ internal object InsideJsonReader {
   internal fun read(
     rawPath: String
   ): Collection<LocaleTranslations> {
-    return InsideFiles.files(
-      this::class.java.classLoader,
-      rawPath
-    ) { fileSystem: FileSystem, path: Path ->
-      val f: List<LocaleTranslations> = Files.walk(path)
-        .filter(Files::isRegularFile)
-        .map(this::decodeJson)
-        .collect(Collectors.toList())
+    return read(rawPath, 1)
+  }
 
-      fileSystem.close()
-      return@files f
+  /**
+   * Reads and decodes all translation files found under the given path,
+   * decoding up to the given number of files concurrently on
+   * [Dispatchers.Default].
+   *
+   * Returns once every file is decoded, in the order the files were found,
+   * so the result can be installed into a service in one update.
+   *
+   * @param parallelism The maximum number of files decoded at once, 1 to
+   * decode on the calling thread.
+   * @param keyRegistry The registry of the keys of the files.
+   * @return A collection of `LocaleMessages` for all available locales.
+   * @throws IllegalArgumentException if parallelism is less than 1.
+   * @since 0.3.0
+   */
+  internal fun read(
+    rawPath: String,
+    parallelism: Int,
+    keyRegistry: KeyRegistry = KeyRegistry.global()
+  ): Collection<LocaleTranslations> {
+    require(1 <= parallelism) {
+      "The passed parallelism must be at least 1."
+    }
+    val directory: InsideDirectory = open(rawPath)
+    if (1 == parallelism || 1 >= directory.names.size) {
+      return directory.names.map { decodeJson(directory, it, keyRegistry) }
     }
+    return runBlocking {
+      decodeConcurrently(directory, parallelism, keyRegistry)
+    }
+  }
+
+  /**
+   * Decodes every file of the given directory in its own coroutine, at most
+   * the given number at once, and resumes once every file is decoded.
+   *
+   * @since 0.3.0
+   */
+  @OptIn(ExperimentalCoroutinesApi::class)
+  private suspend fun decodeConcurrently(
+    directory: InsideDirectory,
+    parallelism: Int,
+    keyRegistry: KeyRegistry
+  ): List<LocaleTranslations> = coroutineScope {
+    val dispatcher: CoroutineDispatcher = Dispatchers.Default.limitedParallelism(parallelism)
+    directory.names
+      .map { async(dispatcher) { decodeJson(directory, it, keyRegistry) } }
+      .awaitAll()
   }
-}
\ No newline at end of file
+}
@@ -4,9 +4,33 @@ import me.kvdpxne.boujee.DefaultTranslationService
 import me.kvdpxne.boujee.TranslationService
 
 /**
+ * Fills a translation service with the JSON translation files under a
+ * classpath path.
+ *
+ * The companion object decodes the files on the calling thread, as this
+ * filler always did, so `JsonTranslationFiller` can still be used as a
+ * filler by itself.
+ *
+ * @param parallelism The maximum number of files decoded at once, 1 to
+ * decode on the calling thread. The decoded locales are installed into the
+ * service in a single update once every file is decoded.
+ * @throws IllegalArgumentException if parallelism is less than 1.
  * @since 0.1.0
  */
-object JsonTranslationFiller : TranslationFiller {
+class JsonTranslationFiller(
+  private val parallelism: Int = 1
+) : TranslationFiller {
+
+  init {
+    require(1 <= parallelism) {
+      "The passed parallelism must be at least 1."
+    }
+  }
+
+  /**
+   * @since 0.1.0
+   */
+  companion object : TranslationFiller by JsonTranslationFiller()
 
   /**
    * @since 0.1.0
@@ -16,7 +40,9 @@ object JsonTranslationFiller : TranslationFiller {
     translationService: TranslationService
   ) {
     if (translationService is DefaultTranslationService) {
-      translationService.updateTranslations(InsideJsonReader.read(path))
+      translationService.updateTranslations(
+        InsideJsonReader.read(path, parallelism, translationService.keyRegistry)
+      )
     }
   }
-}
\ No newline at end of file
+}
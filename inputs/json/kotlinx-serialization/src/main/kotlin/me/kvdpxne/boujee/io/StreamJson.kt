@@ -0,0 +1,99 @@
+package me.kvdpxne.boujee.io
+
+import kotlinx.serialization.DeserializationStrategy
+import kotlinx.serialization.builtins.MapSerializer
+import kotlinx.serialization.builtins.serializer
+import kotlinx.serialization.descriptors.SerialDescriptor
+import kotlinx.serialization.encoding.CompositeDecoder
+import kotlinx.serialization.encoding.Decoder
+import kotlinx.serialization.json.JsonArray
+import kotlinx.serialization.json.JsonElement
+import kotlinx.serialization.json.JsonObject
+import kotlinx.serialization.json.JsonPrimitive
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations
+
+/**
+ * Streams a translation file into its final storage.
+ *
+ * This produces the same translations as [FlattenJson], but the root object
+ * is read entry by entry from the decoder instead of as a whole
+ * [JsonElement] tree, and every translation is put into the [target] under
+ * its flattened key as soon as it is read, without any intermediate map.
+ *
+ * The decoders of kotlinx-serialization cannot tell the type of the next
+ * value without decoding it, so the value of each root entry is still
+ * decoded as a [JsonElement]. Only one root entry is held in memory at a
+ * time.
+ *
+ * @param target the storage that receives the translations, under keys of
+ * its registry
+ * @since 0.3.0
+ */
+internal class StreamJson(
+  private val target: BasicLocaleTranslations
+) : DeserializationStrategy<BasicLocaleTranslations> {
+
+  override val descriptor: SerialDescriptor =
+    MapSerializer(String.serializer(), JsonElement.serializer()).descriptor
+
+  /**
+   * Reads the root object and puts every translation it contains into the
+   * [target].
+   *
+   * @throws IllegalArgumentException if a text is blank, a message is empty,
+   * or a value has an unsupported type.
+   * @throws kotlinx.serialization.SerializationException if the root is not
+   * an object.
+   * @since 0.3.0
+   */
+  override fun deserialize(
+    decoder: Decoder
+  ): BasicLocaleTranslations {
+    val key = StringBuilder(64)
+    val composite: CompositeDecoder = decoder.beginStructure(descriptor)
+    while (true) {
+      val keyIndex: Int = composite.decodeElementIndex(descriptor)
+      if (CompositeDecoder.DECODE_DONE == keyIndex) {
+        break
+      }
+      key.append(composite.decodeStringElement(descriptor, keyIndex).uppercase())
+
+      val valueIndex: Int = composite.decodeElementIndex(descriptor)
+      put(key, composite.decodeSerializableElement(descriptor, valueIndex, JsonElement.serializer()))
+      key.setLength(0)
+    }
+    composite.endStructure(descriptor)
+    return target
+  }
+
+  /**
+   * Puts the given value under the given flattened key, or every value it
+   * contains if it is an object.
+   *
+   * @since 0.3.0
+   */
+  private fun put(
+    key: StringBuilder,
+    element: JsonElement
+  ) {
+    when (element) {
+      is JsonObject -> for ((name: String, child: JsonElement) in element) {
+        // The flattened key of the parent is restored after every entry
+        val parentLength: Int = key.length
+        key.append('_').append(name.uppercase())
+        put(key, child)
+        key.setLength(parentLength)
+      }
+
+      is JsonArray -> target.putMessage(
+        target.keyRegistry.of(key.toString()),
+        FlattenJson.toMessage(element)
+      )
+
+      is JsonPrimitive -> target.putText(
+        target.keyRegistry.of(key.toString()),
+        FlattenJson.toText(element)
+      )
+    }
+  }
+}
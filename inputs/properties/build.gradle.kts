@@ -0,0 +1,5 @@
+dependencies {
+  shadow(project(":api"))
+  shadow(project(":core"))
+  shadow(project(":inputs-common"))
+}
@@ -0,0 +1,91 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import me.kvdpxne.boujee.KeyRegistry;
+import me.kvdpxne.boujee.locale.BasicLocaleSource;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
+import me.kvdpxne.boujee.locale.LocaleTranslations;
+import me.kvdpxne.boujee.locale.Locales;
+
+/**
+ * Reads the properties translation files under a classpath path, one file
+ * per locale named after the file, such as {@code en_US.properties}.
+ *
+ * @since 0.3.0
+ */
+public final class InsidePropertiesReader {
+
+  private InsidePropertiesReader() {}
+
+  /**
+   * Decodes a single translation file of the given directory as UTF-8,
+   * naming its locale after the file and keying it by the given registry.
+   *
+   * @since 0.3.0
+   */
+  private static LocaleTranslations decodeProperties(
+    final InsideDirectory directory,
+    final String name,
+    final KeyRegistry keyRegistry
+  ) {
+    final String fileName = directory.getPath(name).getFileName().toString();
+    final Locale locale = Locales.fromString(fileName.substring(0, fileName.lastIndexOf('.')));
+
+    final BasicLocaleTranslations translations =
+      new BasicLocaleTranslations(new BasicLocaleSource(locale), keyRegistry);
+    try (final Reader reader = directory.newReader(name)) {
+      StreamProperties.read(reader, translations);
+      return translations;
+    } catch (final IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Reads every {@code .properties} file under the given path.
+   *
+   * @param rawPath the classpath path of the translation files
+   * @return the translations of every file
+   * @throws IllegalArgumentException if the path cannot be found or a file
+   *                                  is malformed
+   * @since 0.3.0
+   */
+  public static Collection<LocaleTranslations> read(final String rawPath) {
+    return read(rawPath, KeyRegistry.global());
+  }
+
+  /**
+   * Reads every {@code .properties} file under the given path into the
+   * given key registry.
+   *
+   * @param rawPath     the classpath path of the translation files
+   * @param keyRegistry the registry of the keys of the files
+   * @return the translations of every file
+   * @throws NullPointerException     if keyRegistry is null
+   * @throws IllegalArgumentException if the path cannot be found or a file
+   *                                  is malformed
+   * @since 0.3.0
+   */
+  public static Collection<LocaleTranslations> read(
+    final String rawPath,
+    final KeyRegistry keyRegistry
+  ) {
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
+    final InsideDirectory directory =
+      InsideDirectory.open(InsidePropertiesReader.class.getClassLoader(), rawPath);
+    final List<LocaleTranslations> translations = new ArrayList<>();
+    for (final String name : directory.getNames()) {
+      if (name.endsWith(".properties")) {
+        translations.add(decodeProperties(directory, name, keyRegistry));
+      }
+    }
+    return translations;
+  }
+}
@@ -0,0 +1,31 @@
+package me.kvdpxne.boujee.io;
+
+import me.kvdpxne.boujee.DefaultTranslationService;
+import me.kvdpxne.boujee.TranslationService;
+
+/**
+ * Fills a translation service with the properties translation files under a
+ * classpath path.
+ *
+ * @see StreamProperties
+ * @since 0.3.0
+ */
+public class PropertiesTranslationFiller
+  implements TranslationFiller {
+
+  public static final PropertiesTranslationFiller INSTANCE
+    = new PropertiesTranslationFiller();
+
+  @Override
+  public void fill(
+    final String path,
+    final TranslationService translationService
+  ) {
+    if (translationService instanceof DefaultTranslationService) {
+      final DefaultTranslationService service = (DefaultTranslationService) translationService;
+      service.updateTranslations(
+        InsidePropertiesReader.read(path, service.getKeyRegistry())
+      );
+    }
+  }
+}
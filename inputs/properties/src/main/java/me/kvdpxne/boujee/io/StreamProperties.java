@@ -0,0 +1,258 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import me.kvdpxne.boujee.content.message.BasicTranslationMessage;
+import me.kvdpxne.boujee.content.text.BasicTranslationText;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
+
+/**
+ * Streams a properties translation file into its final storage.
+ * <p>
+ * The file is read line by line with the syntax of
+ * {@link java.util.Properties#load(Reader)}: comments, {@code =}, {@code :}
+ * or whitespace between key and value, escapes and line continuations. It
+ * is not loaded into a {@link java.util.Properties} table first, every
+ * entry is put into the target as soon as it is read.
+ * <p>
+ * Keys are flattened like the keys of the JSON files: upper-cased, with
+ * every {@code .} replaced by {@code _}, so {@code group.key} is the same
+ * translation as {@code {"group": {"key": ...}}}. A key ending with
+ * {@code []} adds a line to the message under the rest of the key, in the
+ * order the lines appear:
+ * <pre>{@code
+ * group.text=A text
+ * group.message[]=The first line
+ * group.message[]=The second line
+ * }</pre>
+ *
+ * @since 0.3.0
+ */
+public final class StreamProperties {
+
+  private static final int KEY = 0;
+  private static final int AFTER_KEY = 1;
+  private static final int VALUE_START = 2;
+  private static final int VALUE = 3;
+
+  private final Reader reader;
+  private final char[] buffer = new char[8192];
+  private int position;
+  private int limit;
+
+  private StreamProperties(final Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Reads every entry from the given reader and puts the translations into
+   * the target.
+   *
+   * @param reader the reader of the file
+   * @param target the storage that receives the translations, under keys
+   *               of its registry
+   * @throws IOException              if the reader fails
+   * @throws IllegalArgumentException if a key is empty, a text is blank, or
+   *                                  an escape is malformed
+   * @since 0.3.0
+   */
+  public static void read(
+    final Reader reader,
+    final BasicLocaleTranslations target
+  ) throws IOException {
+    Objects.requireNonNull(reader);
+    Objects.requireNonNull(target);
+    final StreamProperties stream = new StreamProperties(reader);
+    final StringBuilder key = new StringBuilder(64);
+    final StringBuilder value = new StringBuilder(128);
+    // The lines of every message, completed once the whole file is read
+    final Map<String, List<char[]>> messages = new LinkedHashMap<>();
+
+    while (stream.next(key, value)) {
+      if (0 == key.length()) {
+        throw new IllegalArgumentException("A key must not be empty.");
+      }
+      final boolean line = endsWithMessageSuffix(key);
+      if (line) {
+        key.setLength(key.length() - 2);
+      }
+      final String name = flatten(key);
+      final char[] content = new char[value.length()];
+      value.getChars(0, content.length, content, 0);
+
+      if (line) {
+        messages.computeIfAbsent(name, ignored -> new ArrayList<>(8)).add(content);
+      } else {
+        if (isBlank(value)) {
+          throw new IllegalArgumentException("The text of key '" + name + "' must not be blank.");
+        }
+        target.putText(target.getKeyRegistry().of(name), new BasicTranslationText(content));
+      }
+    }
+
+    for (final Map.Entry<String, List<char[]>> entry : messages.entrySet()) {
+      target.putMessage(
+        target.getKeyRegistry().of(entry.getKey()),
+        new BasicTranslationMessage(entry.getValue().toArray(new char[0][]))
+      );
+    }
+  }
+
+  /**
+   * Reads the next logical line holding an entry into the given builders.
+   *
+   * @return false once the end of the file was reached without an entry
+   * @since 0.3.0
+   */
+  private boolean next(
+    final StringBuilder key,
+    final StringBuilder value
+  ) throws IOException {
+    key.setLength(0);
+    value.setLength(0);
+
+    // Blank lines, leading whitespace and comments
+    int c;
+    while (true) {
+      c = this.read();
+      if (-1 == c) {
+        return false;
+      }
+      if (' ' == c || '\t' == c || '\f' == c || '\r' == c || '\n' == c) {
+        continue;
+      }
+      if ('#' == c || '!' == c) {
+        while (-1 != c && '\r' != c && '\n' != c) {
+          c = this.read();
+        }
+        continue;
+      }
+      break;
+    }
+
+    int state = KEY;
+    while (-1 != c && '\r' != c && '\n' != c) {
+      if ('\\' == c) {
+        c = this.read();
+        if (-1 == c) {
+          break;
+        }
+        if ('\r' == c || '\n' == c) {
+          // A line continuation, without the leading whitespace of the next line
+          final int lineBreak = c;
+          c = this.read();
+          if ('\r' == lineBreak && '\n' == c) {
+            c = this.read();
+          }
+          while (' ' == c || '\t' == c || '\f' == c) {
+            c = this.read();
+          }
+          continue;
+        }
+        // An escaped character never ends the key
+        final char escaped = this.unescape(c);
+        if (KEY == state) {
+          key.append(escaped);
+        } else {
+          state = VALUE;
+          value.append(escaped);
+        }
+      } else {
+        switch (state) {
+          case KEY:
+            if (' ' == c || '\t' == c || '\f' == c) {
+              state = AFTER_KEY;
+            } else if ('=' == c || ':' == c) {
+              state = VALUE_START;
+            } else {
+              key.append((char) c);
+            }
+            break;
+          case AFTER_KEY:
+            if ('=' == c || ':' == c) {
+              state = VALUE_START;
+            } else if (' ' != c && '\t' != c && '\f' != c) {
+              state = VALUE;
+              value.append((char) c);
+            }
+            break;
+          case VALUE_START:
+            if (' ' != c && '\t' != c && '\f' != c) {
+              state = VALUE;
+              value.append((char) c);
+            }
+            break;
+          default:
+            value.append((char) c);
+        }
+      }
+      c = this.read();
+    }
+    return true;
+  }
+
+  private char unescape(final int c) throws IOException {
+    switch (c) {
+      case 't':
+        return '\t';
+      case 'n':
+        return '\n';
+      case 'r':
+        return '\r';
+      case 'f':
+        return '\f';
+      case 'u':
+        int code = 0;
+        for (int i = 0; 4 > i; ++i) {
+          final int digit = Character.digit(this.read(), 16);
+          if (0 > digit) {
+            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+          }
+          code = (code << 4) | digit;
+        }
+        return (char) code;
+      default:
+        return (char) c;
+    }
+  }
+
+  private int read() throws IOException {
+    if (this.position == this.limit) {
+      final int read = this.reader.read(this.buffer, 0, this.buffer.length);
+      if (0 >= read) {
+        return -1;
+      }
+      this.position = 0;
+      this.limit = read;
+    }
+    return this.buffer[this.position++];
+  }
+
+  private static boolean endsWithMessageSuffix(final CharSequence key) {
+    final int length = key.length();
+    return 2 < length && '[' == key.charAt(length - 2) && ']' == key.charAt(length - 1);
+  }
+
+  /**
+   * Flattens the given key the way the JSON loaders flatten nested keys.
+   *
+   * @since 0.3.0
+   */
+  private static String flatten(final CharSequence key) {
+    return key.toString().toUpperCase().replace('.', '_');
+  }
+
+  private static boolean isBlank(final CharSequence value) {
+    for (int i = 0; i < value.length(); ++i) {
+      if (!Character.isWhitespace(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,78 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import me.kvdpxne.boujee.KeyRegistry;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.locale.LocaleTranslations;
+
+/**
+ * Reads the tab-separated translation tables under a classpath path. Every
+ * table may hold any number of locales, and the tables are merged, so the
+ * translations of a locale can be split across several files.
+ *
+ * @since 0.3.0
+ */
+public final class InsideTsvReader {
+
+  private InsideTsvReader() {}
+
+  /**
+   * Reads every {@code .tsv} file under the given path as UTF-8.
+   *
+   * @param rawPath the classpath path of the translation tables
+   * @return the translations of every locale named by any table
+   * @throws IllegalArgumentException if the path cannot be found or a table
+   *                                  is malformed
+   * @since 0.3.0
+   */
+  public static Collection<LocaleTranslations> read(final String rawPath) {
+    return read(rawPath, KeyRegistry.global());
+  }
+
+  /**
+   * Reads every {@code .tsv} file under the given path as UTF-8 into the
+   * given key registry.
+   *
+   * @param rawPath     the classpath path of the translation tables
+   * @param keyRegistry the registry of the keys of the tables
+   * @return the translations of every locale named by any table
+   * @throws NullPointerException     if keyRegistry is null
+   * @throws IllegalArgumentException if the path cannot be found or a table
+   *                                  is malformed
+   * @since 0.3.0
+   */
+  public static Collection<LocaleTranslations> read(
+    final String rawPath,
+    final KeyRegistry keyRegistry
+  ) {
+    if (null == keyRegistry) {
+      throw new NullPointerException("The passed key registry must not be null.");
+    }
+    final InsideDirectory directory =
+      InsideDirectory.open(InsideTsvReader.class.getClassLoader(), rawPath);
+    final Map<LocaleSource, BasicLocaleTranslations> translations = new LinkedHashMap<>();
+    for (final String name : directory.getNames()) {
+      if (!name.endsWith(".tsv")) {
+        continue;
+      }
+      try (final Reader reader = directory.newReader(name)) {
+        StreamTsv.read(
+          reader,
+          localeSource -> translations.computeIfAbsent(
+            localeSource,
+            absent -> new BasicLocaleTranslations(absent, keyRegistry)
+          )
+        );
+      } catch (final IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return new ArrayList<>(translations.values());
+  }
+}
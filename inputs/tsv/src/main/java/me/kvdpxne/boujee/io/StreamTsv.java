@@ -0,0 +1,241 @@
+package me.kvdpxne.boujee.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import me.kvdpxne.boujee.content.message.BasicTranslationMessage;
+import me.kvdpxne.boujee.content.text.BasicTranslationText;
+import me.kvdpxne.boujee.locale.BasicLocaleSource;
+import me.kvdpxne.boujee.locale.BasicLocaleTranslations;
+import me.kvdpxne.boujee.locale.LocaleSource;
+import me.kvdpxne.boujee.locale.Locales;
+
+/**
+ * Streams a tab-separated translation table, as exported from a
+ * spreadsheet, into the storage of every locale it holds.
+ * <p>
+ * The first row names the locale of every column after the first, such as
+ * {@code key  en_US  pl_PL}. Every following row holds a key in the first
+ * column and its translation in each locale in the others:
+ * <pre>{@code
+ * key              en_US            pl_PL
+ * group.text       A text           Tekst
+ * group.message[]  The first line   Pierwsza linia
+ * group.message[]  The second line  Druga linia
+ * }</pre>
+ * Keys are flattened like the keys of the JSON files: upper-cased, with
+ * every {@code .} replaced by {@code _}. A key ending with {@code []} adds a
+ * line to the message under the rest of the key. A blank cell is an
+ * untranslated key and is skipped, so the locale falls back as usual.
+ * <p>
+ * A cell starting with {@code "} is quoted, as spreadsheets export cells
+ * holding tabs, line breaks or quotes: it ends at the next lone {@code "},
+ * and {@code ""} stands for a single quote.
+ *
+ * @since 0.3.0
+ */
+public final class StreamTsv {
+
+  private final Reader reader;
+  private final char[] buffer = new char[8192];
+  private int position;
+  private int limit;
+
+  /**
+   * The cells of the current row, reused for every row.
+   */
+  private final List<StringBuilder> cells = new ArrayList<>();
+
+  private StreamTsv(final Reader reader) {
+    this.reader = reader;
+  }
+
+  /**
+   * Reads the whole table from the given reader and puts every translation
+   * into the storage of its locale.
+   *
+   * @param reader  the reader of the table
+   * @param targets gives the storage of a locale named by the first row,
+   *                which receives its translations under keys of its registry
+   * @throws IOException              if the reader fails
+   * @throws IllegalArgumentException if a locale or a key is malformed, or a
+   *                                  quoted cell is not terminated
+   * @since 0.3.0
+   */
+  public static void read(
+    final Reader reader,
+    final Function<? super LocaleSource, ? extends BasicLocaleTranslations> targets
+  ) throws IOException {
+    Objects.requireNonNull(reader);
+    Objects.requireNonNull(targets);
+    final StreamTsv stream = new StreamTsv(reader);
+
+    // The storage of every column, null for the key column and unnamed ones
+    final List<BasicLocaleTranslations> columns = new ArrayList<>();
+    int count;
+    do {
+      count = stream.nextRow();
+      if (-1 == count) {
+        return;
+      }
+    } while (1 == count && isBlank(stream.cells.get(0)));
+    columns.add(null);
+    for (int i = 1; i < count; ++i) {
+      final String name = stream.cells.get(i).toString().trim();
+      columns.add(name.isEmpty()
+        ? null
+        : targets.apply(new BasicLocaleSource(Locales.fromString(name))));
+    }
+
+    // The lines of every message per column, completed once the whole table is read
+    final List<Map<String, List<char[]>>> messages = new ArrayList<>(columns.size());
+    for (int i = 0; i < columns.size(); ++i) {
+      messages.add(new LinkedHashMap<>());
+    }
+
+    while (-1 != (count = stream.nextRow())) {
+      final StringBuilder key = stream.cells.get(0);
+      trim(key);
+      if (0 == key.length()) {
+        continue;
+      }
+      final boolean line = endsWithMessageSuffix(key);
+      if (line) {
+        key.setLength(key.length() - 2);
+      }
+      final String name = key.toString().toUpperCase().replace('.', '_');
+
+      for (int i = 1; i < Math.min(count, columns.size()); ++i) {
+        final BasicLocaleTranslations target = columns.get(i);
+        final StringBuilder value = stream.cells.get(i);
+        if (null == target || isBlank(value)) {
+          continue;
+        }
+        final char[] content = new char[value.length()];
+        value.getChars(0, content.length, content, 0);
+        if (line) {
+          messages.get(i).computeIfAbsent(name, ignored -> new ArrayList<>(8)).add(content);
+        } else {
+          target.putText(target.getKeyRegistry().of(name), new BasicTranslationText(content));
+        }
+      }
+    }
+
+    for (int i = 1; i < columns.size(); ++i) {
+      final BasicLocaleTranslations target = columns.get(i);
+      for (final Map.Entry<String, List<char[]>> entry : messages.get(i).entrySet()) {
+        target.putMessage(
+          target.getKeyRegistry().of(entry.getKey()),
+          new BasicTranslationMessage(entry.getValue().toArray(new char[0][]))
+        );
+      }
+    }
+  }
+
+  /**
+   * Reads the next row into the reused cells.
+   *
+   * @return the number of cells of the row, or -1 at the end of the table
+   * @since 0.3.0
+   */
+  private int nextRow() throws IOException {
+    int c = this.read();
+    if (-1 == c) {
+      return -1;
+    }
+
+    int count = 0;
+    StringBuilder cell = this.cell(count++);
+    boolean start = true;
+    boolean quoted = false;
+    while (true) {
+      if (quoted) {
+        if (-1 == c) {
+          throw new IllegalArgumentException("A quoted cell must be terminated.");
+        }
+        if ('"' == c) {
+          c = this.read();
+          if ('"' != c) {
+            // The closing quote, c is the character after it
+            quoted = false;
+            continue;
+          }
+        }
+        cell.append((char) c);
+        c = this.read();
+        continue;
+      }
+
+      if (-1 == c || '\n' == c) {
+        return count;
+      }
+      if ('\t' == c) {
+        cell = this.cell(count++);
+        start = true;
+      } else if ('"' == c && start) {
+        quoted = true;
+        start = false;
+      } else if ('\r' != c) {
+        cell.append((char) c);
+        start = false;
+      }
+      c = this.read();
+    }
+  }
+
+  /**
+   * Gets the cell at the given index cleared for reuse.
+   */
+  private StringBuilder cell(final int index) {
+    if (index == this.cells.size()) {
+      this.cells.add(new StringBuilder(64));
+    }
+    final StringBuilder cell = this.cells.get(index);
+    cell.setLength(0);
+    return cell;
+  }
+
+  private int read() throws IOException {
+    if (this.position == this.limit) {
+      final int read = this.reader.read(this.buffer, 0, this.buffer.length);
+      if (0 >= read) {
+        return -1;
+      }
+      this.position = 0;
+      this.limit = read;
+    }
+    return this.buffer[this.position++];
+  }
+
+  private static boolean endsWithMessageSuffix(final CharSequence key) {
+    final int length = key.length();
+    return 2 < length && '[' == key.charAt(length - 2) && ']' == key.charAt(length - 1);
+  }
+
+  private static void trim(final StringBuilder value) {
+    int end = value.length();
+    while (0 < end && Character.isWhitespace(value.charAt(end - 1))) {
+      --end;
+    }
+    value.setLength(end);
+    int start = 0;
+    while (start < end && Character.isWhitespace(value.charAt(start))) {
+      ++start;
+    }
+    value.delete(0, start);
+  }
+
+  private static boolean isBlank(final CharSequence value) {
+    for (int i = 0; i < value.length(); ++i) {
+      if (!Character.isWhitespace(value.charAt(i))) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
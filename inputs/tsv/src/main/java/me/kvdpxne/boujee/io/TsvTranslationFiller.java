@@ -0,0 +1,31 @@
+package me.kvdpxne.boujee.io;
+
+import me.kvdpxne.boujee.DefaultTranslationService;
+import me.kvdpxne.boujee.TranslationService;
+
+/**
+ * Fills a translation service with the tab-separated translation tables
+ * under a classpath path.
+ *
+ * @see StreamTsv
+ * @since 0.3.0
+ */
+public class TsvTranslationFiller
+  implements TranslationFiller {
+
+  public static final TsvTranslationFiller INSTANCE
+    = new TsvTranslationFiller();
+
+  @Override
+  public void fill(
+    final String path,
+    final TranslationService translationService
+  ) {
+    if (translationService instanceof DefaultTranslationService) {
+      final DefaultTranslationService service = (DefaultTranslationService) translationService;
+      service.updateTranslations(
+        InsideTsvReader.read(path, service.getKeyRegistry())
+      );
+    }
+  }
+}
@@ -3,6 +3,9 @@ package me.kvdpxne.boujee.chains;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
+import me.kvdpxne.boujee.TranslationService;
+import me.kvdpxne.boujee.color.ColorCodeTrust;
+import me.kvdpxne.boujee.color.LegacyColorCodes;
 import me.kvdpxne.boujee.content.Replacer;
 import me.kvdpxne.boujee.content.Translation;
 import me.kvdpxne.boujee.locale.LocaleSource;
@@ -12,11 +15,27 @@ import me.kvdpxne.boujee.send.MinecraftSendChoices;
 public class MinecraftReplacerChains
   extends TranslationReplacerChains {
 
+  /**
+   * Renders the translations without a service. Placeholder values are
+   * rendered as with {@link ColorCodeTrust#PLAIN}, so colour codes inside
+   * them cannot change the formatting of a line.
+   */
   public MinecraftReplacerChains(
     final List<Receiver> receivers,
     final Map<LocaleSource, Translation<?>> translations
   ) {
-    super(receivers, translations);
+    super(receivers, translations, new LegacyColorCodes());
+  }
+
+  /**
+   * @since 0.3.0
+   */
+  public MinecraftReplacerChains(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, Translation<?>> translations,
+    final TranslationService translationService
+  ) {
+    super(receivers, translations, translationService);
   }
 
   @Override
@@ -24,13 +43,25 @@ public class MinecraftReplacerChains
     final Supplier<Replacer> replacerSupplier
   ) {
     super.performReplace(replacerSupplier);
-    // noinspection unchecked
-    return (T) new MinecraftSendChoices(super.receivers, super.translations);
+    // The caller names the choices it expects, which it has to match
+    @SuppressWarnings("unchecked")
+    final T choices = (T) new MinecraftSendChoices(
+      super.receivers,
+      super.receiversByLocale,
+      super.translations
+    );
+    return choices;
   }
 
   @Override
   public <T extends SendChoices> T skip() {
-    // noinspection unchecked
-    return (T) new MinecraftSendChoices(super.receivers, super.translations);
+    // The caller names the choices it expects, which it has to match
+    @SuppressWarnings("unchecked")
+    final T choices = (T) new MinecraftSendChoices(
+      super.receivers,
+      super.receiversByLocale,
+      super.translations
+    );
+    return choices;
   }
 }
@@ -0,0 +1,36 @@
+package me.kvdpxne.boujee.color;
+
+/**
+ * How colour and format codes inside placeholder values are treated by
+ * {@link LegacyColorCodes}.
+ *
+ * @since 0.3.0
+ */
+public enum ColorCodeTrust {
+
+  /**
+   * The values are trusted, so their alternate codes are translated like
+   * the content of translations, such as values taken from a configuration.
+   *
+   * @since 0.3.0
+   */
+  TRUSTED,
+
+  /**
+   * The values are shown as written, so their alternate codes stay plain
+   * text and the codes already translated in them are removed, so a value
+   * cannot change the formatting of a line. Meant for values which players
+   * can choose, such as names or chat input.
+   *
+   * @since 0.3.0
+   */
+  PLAIN,
+
+  /**
+   * Both the alternate and the translated codes are removed from the
+   * values.
+   *
+   * @since 0.3.0
+   */
+  STRIP
+}
@@ -0,0 +1,186 @@
+package me.kvdpxne.boujee.color;
+
+import me.kvdpxne.boujee.content.ContentTransformer;
+
+/**
+ * Translates legacy colour and format codes written with an alternate
+ * character, such as {@code &a}, into the codes of Minecraft, such as
+ * {@code §a}, once, when translations are loaded.
+ * <p>
+ * Set as the content transformer of a translation service, it replaces the
+ * call of {@code ChatColor.translateAlternateColorCodes} on every send:
+ * <pre>{@code
+ * service.setContentTransformer(new LegacyColorCodes('&', ColorCodeTrust.PLAIN));
+ * }</pre>
+ * The codes are translated before the templates are compiled, so rendering
+ * only copies the translated content. Placeholder values are handled
+ * according to the given {@link ColorCodeTrust} when they are rendered.
+ *
+ * @since 0.3.0
+ */
+public final class LegacyColorCodes
+  implements ContentTransformer {
+
+  /**
+   * The character starting every colour and format code of Minecraft.
+   *
+   * @since 0.3.0
+   */
+  public static final char COLOR_CHAR = '\u00A7';
+
+  /**
+   * The characters which follow the code character, as accepted by
+   * {@code ChatColor.translateAlternateColorCodes}.
+   */
+  private static final String CODES = "0123456789AaBbCcDdEeFfKkLlMmNnOoRrXx";
+
+  private final char alternateChar;
+  private final ColorCodeTrust valueTrust;
+
+  /**
+   * @param alternateChar the character used instead of {@link #COLOR_CHAR}
+   *                      in translations
+   * @param valueTrust    how codes inside placeholder values are treated
+   * @throws NullPointerException     if valueTrust is null
+   * @throws IllegalArgumentException if alternateChar is {@link #COLOR_CHAR}
+   * @since 0.3.0
+   */
+  public LegacyColorCodes(
+    final char alternateChar,
+    final ColorCodeTrust valueTrust
+  ) {
+    if (null == valueTrust) {
+      throw new NullPointerException("The passed value trust must not be null.");
+    }
+    if (COLOR_CHAR == alternateChar) {
+      throw new IllegalArgumentException(
+        "The passed alternate character must differ from the colour character."
+      );
+    }
+    this.alternateChar = alternateChar;
+    this.valueTrust = valueTrust;
+  }
+
+  /**
+   * Creates a transformer of {@code &} codes, which shows placeholder values
+   * as written.
+   *
+   * @since 0.3.0
+   */
+  public LegacyColorCodes() {
+    this('&', ColorCodeTrust.PLAIN);
+  }
+
+  public char getAlternateChar() {
+    return this.alternateChar;
+  }
+
+  public ColorCodeTrust getValueTrust() {
+    return this.valueTrust;
+  }
+
+  private static boolean isCode(final char c) {
+    return -1 != CODES.indexOf(c);
+  }
+
+  /**
+   * Translates every alternate code of the given content.
+   *
+   * @param content the content to translate
+   * @return the translated content, or the given array if it has no codes
+   * @throws NullPointerException if content is null
+   * @since 0.3.0
+   */
+  public char[] translate(final char[] content) {
+    if (null == content) {
+      throw new NullPointerException("The passed content must not be null.");
+    }
+    char[] translated = null;
+    for (int i = 0, last = content.length - 1; i < last; ++i) {
+      if (this.alternateChar == content[i] && isCode(content[i + 1])) {
+        if (null == translated) {
+          translated = content.clone();
+        }
+        translated[i] = COLOR_CHAR;
+        translated[i + 1] = Character.toLowerCase(content[i + 1]);
+        ++i;
+      }
+    }
+    return null == translated ? content : translated;
+  }
+
+  /**
+   * Removes every code starting with the given character from the given
+   * content.
+   *
+   * @return the content without the codes, or the given array if it has none
+   */
+  private static char[] strip(
+    final char[] content,
+    final char codeChar,
+    final char otherCodeChar
+  ) {
+    int length = 0;
+    char[] stripped = null;
+    for (int i = 0; i < content.length; ++i) {
+      final char c = content[i];
+      if ((codeChar == c || otherCodeChar == c)
+        && i + 1 < content.length
+        && isCode(content[i + 1])) {
+        if (null == stripped) {
+          stripped = new char[content.length - 2];
+          System.arraycopy(content, 0, stripped, 0, i);
+          length = i;
+        }
+        ++i;
+        continue;
+      }
+      if (null != stripped) {
+        stripped[length++] = c;
+      }
+    }
+    if (null == stripped) {
+      return content;
+    }
+    final char[] trimmed = new char[length];
+    System.arraycopy(stripped, 0, trimmed, 0, length);
+    return trimmed;
+  }
+
+  /**
+   * Removes every translated code, and every alternate code too if
+   * requested, from the given content.
+   *
+   * @param content          the content to strip
+   * @param includeAlternate whether to remove the alternate codes as well
+   * @return the content without the codes, or the given array if it has none
+   * @throws NullPointerException if content is null
+   * @since 0.3.0
+   */
+  public char[] strip(
+    final char[] content,
+    final boolean includeAlternate
+  ) {
+    if (null == content) {
+      throw new NullPointerException("The passed content must not be null.");
+    }
+    return strip(content, COLOR_CHAR, includeAlternate ? this.alternateChar : COLOR_CHAR);
+  }
+
+  @Override
+  public char[] transform(final char[] content) {
+    return this.translate(content);
+  }
+
+  @Override
+  public char[] transformValue(final char[] value) {
+    switch (this.valueTrust) {
+      case TRUSTED:
+        return this.translate(value);
+      case STRIP:
+        return this.strip(value, true);
+      default:
+        return this.strip(value, false);
+    }
+  }
+}
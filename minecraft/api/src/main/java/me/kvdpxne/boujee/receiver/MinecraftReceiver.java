@@ -4,4 +4,17 @@ public interface MinecraftReceiver
   extends Receiver {
 
   void onChat(final char[] content);
+
+  /**
+   * Receives every line of a message at once, so a receiver can send them
+   * together. Sends the lines one by one by default.
+   *
+   * @param lines the lines of the message
+   * @since 0.3.0
+   */
+  default void onChat(final char[][] lines) {
+    for (final char[] line : lines) {
+      this.onChat(line);
+    }
+  }
 }
@@ -0,0 +1,220 @@
+package me.kvdpxne.boujee.receiver;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import me.kvdpxne.boujee.locale.LocaleSource;
+
+/**
+ * Queues the chat lines sent to a single receiver and passes them on when
+ * flushed, usually once per server tick.
+ * <p>
+ * It is meant to wrap the receiver passed to the chains, between
+ * {@link me.kvdpxne.boujee.send.ToChat} and the player:
+ * <ul>
+ *   <li>A message identical to the previous one queued since the last flush
+ *   is dropped, so a burst of the same event is shown once.</li>
+ *   <li>Every line let through by a flush is passed on with a single call of
+ *   {@link MinecraftReceiver#onChat(char[][])}.</li>
+ *   <li>A token bucket limits the number of lines passed on. Messages over
+ *   the limit wait for a later flush, and messages that do not fit in the
+ *   queue capacity are dropped.</li>
+ * </ul>
+ * Messages are queued, passed on and dropped whole, so the lines of a
+ * message are never split between flushes or cut short.
+ * Lines may be queued from any thread. Flushing is meant for a single thread.
+ *
+ * @since 0.3.0
+ */
+public class OutboundChatQueue
+  implements MinecraftReceiver {
+
+  /**
+   * The number of lines passed on at once after a quiet period.
+   *
+   * @since 0.3.0
+   */
+  public static final int DEFAULT_BURST = 20;
+
+  /**
+   * The number of lines passed on per second in the long run.
+   *
+   * @since 0.3.0
+   */
+  public static final double DEFAULT_LINES_PER_SECOND = 10.0;
+
+  /**
+   * The most lines waiting to be passed on.
+   *
+   * @since 0.3.0
+   */
+  public static final int DEFAULT_CAPACITY = 100;
+
+  private final MinecraftReceiver receiver;
+  private final int capacity;
+  private final TokenBucket tokenBucket;
+
+  private final ArrayDeque<char[][]> messages = new ArrayDeque<>();
+  private int numberOfQueuedLines;
+
+  /**
+   * The last message queued since the last flush, to drop repeats of it.
+   */
+  private char[][] lastMessage;
+
+  private long numberOfCoalescedMessages;
+  private long numberOfDroppedLines;
+
+  /**
+   * @param receiver       the receiver to pass the lines on to
+   * @param burst          the most lines passed on at once after a quiet
+   *                       period
+   * @param linesPerSecond the number of lines passed on per second in the
+   *                       long run
+   * @param capacity       the most lines waiting to be passed on, which
+   *                       also bounds the lines of a single message
+   * @throws NullPointerException     if receiver is null
+   * @throws IllegalArgumentException if any number is not positive
+   * @since 0.3.0
+   */
+  public OutboundChatQueue(
+    final MinecraftReceiver receiver,
+    final int burst,
+    final double linesPerSecond,
+    final int capacity
+  ) {
+    if (null == receiver) {
+      throw new NullPointerException("The passed receiver must not be null.");
+    }
+    if (0 >= burst) {
+      throw new IllegalArgumentException("The passed burst must be greater than zero.");
+    }
+    if (!(0.0 < linesPerSecond)) {
+      throw new IllegalArgumentException(
+        "The passed number of lines per second must be greater than zero."
+      );
+    }
+    if (0 >= capacity) {
+      throw new IllegalArgumentException("The passed capacity must be greater than zero.");
+    }
+    this.receiver = receiver;
+    this.capacity = capacity;
+    this.tokenBucket = new TokenBucket(burst, linesPerSecond, System.nanoTime());
+  }
+
+  /**
+   * Creates a queue with the default limits.
+   *
+   * @param receiver the receiver to pass the lines on to
+   * @throws NullPointerException if receiver is null
+   * @since 0.3.0
+   */
+  public OutboundChatQueue(final MinecraftReceiver receiver) {
+    this(receiver, DEFAULT_BURST, DEFAULT_LINES_PER_SECOND, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Returns the receiver the lines are passed on to.
+   *
+   * @since 0.3.0
+   */
+  public MinecraftReceiver getReceiver() {
+    return this.receiver;
+  }
+
+  @Override
+  public LocaleSource getLocaleSource() {
+    return this.receiver.getLocaleSource();
+  }
+
+  @Override
+  public void onChat(final char[] content) {
+    this.onChat(new char[][]{content});
+  }
+
+  @Override
+  public synchronized void onChat(final char[][] lines) {
+    final char[][] lastMessage = this.lastMessage;
+    // Broadcasts share one rendered message between receivers, so a repeat
+    // is usually the same instance
+    if (lines == lastMessage || Arrays.deepEquals(lines, lastMessage)) {
+      ++this.numberOfCoalescedMessages;
+      return;
+    }
+    this.lastMessage = lines;
+
+    if (0 == lines.length) {
+      return;
+    }
+    if (this.capacity - this.numberOfQueuedLines < lines.length) {
+      this.numberOfDroppedLines += lines.length;
+      return;
+    }
+    this.messages.add(lines);
+    this.numberOfQueuedLines += lines.length;
+  }
+
+  /**
+   * Passes on as many whole queued messages as the rate limit allows, in a
+   * single call of {@link MinecraftReceiver#onChat(char[][])}. A message of
+   * more lines than the burst is passed on alone once the bucket is full.
+   *
+   * @return the number of lines passed on
+   * @since 0.3.0
+   */
+  public int flush() {
+    final char[][] batch;
+    synchronized (this) {
+      this.lastMessage = null;
+      final long now = System.nanoTime();
+      int count = 0;
+      for (final char[][] message : this.messages) {
+        if (!this.tokenBucket.tryTake(message.length, now)) {
+          break;
+        }
+        count += message.length;
+      }
+      if (0 == count) {
+        return 0;
+      }
+      batch = new char[count][];
+      for (int i = 0; i < count; ) {
+        final char[][] message = this.messages.poll();
+        System.arraycopy(message, 0, batch, i, message.length);
+        i += message.length;
+      }
+      this.numberOfQueuedLines -= count;
+    }
+    // Passed on outside of the lock, so senders are not held up by the
+    // receiver
+    this.receiver.onChat(batch);
+    return batch.length;
+  }
+
+  /**
+   * Returns the number of lines waiting to be passed on.
+   *
+   * @since 0.3.0
+   */
+  public synchronized int getNumberOfQueuedLines() {
+    return this.numberOfQueuedLines;
+  }
+
+  /**
+   * Returns the number of messages dropped as repeats of the previous one.
+   *
+   * @since 0.3.0
+   */
+  public synchronized long getNumberOfCoalescedMessages() {
+    return this.numberOfCoalescedMessages;
+  }
+
+  /**
+   * Returns the number of lines of the messages dropped because they did not
+   * fit in the queue.
+   *
+   * @since 0.3.0
+   */
+  public synchronized long getNumberOfDroppedLines() {
+    return this.numberOfDroppedLines;
+  }
+}
@@ -0,0 +1,53 @@
+package me.kvdpxne.boujee.receiver;
+
+/**
+ * A token bucket, which holds at most a fixed number of tokens and refills
+ * at a fixed rate. Not thread-safe.
+ *
+ * @since 0.3.0
+ */
+final class TokenBucket {
+
+  private final double capacity;
+  private final double tokensPerNano;
+
+  private double tokens;
+  private long lastRefillNanos;
+
+  TokenBucket(
+    final int capacity,
+    final double tokensPerSecond,
+    final long nowNanos
+  ) {
+    this.capacity = capacity;
+    this.tokensPerNano = tokensPerSecond / 1_000_000_000.0;
+    this.tokens = capacity;
+    this.lastRefillNanos = nowNanos;
+  }
+
+  /**
+   * Takes the given number of tokens if the bucket holds them all, so
+   * tokens are never taken in part. A number above the capacity is taken
+   * once the bucket is full, leaving it in debt until refilled.
+   *
+   * @param wanted   the number of tokens wanted
+   * @param nowNanos the current time in nanoseconds
+   * @return whether the tokens were taken
+   * @since 0.3.0
+   */
+  boolean tryTake(
+    final int wanted,
+    final long nowNanos
+  ) {
+    final long elapsed = nowNanos - this.lastRefillNanos;
+    if (0L < elapsed) {
+      this.tokens = Math.min(this.capacity, this.tokens + elapsed * this.tokensPerNano);
+      this.lastRefillNanos = nowNanos;
+    }
+    if (this.tokens < Math.min(wanted, this.capacity)) {
+      return false;
+    }
+    this.tokens -= wanted;
+    return true;
+  }
+}
@@ -1,7 +1,12 @@
 package me.kvdpxne.boujee.send;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import me.kvdpxne.boujee.chains.ReceiversChains;
 import me.kvdpxne.boujee.content.Translation;
 import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.receiver.Receiver;
@@ -9,14 +14,40 @@ import me.kvdpxne.boujee.receiver.Receiver;
 public abstract class BaseSendable
   implements Sendable {
 
+  /**
+   * The number of receivers sent to by a single task of
+   * {@link #sendAsync(Executor)}.
+   *
+   * @since 0.3.0
+   */
+  public static final int DEFAULT_BATCH_SIZE = 256;
+
   protected final List<Receiver> receivers;
+
+  /**
+   * @since 0.3.0
+   */
+  protected final Map<LocaleSource, List<Receiver>> receiversByLocale;
+
   protected final Map<LocaleSource, Translation<?>> translations;
 
   protected BaseSendable(
     final List<Receiver> receivers,
     final Map<LocaleSource, Translation<?>> translations
+  ) {
+    this(receivers, ReceiversChains.groupByLocale(receivers), translations);
+  }
+
+  /**
+   * @since 0.3.0
+   */
+  protected BaseSendable(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, List<Receiver>> receiversByLocale,
+    final Map<LocaleSource, Translation<?>> translations
   ) {
     this.receivers = receivers;
+    this.receiversByLocale = receiversByLocale;
     this.translations = translations;
   }
 
@@ -35,4 +66,133 @@ public abstract class BaseSendable
     }
     return translation;
   }
+
+  /**
+   * Sends the given translation to the given receivers, which all share its
+   * locale. May be called from several threads at once, with distinct
+   * receivers. Both {@link #send()} and {@link #sendAsync(Executor, int)}
+   * send through this method.
+   *
+   * @param receivers   the receivers to send to
+   * @param translation the translation of their locale
+   * @since 0.3.0
+   */
+  protected abstract void send(
+    final List<Receiver> receivers,
+    final Translation<?> translation
+  );
+
+  /**
+   * Sends the translation of every locale to its receivers, looking it up
+   * once per locale rather than once per receiver.
+   */
+  @Override
+  public void send() {
+    for (final Map.Entry<LocaleSource, List<Receiver>> entry :
+      this.receiversByLocale.entrySet()
+    ) {
+      this.send(entry.getValue(), this.findTranslation(entry.getKey()));
+    }
+  }
+
+  /**
+   * Sends in batches of {@link #DEFAULT_BATCH_SIZE} receivers on the given
+   * executor.
+   *
+   * @see #sendAsync(Executor, int)
+   * @since 0.3.0
+   */
+  @Override
+  public CompletableFuture<Void> sendAsync(final Executor executor) {
+    return this.sendAsync(executor, DEFAULT_BATCH_SIZE);
+  }
+
+  /**
+   * Splits the receivers of every locale into batches of at most the given
+   * size and sends each batch as a task of the given executor, so a large
+   * broadcast does not hold up the calling thread and is sent in parallel.
+   * <p>
+   * If the executor rejects a batch, typically because its queue is full,
+   * the calling thread sends that batch itself. This slows down the
+   * submission of the remaining batches until the executor catches up.
+   * Receivers of different batches may be sent to in any order.
+   *
+   * @param executor  the executor to send on, for example one of
+   *                  {@link SendExecutors}
+   * @param batchSize the most receivers sent to by a single task
+   * @return a future completed once every batch was sent, or exceptionally
+   * with the failure of the first failed batch
+   * @throws NullPointerException     if executor is null
+   * @throws IllegalArgumentException if batchSize is not positive
+   * @throws IllegalStateException    if no translation was found for a
+   *                                  locale of the receivers
+   * @since 0.3.0
+   */
+  public CompletableFuture<Void> sendAsync(
+    final Executor executor,
+    final int batchSize
+  ) {
+    if (null == executor) {
+      throw new NullPointerException("The passed executor must not be null.");
+    }
+    if (0 >= batchSize) {
+      throw new IllegalArgumentException(
+        "The passed batch size must be greater than zero."
+      );
+    }
+
+    // Every translation is looked up before anything is sent, so a missing
+    // one fails the whole broadcast rather than a part of it
+    final int numberOfLocales = this.receiversByLocale.size();
+    final List<List<Receiver>> groups = new ArrayList<>(numberOfLocales);
+    final List<Translation<?>> translations = new ArrayList<>(numberOfLocales);
+    for (final Map.Entry<LocaleSource, List<Receiver>> entry :
+      this.receiversByLocale.entrySet()
+    ) {
+      groups.add(entry.getValue());
+      translations.add(this.findTranslation(entry.getKey()));
+    }
+
+    final List<CompletableFuture<Void>> batches = new ArrayList<>();
+    for (int i = 0; i < numberOfLocales; ++i) {
+      final List<Receiver> group = groups.get(i);
+      final Translation<?> translation = translations.get(i);
+      for (int from = 0, size = group.size(); from < size; from += batchSize) {
+        batches.add(this.dispatch(
+          executor,
+          group.subList(from, Math.min(size, from + batchSize)),
+          translation
+        ));
+      }
+    }
+    return CompletableFuture.allOf(batches.toArray(new CompletableFuture<?>[0]));
+  }
+
+  /**
+   * Sends the given batch on the given executor, or on the calling thread if
+   * the executor rejects it.
+   *
+   * @since 0.3.0
+   */
+  private CompletableFuture<Void> dispatch(
+    final Executor executor,
+    final List<Receiver> batch,
+    final Translation<?> translation
+  ) {
+    final CompletableFuture<Void> future = new CompletableFuture<>();
+    final Runnable task = () -> {
+      try {
+        this.send(batch, translation);
+        future.complete(null);
+      } catch (final Throwable throwable) {
+        future.completeExceptionally(throwable);
+      }
+    };
+    try {
+      executor.execute(task);
+    } catch (final RejectedExecutionException exception) {
+      task.run();
+    }
+    return future;
+  }
 }
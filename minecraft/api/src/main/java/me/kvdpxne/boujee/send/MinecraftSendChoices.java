@@ -4,7 +4,8 @@ import java.io.Serializable;
 import java.util.List;
 import java.util.Map;
 import me.kvdpxne.boujee.content.Translation;
-import me.kvdpxne.boujee.chains.SendChoices;
+import me.kvdpxne.boujee.chains.BroadcastChoices;
+import me.kvdpxne.boujee.chains.ReceiversChains;
 import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.content.message.TranslationMessage;
 import me.kvdpxne.boujee.receiver.Receiver;
@@ -14,10 +15,7 @@ import me.kvdpxne.boujee.content.text.TranslationText;
  * @since 0.1.0
  */
 public class MinecraftSendChoices
-  implements SendChoices {
-
-  protected final List<Receiver> receivers;
-  protected final Map<LocaleSource, Translation<?>> translations;
+  extends BroadcastChoices {
 
   /**
    * @since 0.1.0
@@ -26,8 +24,36 @@ public class MinecraftSendChoices
     final List<Receiver> receivers,
     final Map<LocaleSource, Translation<?>> translations
   ) {
-    this.receivers = receivers;
-    this.translations = translations;
+    this(receivers, ReceiversChains.groupByLocale(receivers), translations);
+  }
+
+  /**
+   * @since 0.3.0
+   */
+  public MinecraftSendChoices(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, List<Receiver>> receiversByLocale,
+    final Map<LocaleSource, Translation<?>> translations
+  ) {
+    super(receivers, receiversByLocale, translations);
+  }
+
+  /**
+   * Creates the Minecraft choices of the given choices, such as those of a
+   * {@link me.kvdpxne.boujee.chains.BroadcastPlan}.
+   *
+   * @throws NullPointerException if choices is null
+   * @since 0.3.0
+   */
+  public static MinecraftSendChoices of(final BroadcastChoices choices) {
+    if (null == choices) {
+      throw new NullPointerException("The passed choices must not be null.");
+    }
+    return new MinecraftSendChoices(
+      choices.getReceivers(),
+      choices.getReceiversByLocale(),
+      choices.getTranslations()
+    );
   }
 
   /**
@@ -41,17 +67,7 @@ public class MinecraftSendChoices
       );
     }
 
-    final LocaleSource source = this.receivers.get(0).getLocaleSource();
-    final Translation<?> translation = this.translations.get(source);
-
-    if (null == translation) {
-      throw new IllegalStateException(
-        "No translation was found for the \"" + source.getLocalization()
-          + "\" locale source."
-      );
-    }
-
-    return translation;
+    return super.findTranslation(this.receivers.get(0).getLocaleSource());
   }
 
   /**
@@ -78,7 +94,12 @@ public class MinecraftSendChoices
    * @since 0.1.0
    */
   public ToChat useChat(final String prefix) {
-    return new ToChat(this.receivers, this.translations, prefix);
+    return new ToChat(
+      this.receivers,
+      this.receiversByLocale,
+      this.translations,
+      prefix
+    );
   }
 
   /**
@@ -0,0 +1,141 @@
+package me.kvdpxne.boujee.send;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates executors for {@link Sendable#sendAsync(java.util.concurrent.Executor)}.
+ *
+ * @since 0.3.0
+ */
+public final class SendExecutors {
+
+  /**
+   * The {@code Executors.newVirtualThreadPerTaskExecutor} method of Java 21
+   * and later, or null on older runtimes.
+   *
+   * @since 0.3.0
+   */
+  private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR =
+    findVirtualThreadPerTaskExecutor();
+
+  /**
+   * @throws AssertionError if an attempt to instantiate this class occurs.
+   * @since 0.3.0
+   */
+  private SendExecutors() {
+    throw new AssertionError("This class is non-instantiable.");
+  }
+
+  private static Method findVirtualThreadPerTaskExecutor() {
+    try {
+      return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+    } catch (final NoSuchMethodException exception) {
+      return null;
+    }
+  }
+
+  /**
+   * Creates an executor of a fixed number of daemon threads with a bounded
+   * queue, which rejects tasks once the queue is full, so
+   * {@link BaseSendable#sendAsync(java.util.concurrent.Executor, int)} sends
+   * the rejected batches on the calling thread.
+   *
+   * @param numberOfThreads the number of threads
+   * @param queueCapacity   the most tasks waiting for a thread
+   * @return the executor, to be shut down by the caller
+   * @throws IllegalArgumentException if either argument is not positive
+   * @since 0.3.0
+   */
+  public static ExecutorService bounded(
+    final int numberOfThreads,
+    final int queueCapacity
+  ) {
+    if (0 >= numberOfThreads) {
+      throw new IllegalArgumentException(
+        "The passed number of threads must be greater than zero."
+      );
+    }
+    if (0 >= queueCapacity) {
+      throw new IllegalArgumentException(
+        "The passed queue capacity must be greater than zero."
+      );
+    }
+
+    final AtomicInteger counter = new AtomicInteger();
+    final ThreadFactory threadFactory = (Runnable runnable) -> {
+      final Thread thread = new Thread(runnable, "boujee-send-" + counter.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    return new ThreadPoolExecutor(
+      numberOfThreads,
+      numberOfThreads,
+      0L,
+      TimeUnit.MILLISECONDS,
+      new ArrayBlockingQueue<>(queueCapacity),
+      threadFactory,
+      new ThreadPoolExecutor.AbortPolicy()
+    );
+  }
+
+  /**
+   * Returns whether the runtime supports virtual threads, which requires
+   * Java 21 or later.
+   *
+   * @return true if {@link #virtualThreads()} can be called
+   * @since 0.3.0
+   */
+  public static boolean isVirtualThreadsSupported() {
+    return null != NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+  }
+
+  /**
+   * Creates an executor that starts a new virtual thread for every task.
+   * Its queue is never full, so sending never falls back to the calling
+   * thread.
+   *
+   * @return the executor, to be shut down by the caller
+   * @throws UnsupportedOperationException if the runtime does not support
+   *                                       virtual threads
+   * @since 0.3.0
+   */
+  public static ExecutorService virtualThreads() {
+    final Method method = NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR;
+    if (null == method) {
+      throw new UnsupportedOperationException(
+        "Virtual threads require Java 21 or later."
+      );
+    }
+    try {
+      return (ExecutorService) method.invoke(null);
+    } catch (final IllegalAccessException | InvocationTargetException exception) {
+      throw new IllegalStateException(
+        "Could not create a virtual thread executor.",
+        exception
+      );
+    }
+  }
+
+  /**
+   * Creates an executor of virtual threads if the runtime supports them,
+   * or a bounded executor of one thread per available processor otherwise.
+   *
+   * @return the executor, to be shut down by the caller
+   * @since 0.3.0
+   */
+  public static ExecutorService virtualThreadsOrBounded() {
+    if (isVirtualThreadsSupported()) {
+      return virtualThreads();
+    }
+    final int numberOfThreads = Runtime.getRuntime().availableProcessors();
+    return bounded(numberOfThreads, 4 * numberOfThreads);
+  }
+}
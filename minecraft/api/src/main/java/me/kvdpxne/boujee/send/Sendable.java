@@ -1,6 +1,24 @@
 package me.kvdpxne.boujee.send;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 public interface Sendable {
 
   void send();
+
+  /**
+   * Sends on the given executor instead of the calling thread.
+   *
+   * @param executor the executor to send on
+   * @return a future completed once everything was sent
+   * @throws NullPointerException if executor is null
+   * @since 0.3.0
+   */
+  default CompletableFuture<Void> sendAsync(final Executor executor) {
+    if (null == executor) {
+      throw new NullPointerException("The passed executor must not be null.");
+    }
+    return CompletableFuture.runAsync(this::send, executor);
+  }
 }
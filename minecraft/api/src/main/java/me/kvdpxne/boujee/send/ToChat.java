@@ -1,8 +1,9 @@
 package me.kvdpxne.boujee.send;
 
-import java.util.Iterator;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import me.kvdpxne.boujee.chains.ReceiversChains;
 import me.kvdpxne.boujee.content.Translation;
 import me.kvdpxne.boujee.locale.LocaleSource;
 import me.kvdpxne.boujee.content.message.TranslationMessage;
@@ -12,78 +13,115 @@ import me.kvdpxne.boujee.content.text.TranslationText;
 
 public class ToChat extends BaseSendable {
 
-  private final String prefix;
+  /**
+   * The prefix followed by a space, or null to send the lines as they are.
+   *
+   * @since 0.3.0
+   */
+  private final char[] prefix;
+
+  /**
+   * The lines to send of every translation, with the prefix already in
+   * front of them. Composed once, when this is created, and shared by every
+   * receiver of the translation's locale.
+   *
+   * @since 0.3.0
+   */
+  private final Map<Translation<?>, char[][]> lines;
 
   protected ToChat(
     final List<Receiver> receivers,
     final Map<LocaleSource, Translation<?>> translations,
     final String prefix
   ) {
-    super(receivers, translations);
-    this.prefix = prefix;
+    this(
+      receivers,
+      ReceiversChains.groupByLocale(receivers),
+      translations,
+      prefix
+    );
   }
 
   /**
-   * @param receiver
-   * @param content
-   *
-   * @since 0.1.0
+   * @since 0.3.0
    */
-  private void send(
-    final MinecraftReceiver receiver,
-    final char[] content
+  protected ToChat(
+    final List<Receiver> receivers,
+    final Map<LocaleSource, List<Receiver>> receiversByLocale,
+    final Map<LocaleSource, Translation<?>> translations,
+    final String prefix
   ) {
-    if (null == this.prefix || this.prefix.isEmpty()) {
-      receiver.onChat(content);
-      return;
-    }
-
-    final int prefixLength = this.prefix.length();
-    final char[] newContent = new char[prefixLength + content.length + 1];
+    super(receivers, receiversByLocale, translations);
+    this.prefix = null == prefix || prefix.isEmpty()
+      ? null
+      : (prefix + ' ').toCharArray();
 
-    newContent[prefixLength + 1] = ' ';
-    System.arraycopy(this.prefix.toCharArray(), 0, newContent, 0, prefixLength);
-    System.arraycopy(content, 0, newContent, prefixLength + 2, content.length);
-
-    receiver.onChat(newContent);
+    final Map<Translation<?>, char[][]> lines = new IdentityHashMap<>();
+    for (final Translation<?> translation : translations.values()) {
+      final char[][] composed = this.compose(translation);
+      if (null != composed) {
+        lines.put(translation, composed);
+      }
+    }
+    this.lines = lines;
   }
 
   /**
-   * @since 0.1.0
+   * Composes the lines to send of the given translation.
+   *
+   * @return the lines, or null if the translation is neither a text nor a
+   * message
+   * @since 0.3.0
    */
-  private void send(
-    final MinecraftReceiver receiver
-  ) {
-    final Translation<?> translation =
-      super.findTranslation(receiver.getLocaleSource());
-
+  private char[][] compose(final Translation<?> translation) {
+    final char[][] lines;
     if (translation instanceof TranslationText) {
-      final TranslationText text = (TranslationText) translation;
-      receiver.onChat(text.getContent());
-      return;
+      lines = new char[][]{((TranslationText) translation).getContent()};
+    } else if (translation instanceof TranslationMessage) {
+      lines = ((TranslationMessage) translation).getContent();
+    } else {
+      return null;
     }
 
-    if (translation instanceof TranslationMessage) {
-      final TranslationMessage message = (TranslationMessage) translation;
-      for (final char[] line : message.getContent()) {
-        receiver.onChat(line);
-      }
-      return;
+    final char[] prefix = this.prefix;
+    if (null == prefix) {
+      return lines;
     }
-
-    throw new UnsupportedOperationException();
+    final char[][] composed = new char[lines.length][];
+    for (int i = 0; i < lines.length; ++i) {
+      final char[] line = lines[i];
+      final char[] prefixed = new char[prefix.length + line.length];
+      System.arraycopy(prefix, 0, prefixed, 0, prefix.length);
+      System.arraycopy(line, 0, prefixed, prefix.length, line.length);
+      composed[i] = prefixed;
+    }
+    return composed;
   }
 
+  /**
+   * Sends the text or every line of the message, after the prefix if there
+   * is one, to every Minecraft receiver of the given receivers.
+   *
+   * @since 0.3.0
+   */
   @Override
-  public void send() {
-    final Iterator<Receiver> iterator = super.receivers.iterator();
-    while (iterator.hasNext()) {
-      final Receiver receiver = iterator.next();
-      if (receiver instanceof MinecraftReceiver) {
-        this.send((MinecraftReceiver) receiver);
+  protected void send(
+    final List<Receiver> receivers,
+    final Translation<?> translation
+  ) {
+    char[][] lines = this.lines.get(translation);
+    if (null == lines) {
+      lines = this.compose(translation);
+      if (null == lines) {
+        throw new UnsupportedOperationException();
+      }
+    }
+
+    for (final Receiver receiver : receivers) {
+      if (!(receiver instanceof MinecraftReceiver)) {
+        continue;
       }
-      iterator.remove();
+      ((MinecraftReceiver) receiver).onChat(lines);
     }
-    super.translations.clear();
   }
 }
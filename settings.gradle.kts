@@ -42,9 +42,12 @@ sequenceOf(
   "examples:complex",
   "examples:minecraft:bukkit",
   "examples:simple",
+  "inputs:bundle",
   "inputs:common",
   "inputs:json:gson",
   "inputs:json:kotlinx-serialization",
+  "inputs:properties",
+  "inputs:tsv",
   "minecraft:api",
   "minecraft:bukkit",
   "singleton:java",